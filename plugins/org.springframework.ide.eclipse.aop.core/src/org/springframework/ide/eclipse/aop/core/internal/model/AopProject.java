@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,14 +12,17 @@ package org.springframework.ide.eclipse.aop.core.internal.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.springframework.ide.eclipse.aop.core.logging.AopLog;
 import org.springframework.ide.eclipse.aop.core.model.IAopProject;
@@ -35,6 +38,19 @@ public class AopProject implements IAopProject {
 
 	private Set<IAopReference> references = new CopyOnWriteArraySet<IAopReference>();
 
+	/*
+	 * Indexes of the references by the elements and resources they involve. They are maintained as references are
+	 * added and removed so that decorators and navigators don't have to scan all references for every element.
+	 */
+
+	private Map<IJavaElement, Set<IAopReference>> referencesBySource = new HashMap<IJavaElement, Set<IAopReference>>();
+
+	private Map<IJavaElement, Set<IAopReference>> referencesByTarget = new HashMap<IJavaElement, Set<IAopReference>>();
+
+	private Map<String, Set<IAopReference>> referencesByTargetBeanId = new HashMap<String, Set<IAopReference>>();
+
+	private Map<IResource, Set<IAopReference>> referencesByResource = new HashMap<IResource, Set<IAopReference>>();
+
 	protected final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
 
 	protected final Lock r = rwl.readLock();
@@ -49,7 +65,9 @@ public class AopProject implements IAopProject {
 		AopLog.log(AopLog.BUILDER_MESSAGES, "Created AOP reference '" + reference + "'");
 		try {
 			w.lock();
-			this.references.add(reference);
+			if (this.references.add(reference)) {
+				index(reference);
+			}
 		}
 		finally {
 			w.unlock();
@@ -66,6 +84,9 @@ public class AopProject implements IAopProject {
 				}
 			}
 			this.references.removeAll(toRemove);
+			for (IAopReference reference : toRemove) {
+				unindex(reference);
+			}
 		}
 		finally {
 			w.unlock();
@@ -76,6 +97,22 @@ public class AopProject implements IAopProject {
 		return Collections.unmodifiableSet(this.references);
 	}
 
+	public Set<IAopReference> getReferencesForSource(IJavaElement source) {
+		return getIndexed(referencesBySource, source);
+	}
+
+	public Set<IAopReference> getReferencesForTarget(IJavaElement target) {
+		return getIndexed(referencesByTarget, target);
+	}
+
+	public Set<IAopReference> getReferencesForTargetBeanId(String beanId) {
+		return getIndexed(referencesByTargetBeanId, beanId);
+	}
+
+	public Set<IAopReference> getAllReferencesForResource(IResource resource) {
+		return getIndexed(referencesByResource, resource);
+	}
+
 	public IJavaProject getProject() {
 		return this.project;
 	}
@@ -96,4 +133,89 @@ public class AopProject implements IAopProject {
 			r.unlock();
 		}
 	}
+
+	private <K> Set<IAopReference> getIndexed(Map<K, Set<IAopReference>> index, K key) {
+		if (key == null) {
+			return Collections.emptySet();
+		}
+		try {
+			r.lock();
+			Set<IAopReference> indexed = index.get(key);
+			if (indexed == null) {
+				return Collections.emptySet();
+			}
+			return Collections.unmodifiableSet(new LinkedHashSet<IAopReference>(indexed));
+		}
+		finally {
+			r.unlock();
+		}
+	}
+
+	/**
+	 * Adds the given reference to the indexes; must be called while holding the write lock.
+	 */
+	private void index(IAopReference reference) {
+		addToIndex(referencesBySource, reference.getSource(), reference);
+		addToIndex(referencesByTarget, reference.getTarget(), reference);
+		addToIndex(referencesByTargetBeanId, reference.getTargetBeanId(), reference);
+		for (IResource resource : getResources(reference)) {
+			addToIndex(referencesByResource, resource, reference);
+		}
+	}
+
+	/**
+	 * Removes the given reference from the indexes; must be called while holding the write lock.
+	 */
+	private void unindex(IAopReference reference) {
+		removeFromIndex(referencesBySource, reference.getSource(), reference);
+		removeFromIndex(referencesByTarget, reference.getTarget(), reference);
+		removeFromIndex(referencesByTargetBeanId, reference.getTargetBeanId(), reference);
+		for (IResource resource : getResources(reference)) {
+			removeFromIndex(referencesByResource, resource, reference);
+		}
+	}
+
+	/**
+	 * Returns the resources a reference is reported for: the resource of the reference, of the target bean, of the
+	 * advice source, of the advised target and of the aspect definition.
+	 */
+	static Set<IResource> getResources(IAopReference reference) {
+		Set<IResource> resources = new LinkedHashSet<IResource>();
+		resources.add(reference.getResource());
+		resources.add(reference.getTargetBeanResource());
+		if (reference.getSource() != null) {
+			resources.add(reference.getSource().getResource());
+		}
+		if (reference.getTarget() != null) {
+			resources.add(reference.getTarget().getResource());
+		}
+		if (reference.getDefinition() != null) {
+			resources.add(reference.getDefinition().getResource());
+		}
+		resources.remove(null);
+		return resources;
+	}
+
+	private static <K> void addToIndex(Map<K, Set<IAopReference>> index, K key, IAopReference reference) {
+		if (key != null) {
+			Set<IAopReference> indexed = index.get(key);
+			if (indexed == null) {
+				indexed = new LinkedHashSet<IAopReference>();
+				index.put(key, indexed);
+			}
+			indexed.add(reference);
+		}
+	}
+
+	private static <K> void removeFromIndex(Map<K, Set<IAopReference>> index, K key, IAopReference reference) {
+		if (key != null) {
+			Set<IAopReference> indexed = index.get(key);
+			if (indexed != null) {
+				indexed.remove(reference);
+				if (indexed.isEmpty()) {
+					index.remove(key);
+				}
+			}
+		}
+	}
 }
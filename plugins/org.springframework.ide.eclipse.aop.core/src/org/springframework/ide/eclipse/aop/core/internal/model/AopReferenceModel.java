@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeListener;
@@ -27,7 +29,7 @@ import org.springframework.ide.eclipse.aop.core.model.IAopModelChangedListener;
 import org.springframework.ide.eclipse.aop.core.model.IAopProject;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
 import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModel;
-import org.springframework.ide.eclipse.aop.core.util.AopReferenceModelUtils;
+import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModelSnapshot;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
 import org.springframework.ide.eclipse.core.internal.model.resources.SpringResourceChangeListener;
 
@@ -37,7 +39,7 @@ import org.springframework.ide.eclipse.core.internal.model.resources.SpringResou
  */
 public class AopReferenceModel implements IAopReferenceModel {
 
-	private List<IAopModelChangedListener> listeners = new LinkedList<IAopModelChangedListener>();
+	private List<IAopModelChangedListener> listeners = new CopyOnWriteArrayList<IAopModelChangedListener>();
 
 	private AopReferenceModelPeristence persistence;
 
@@ -45,6 +47,10 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	private IResourceChangeListener workspaceListener;
 
+	private final AtomicLong snapshotVersion = new AtomicLong();
+
+	private volatile IAopReferenceModelSnapshot snapshot;
+
 	// private IModelChangeListener modelChangeListener;
 
 	public void addProject(IJavaProject project, IAopProject aopProject) {
@@ -52,6 +58,7 @@ public class AopReferenceModel implements IAopReferenceModel {
 	}
 
 	public void fireModelChanged() {
+		publishSnapshot();
 		for (IAopModelChangedListener listener : listeners) {
 			listener.changed();
 		}
@@ -59,9 +66,9 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	public List<IAopReference> getAdviceDefinition(IJavaElement je) {
 		List<IAopReference> advices = new LinkedList<IAopReference>();
-		for (IAopReference reference : getAllReferences()) {
-			if (reference.getSource() != null && reference.getSource().equals(je)) {
-				advices.add(reference);
+		if (je != null) {
+			for (IAopProject project : projects.values()) {
+				advices.addAll(project.getReferencesForSource(je));
 			}
 		}
 		return advices;
@@ -77,15 +84,9 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	public List<IAopReference> getAllReferencesForResource(IResource resource) {
 		List<IAopReference> references = new ArrayList<IAopReference>();
-		for (IAopReference ref : getAllReferences()) {
-			if ((ref.getResource() != null && ref.getResource().equals(resource))
-					|| (AopReferenceModelUtils.getBeanFromElementId(ref.getTargetBeanId()) != null && resource
-							.equals(AopReferenceModelUtils.getBeanFromElementId(ref.getTargetBeanId())
-									.getElementResource()))
-					|| (ref.getSource() != null && resource.equals(ref.getSource().getResource()))
-					|| (ref.getTarget() != null && resource.equals(ref.getTarget().getResource()))
-					|| (ref.getDefinition().getResource().equals(resource))) {
-				references.add(ref);
+		if (resource != null) {
+			for (IAopProject project : projects.values()) {
+				references.addAll(project.getAllReferencesForResource(resource));
 			}
 		}
 		return references;
@@ -116,9 +117,8 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	public boolean isAdvised(IJavaElement je) {
 		if (je != null) {
-			List<IAopReference> references = getAllReferences();
-			for (IAopReference reference : references) {
-				if (reference.getTarget().equals(je)) {
+			for (IAopProject project : projects.values()) {
+				if (!project.getReferencesForTarget(je).isEmpty()) {
 					return true;
 				}
 			}
@@ -129,9 +129,8 @@ public class AopReferenceModel implements IAopReferenceModel {
 	public boolean isAdvised(IBean bean) {
 		if (bean != null) {
 			String beanId = bean.getElementID();
-			List<IAopReference> references = getAllReferences();
-			for (IAopReference reference : references) {
-				if (reference.getTargetBeanId().equals(beanId)) {
+			for (IAopProject project : projects.values()) {
+				if (!project.getReferencesForTargetBeanId(beanId).isEmpty()) {
 					return true;
 				}
 			}
@@ -140,6 +139,25 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	}
 
+	public IAopReferenceModelSnapshot getSnapshot() {
+		IAopReferenceModelSnapshot current = snapshot;
+		if (current == null) {
+			current = publishSnapshot();
+		}
+		return current;
+	}
+
+	/**
+	 * Replaces the snapshot with one of the current state of the projects; called when the model changed, so that
+	 * readers of the snapshot don't see the references of a build that is still running.
+	 */
+	private synchronized IAopReferenceModelSnapshot publishSnapshot() {
+		IAopReferenceModelSnapshot current = new AopReferenceModelSnapshot(snapshotVersion.incrementAndGet(),
+				projects.values());
+		snapshot = current;
+		return current;
+	}
+
 	public void registerAopModelChangedListener(IAopModelChangedListener listener) {
 		this.listeners.add(listener);
 	}
@@ -156,6 +174,7 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 	public synchronized void clearProjects() {
 		this.projects.clear();
+		publishSnapshot();
 	}
 
 	public void shutdown() {
@@ -181,6 +200,7 @@ public class AopReferenceModel implements IAopReferenceModel {
 
 		persistence = new AopReferenceModelPeristence();
 		persistence.loadReferenceModel();
+		publishSnapshot();
 
 		// modelChangeListener = new AopBeansModelListener();
 		// BeansCorePlugin.getModel().addChangeListener(modelChangeListener);
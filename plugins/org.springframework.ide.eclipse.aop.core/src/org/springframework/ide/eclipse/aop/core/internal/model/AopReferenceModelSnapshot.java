@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaElement;
+import org.springframework.ide.eclipse.aop.core.model.IAopProject;
+import org.springframework.ide.eclipse.aop.core.model.IAopReference;
+import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModelSnapshot;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+
+/**
+ * {@link IAopReferenceModelSnapshot} holding copies of the references of all {@link IAopProject}s, indexed the same
+ * way as {@link AopProject} indexes them.
+ * @since 3.9.12
+ */
+public class AopReferenceModelSnapshot implements IAopReferenceModelSnapshot {
+
+	private final long version;
+
+	private final List<IAopReference> references;
+
+	private final Map<IJavaElement, Set<IAopReference>> referencesBySource = new HashMap<IJavaElement, Set<IAopReference>>();
+
+	private final Map<IJavaElement, Set<IAopReference>> referencesByTarget = new HashMap<IJavaElement, Set<IAopReference>>();
+
+	private final Map<String, Set<IAopReference>> referencesByTargetBeanId = new HashMap<String, Set<IAopReference>>();
+
+	private final Map<IResource, Set<IAopReference>> referencesByResource = new HashMap<IResource, Set<IAopReference>>();
+
+	public AopReferenceModelSnapshot(long version, Collection<IAopProject> projects) {
+		this.version = version;
+		List<IAopReference> refs = new ArrayList<IAopReference>();
+		for (IAopProject project : projects) {
+			refs.addAll(project.getAllReferences());
+		}
+		this.references = Collections.unmodifiableList(refs);
+		for (IAopReference reference : refs) {
+			addToIndex(referencesBySource, reference.getSource(), reference);
+			addToIndex(referencesByTarget, reference.getTarget(), reference);
+			addToIndex(referencesByTargetBeanId, reference.getTargetBeanId(), reference);
+			for (IResource resource : AopProject.getResources(reference)) {
+				addToIndex(referencesByResource, resource, reference);
+			}
+		}
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<IAopReference> getAllReferences() {
+		return references;
+	}
+
+	public Set<IAopReference> getReferencesForSource(IJavaElement source) {
+		return getIndexed(referencesBySource, source);
+	}
+
+	public Set<IAopReference> getReferencesForTarget(IJavaElement target) {
+		return getIndexed(referencesByTarget, target);
+	}
+
+	public Set<IAopReference> getReferencesForTargetBeanId(String beanId) {
+		return getIndexed(referencesByTargetBeanId, beanId);
+	}
+
+	public Set<IAopReference> getAllReferencesForResource(IResource resource) {
+		return getIndexed(referencesByResource, resource);
+	}
+
+	public boolean isAdvice(IJavaElement je) {
+		return !getReferencesForSource(je).isEmpty();
+	}
+
+	public boolean isAdvised(IJavaElement je) {
+		return !getReferencesForTarget(je).isEmpty();
+	}
+
+	public boolean isAdvised(IBean bean) {
+		return bean != null && !getReferencesForTargetBeanId(bean.getElementID()).isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * References are compared by identity: the builder creates new references for every file it builds, so the
+	 * resources of a rebuilt file are reported as changed even if the rebuilt references are equal to the old ones.
+	 */
+	public Set<IResource> getChangedResources(IAopReferenceModelSnapshot previous) {
+		Set<IAopReference> current = identitySet(references);
+		Set<IAopReference> old = identitySet(previous != null ? previous.getAllReferences()
+				: Collections.<IAopReference> emptyList());
+		Set<IResource> changed = new LinkedHashSet<IResource>();
+		for (IAopReference reference : references) {
+			if (!old.contains(reference)) {
+				changed.addAll(AopProject.getResources(reference));
+			}
+		}
+		if (previous != null) {
+			for (IAopReference reference : previous.getAllReferences()) {
+				if (!current.contains(reference)) {
+					changed.addAll(AopProject.getResources(reference));
+				}
+			}
+		}
+		return changed;
+	}
+
+	private static Set<IAopReference> identitySet(Collection<IAopReference> references) {
+		Set<IAopReference> set = Collections.newSetFromMap(new IdentityHashMap<IAopReference, Boolean>());
+		set.addAll(references);
+		return set;
+	}
+
+	private static <K> Set<IAopReference> getIndexed(Map<K, Set<IAopReference>> index, K key) {
+		if (key == null) {
+			return Collections.emptySet();
+		}
+		Set<IAopReference> indexed = index.get(key);
+		if (indexed == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(indexed);
+	}
+
+	private static <K> void addToIndex(Map<K, Set<IAopReference>> index, K key, IAopReference reference) {
+		if (key != null) {
+			Set<IAopReference> indexed = index.get(key);
+			if (indexed == null) {
+				indexed = new LinkedHashSet<IAopReference>();
+				index.put(key, indexed);
+			}
+			indexed.add(reference);
+		}
+	}
+
+}
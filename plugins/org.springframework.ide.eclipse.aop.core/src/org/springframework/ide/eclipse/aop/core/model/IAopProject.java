@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.aop.core.model;
 import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 
 /**
@@ -29,4 +30,29 @@ public interface IAopProject {
 	void clearReferencesForResource(IResource resource);
 
 	Set<IAopReference> getReferencesForResource(IResource resource);
+
+	/**
+	 * Returns the references whose advice is the given element.
+	 * @since 3.9.12
+	 */
+	Set<IAopReference> getReferencesForSource(IJavaElement source);
+
+	/**
+	 * Returns the references advising the given element.
+	 * @since 3.9.12
+	 */
+	Set<IAopReference> getReferencesForTarget(IJavaElement target);
+
+	/**
+	 * Returns the references advising the bean with the given element id.
+	 * @since 3.9.12
+	 */
+	Set<IAopReference> getReferencesForTargetBeanId(String beanId);
+
+	/**
+	 * Returns the references involving the given resource as the resource of the reference, of the advised bean, of
+	 * the advice, of the advised element or of the aspect definition.
+	 * @since 3.9.12
+	 */
+	Set<IAopReference> getAllReferencesForResource(IResource resource);
 }
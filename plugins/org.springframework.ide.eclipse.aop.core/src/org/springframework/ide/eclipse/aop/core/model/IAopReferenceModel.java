@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -49,6 +49,13 @@ public interface IAopReferenceModel {
 	
 	boolean isAdvised(IBean bean);
 
+	/**
+	 * Returns the state of the model as of the last time it was reported as changed, normally at the end of a build.
+	 * References added since, e.g. by a build that is still running, are not part of it.
+	 * @since 3.9.12
+	 */
+	IAopReferenceModelSnapshot getSnapshot();
+
 	void registerAopModelChangedListener(IAopModelChangedListener listener);
 
 	void unregisterAopModelChangedListener(IAopModelChangedListener listener);
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.model;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaElement;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+
+/**
+ * Immutable state of the {@link IAopReferenceModel}, published each time the model changed. Unlike the model itself,
+ * a snapshot never shows references of a build that is still running, and can be read without locking.
+ * @since 3.9.12
+ */
+public interface IAopReferenceModelSnapshot {
+
+	/**
+	 * Returns the version of this snapshot; later snapshots have higher versions.
+	 */
+	long getVersion();
+
+	List<IAopReference> getAllReferences();
+
+	/**
+	 * Returns the references whose advice is the given element.
+	 */
+	Set<IAopReference> getReferencesForSource(IJavaElement source);
+
+	/**
+	 * Returns the references advising the given element.
+	 */
+	Set<IAopReference> getReferencesForTarget(IJavaElement target);
+
+	/**
+	 * Returns the references advising the bean with the given element id.
+	 */
+	Set<IAopReference> getReferencesForTargetBeanId(String beanId);
+
+	/**
+	 * Returns the references involving the given resource, as in {@link IAopProject#getAllReferencesForResource}.
+	 */
+	Set<IAopReference> getAllReferencesForResource(IResource resource);
+
+	boolean isAdvice(IJavaElement je);
+
+	boolean isAdvised(IJavaElement je);
+
+	boolean isAdvised(IBean bean);
+
+	/**
+	 * Returns the resources involved in references that were added or removed since the given snapshot.
+	 */
+	Set<IResource> getChangedResources(IAopReferenceModelSnapshot previous);
+
+}
@@ -11,8 +11,15 @@
 package org.springframework.ide.eclipse.aop.ui.matcher.internal;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -44,6 +51,9 @@ import org.springframework.util.Assert;
 /**
  * {@link ISearchQuery} implementation matches pointcut expression on {@link IBeansConfig}s that are contained in the
  * given scope.
+ * <p>
+ * Bean classes that can't match are ruled out by a {@link PointcutTypeFilter} without loading them; the remaining
+ * beans are matched in parallel on a bounded pool and reported to the search result as soon as each bean is done.
  * @author Christian Dupuis
  * @since 2.0.2
  */
@@ -122,6 +132,8 @@ public class PointcutMatchQuery implements ISearchQuery {
 
 	}
 
+	private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
 	private PointcutMatcherScope scope;
 
 	private String expression;
@@ -157,26 +169,21 @@ public class PointcutMatchQuery implements ISearchQuery {
 		return PointcutMatcherMessages.MatcherQuery_label;
 	}
 
-	private Set<IAopReference> getMatches(Set<IBean> beans, IAspectDefinition definition,
-			AspectDefinitionMatcher matcher) {
+	private Set<IAopReference> getMatches(IBean bean, IAspectDefinition definition, AspectDefinitionMatcher matcher) {
 		Set<IAopReference> references = new HashSet<IAopReference>();
-		for (IBean bean : beans) {
-			IProject project = bean.getElementResource().getProject();
-			if (!bean.isInfrastructure()) {
-				String className = BeansModelUtils.getBeanClass(bean, null);
-				try {
-					Class<?> targetClass = ClassUtils.loadClass(className);
-					Set<IMethod> matchingMethods = matcher.matches(targetClass, bean, definition, project);
-					for (IMethod method : matchingMethods) {
-						IAopReference ref = new AopReference(definition.getType(), null, -1, method, JdtUtils
-								.getLineNumber(method), definition, bean.getElementResource(), bean);
-						references.add(ref);
-					}
-				}
-				catch (Throwable e) {
-				}
+		IProject project = bean.getElementResource().getProject();
+		String className = BeansModelUtils.getBeanClass(bean, null);
+		try {
+			Class<?> targetClass = ClassUtils.loadClass(className);
+			Set<IMethod> matchingMethods = matcher.matches(targetClass, bean, definition, project);
+			for (IMethod method : matchingMethods) {
+				IAopReference ref = new AopReference(definition.getType(), null, -1, method, JdtUtils
+						.getLineNumber(method), definition, bean.getElementResource(), bean);
+				references.add(ref);
 			}
 		}
+		catch (Throwable e) {
+		}
 		return references;
 	}
 
@@ -196,7 +203,10 @@ public class PointcutMatchQuery implements ISearchQuery {
 		result.removeAll();
 
 		final IAspectDefinition definition = new PointcutDefinition(isProxyTragetClass, expression);
+		final PointcutTypeFilter typeFilter = PointcutTypeFilter.forExpression(expression);
 
+		// collect the beans to match first; bean classes are only checked against the byte code based type filter
+		final Map<IProject, List<IBean>> candidates = new LinkedHashMap<IProject, List<IBean>>();
 		for (final IModelElement element : scope.getModelElements()) {
 			if (monitor.isCanceled()) {
 				throw new OperationCanceledException();
@@ -207,28 +217,21 @@ public class PointcutMatchQuery implements ISearchQuery {
 
 					if (element instanceof IBeansConfig) {
 						final IBeansConfig config = (IBeansConfig) element;
-
-						monitor.beginTask("Matching pointcut in file ["
-								+ config.getElementResource().getProjectRelativePath().toString() + "]", 100);
-
 						IProject project = config.getElementResource().getProject();
-						try {
-							// get beans before messing around with the class
-							// loader
-							final Set<IBean> beans = BeansModelUtils.getBeans(config);
-
-							getClassLoaderSupport(project).executeCallback(
-									new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
-										public void doWithActiveProjectClassLoader() throws Throwable {
-											for (IAopReference reference : getMatches(beans, definition,
-													new AspectDefinitionMatcher())) {
-												Match match = new Match(reference, Match.UNIT_LINE, -1, -1);
-												result.addMatch(match);
-											}
-										}
-									});
-						}
-						catch (Throwable e) {
+						for (IBean bean : BeansModelUtils.getBeans(config)) {
+							if (monitor.isCanceled()) {
+								throw new OperationCanceledException();
+							}
+							String className = BeansModelUtils.getBeanClass(bean, null);
+							if (!bean.isInfrastructure() && className != null
+									&& typeFilter.couldMatch(project, className)) {
+								List<IBean> beans = candidates.get(project);
+								if (beans == null) {
+									beans = new ArrayList<IBean>();
+									candidates.put(project, beans);
+								}
+								beans.add(bean);
+							}
 						}
 						return false;
 					}
@@ -238,8 +241,95 @@ public class PointcutMatchQuery implements ISearchQuery {
 			element.accept(visitor, monitor);
 		}
 
+		int beanCount = 0;
+		for (List<IBean> beans : candidates.values()) {
+			beanCount += beans.size();
+		}
+		monitor.beginTask("Matching pointcut", beanCount);
+
+		// match the beans of each project in chunks on a bounded pool; matches are reported as soon as a bean is done
+		ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+		try {
+			for (Map.Entry<IProject, List<IBean>> entry : candidates.entrySet()) {
+				List<IBean> beans = entry.getValue();
+				int chunkSize = (beans.size() + POOL_SIZE - 1) / POOL_SIZE;
+				for (int i = 0; i < beans.size(); i += chunkSize) {
+					executor.execute(new MatchingTask(entry.getKey(), beans.subList(i,
+							Math.min(i + chunkSize, beans.size())), definition, result, monitor));
+				}
+			}
+			executor.shutdown();
+			while (!executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		finally {
+			executor.shutdownNow();
+			monitor.done();
+		}
+
 		Object[] args = new Object[] { new Integer(result.getMatchCount()) };
 		String message = MessageUtils.format(PointcutMatcherMessages.MatcherQuery_status, args);
 		return new Status(IStatus.OK, PointcutMatcherPlugin.PLUGIN_ID, 0, message, null);
 	}
+
+	/**
+	 * Matches the pointcut against a chunk of beans of a single project, using its own {@link AspectDefinitionMatcher}
+	 * and project class loader.
+	 */
+	private class MatchingTask implements Runnable {
+
+		private final IProject project;
+
+		private final List<IBean> beans;
+
+		private final IAspectDefinition definition;
+
+		private final PointcutMatcherResult result;
+
+		private final IProgressMonitor monitor;
+
+		public MatchingTask(IProject project, List<IBean> beans, IAspectDefinition definition,
+				PointcutMatcherResult result, IProgressMonitor monitor) {
+			this.project = project;
+			this.beans = beans;
+			this.definition = definition;
+			this.result = result;
+			this.monitor = monitor;
+		}
+
+		public void run() {
+			final AspectDefinitionMatcher matcher = new AspectDefinitionMatcher();
+			try {
+				getClassLoaderSupport(project).executeCallback(
+						new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
+							public void doWithActiveProjectClassLoader() throws Throwable {
+								for (IBean bean : beans) {
+									if (monitor.isCanceled()) {
+										return;
+									}
+									for (IAopReference reference : getMatches(bean, definition, matcher)) {
+										result.addMatch(new Match(reference, Match.UNIT_LINE, -1, -1));
+									}
+									synchronized (monitor) {
+										monitor.worked(1);
+									}
+								}
+							}
+						});
+			}
+			catch (Throwable e) {
+			}
+			finally {
+				// release the cached AspectJ state holding on to the classes of the project
+				matcher.close();
+			}
+		}
+	}
 }
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.ui.matcher.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+
+/**
+ * Conservative pre-filter for pointcut expressions that rules out bean classes without loading them.
+ * <p>
+ * The type patterns of the <code>within</code> and <code>execution</code> designators of a pointcut expression that
+ * is a plain conjunction are matched against the names of the bean class and all its super classes and interfaces.
+ * These names are read from the byte code by the {@link TypeHierarchyEngine}, so no class has to be defined in the
+ * project class loader. If a bean class passes the filter the pointcut still has to be matched by AspectJ; if the
+ * expression can't be analyzed every class passes.
+ * @since 3.9.12
+ */
+public class PointcutTypeFilter {
+
+	private static final Pattern DISJUNCTION_OR_NEGATION = Pattern.compile("\\|\\||!|\\bor\\b|\\bnot\\b");
+
+	private static final Pattern UNSUPPORTED_TYPE_PATTERN = Pattern.compile("[\\s@()!|&<>\\[\\],]");
+
+	private static final String JAVA_LANG_OBJECT = "java.lang.Object";
+
+	private final List<Pattern> typePatterns;
+
+	private final Map<String, Set<String>> hierarchies = new ConcurrentHashMap<String, Set<String>>();
+
+	private PointcutTypeFilter(List<Pattern> typePatterns) {
+		this.typePatterns = typePatterns;
+	}
+
+	/**
+	 * Creates the filter for the given pointcut expression.
+	 */
+	public static PointcutTypeFilter forExpression(String expression) {
+		if (expression == null || DISJUNCTION_OR_NEGATION.matcher(expression).find()) {
+			return new PointcutTypeFilter(Collections.<Pattern> emptyList());
+		}
+		List<Pattern> typePatterns = new ArrayList<Pattern>();
+		for (String conjunct : splitConjunction(expression)) {
+			String typePattern = null;
+			if (conjunct.startsWith("within(") && conjunct.endsWith(")")) {
+				typePattern = conjunct.substring("within(".length(), conjunct.length() - 1).trim();
+			}
+			else if (conjunct.startsWith("execution(") && conjunct.endsWith(")")) {
+				typePattern = getDeclaringTypePattern(conjunct.substring("execution(".length(),
+						conjunct.length() - 1));
+			}
+			Pattern pattern = toRegex(typePattern);
+			if (pattern != null) {
+				typePatterns.add(pattern);
+			}
+		}
+		return new PointcutTypeFilter(typePatterns);
+	}
+
+	/**
+	 * Returns <code>false</code> if the pointcut can't match any join point of the given class.
+	 */
+	public boolean couldMatch(IProject project, String className) {
+		if (typePatterns.isEmpty()) {
+			return true;
+		}
+		Set<String> hierarchy = getHierarchy(project, className);
+		if (hierarchy == null) {
+			return true;
+		}
+		for (Pattern typePattern : typePatterns) {
+			if (!matchesAny(typePattern, hierarchy)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean matchesAny(Pattern typePattern, Set<String> hierarchy) {
+		for (String typeName : hierarchy) {
+			String simpleName = typeName.substring(typeName.lastIndexOf('.') + 1);
+			if (typePattern.matcher(typeName).matches() || typePattern.matcher(typeName.replace('$', '.')).matches()
+					|| typePattern.matcher(simpleName).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the names of the given class and all its super classes and interfaces or <code>null</code> if the class
+	 * can't be found.
+	 */
+	private Set<String> getHierarchy(IProject project, String className) {
+		String key = project.getName() + '/' + className;
+		Set<String> hierarchy = hierarchies.get(key);
+		if (hierarchy == null) {
+			TypeHierarchyEngine engine = SpringCore.getTypeHierarchyEngine();
+			if (engine.getSupertype(project, className) == null && !JAVA_LANG_OBJECT.equals(className)) {
+				return null;
+			}
+			hierarchy = new LinkedHashSet<String>();
+			hierarchy.add(JAVA_LANG_OBJECT);
+			Deque<String> types = new ArrayDeque<String>();
+			types.add(className);
+			while (!types.isEmpty()) {
+				String type = types.poll();
+				if (!hierarchy.add(type)) {
+					continue;
+				}
+				String supertype = engine.getSupertype(project, type);
+				if (supertype != null) {
+					types.add(supertype);
+				}
+				String[] interfaces = engine.getInterfaces(project, type);
+				if (interfaces != null) {
+					Collections.addAll(types, interfaces);
+				}
+			}
+			hierarchies.put(key, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Splits the given expression into its top-level <code>&&</code> or <code>and</code> conjuncts.
+	 */
+	private static List<String> splitConjunction(String expression) {
+		List<String> conjuncts = new ArrayList<String>();
+		int depth = 0;
+		int start = 0;
+		for (int i = 0; i < expression.length(); i++) {
+			char c = expression.charAt(i);
+			if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (depth == 0 && expression.startsWith("&&", i)) {
+				conjuncts.add(expression.substring(start, i).trim());
+				start = i + 2;
+				i++;
+			}
+			else if (depth == 0 && Character.isWhitespace(c) && expression.startsWith("and", i + 1)
+					&& i + 4 < expression.length() && Character.isWhitespace(expression.charAt(i + 4))) {
+				conjuncts.add(expression.substring(start, i).trim());
+				start = i + 4;
+				i += 3;
+			}
+		}
+		conjuncts.add(expression.substring(start).trim());
+		return conjuncts;
+	}
+
+	/**
+	 * Returns the declaring type pattern of an <code>execution</code> designator or <code>null</code> if there is
+	 * none.
+	 */
+	private static String getDeclaringTypePattern(String execution) {
+		int parameters = execution.indexOf('(');
+		if (parameters < 0 || execution.indexOf('@') >= 0) {
+			return null;
+		}
+		String[] tokens = execution.substring(0, parameters).trim().split("\\s+");
+		String method = tokens[tokens.length - 1];
+		int separator = method.lastIndexOf('.');
+		if (separator <= 0 || method.charAt(separator - 1) == '.') {
+			return null;
+		}
+		return method.substring(0, separator);
+	}
+
+	/**
+	 * Converts the given AspectJ type pattern into a regular expression or returns <code>null</code> if the pattern
+	 * uses features that are not supported by this filter.
+	 */
+	private static Pattern toRegex(String typePattern) {
+		if (typePattern == null || typePattern.length() == 0 || UNSUPPORTED_TYPE_PATTERN.matcher(typePattern).find()) {
+			return null;
+		}
+		if (typePattern.endsWith("+")) {
+			// sub types are covered by matching against the whole type hierarchy
+			typePattern = typePattern.substring(0, typePattern.length() - 1);
+		}
+		if (typePattern.indexOf('+') >= 0 || "*".equals(typePattern)) {
+			return null;
+		}
+		StringBuilder regex = new StringBuilder();
+		for (int i = 0; i < typePattern.length(); i++) {
+			char c = typePattern.charAt(i);
+			if (typePattern.startsWith("..", i)) {
+				regex.append("\\.(?:.*\\.)?");
+				i++;
+			}
+			else if (c == '*') {
+				regex.append("[^.]*");
+			}
+			else if (c == '.') {
+				regex.append("\\.");
+			}
+			else if (c == '$') {
+				regex.append("\\$");
+			}
+			else {
+				regex.append(c);
+			}
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+}
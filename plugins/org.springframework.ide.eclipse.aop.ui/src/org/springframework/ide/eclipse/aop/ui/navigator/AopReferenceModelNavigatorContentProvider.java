@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import java.util.Set;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
@@ -41,6 +42,7 @@ import org.springframework.ide.eclipse.aop.core.internal.model.builder.AopRefere
 import org.springframework.ide.eclipse.aop.core.model.IAopModelChangedListener;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference.ADVICE_TYPE;
+import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModelSnapshot;
 import org.springframework.ide.eclipse.aop.core.model.IAspectDefinition;
 import org.springframework.ide.eclipse.aop.core.util.AopReferenceModelUtils;
 import org.springframework.ide.eclipse.aop.ui.navigator.model.AdviceDeclareParentAopSourceNode;
@@ -69,6 +71,10 @@ import org.springframework.ide.eclipse.ui.SpringUIUtils;
 /**
  * {@link ICommonContentProvider} that contributes elements from the {@link AopReferenceModel} created by
  * {@link AopReferenceModelBuilderJob}.
+ * <p>
+ * The tree is built from an {@link IAopReferenceModelSnapshot} of the model, so that it is consistent even while a
+ * build is running. When the model changed, the viewer is only refreshed if references involving the resource of its
+ * input were added or removed.
  * @author Christian Dupuis
  * @author Torsten Juergeleit
  * @since 2.0
@@ -79,6 +85,9 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 
 	private StructuredViewer viewer;
 
+	/** the snapshot the tree of the viewer is built from; only updated in the UI thread */
+	private IAopReferenceModelSnapshot snapshot;
+
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
 		if (viewer instanceof StructuredViewer) {
 			this.viewer = (StructuredViewer) viewer;
@@ -86,6 +95,14 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		else {
 			this.viewer = null;
 		}
+		this.snapshot = Activator.getModel().getSnapshot();
+	}
+
+	private IAopReferenceModelSnapshot getSnapshot() {
+		if (snapshot == null) {
+			snapshot = Activator.getModel().getSnapshot();
+		}
+		return snapshot;
 	}
 
 	public void dispose() {
@@ -125,11 +142,12 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		}
 		else if (parentElement instanceof IType) {
 			IType type = (IType) parentElement;
+			IAopReferenceModelSnapshot snapshot = getSnapshot();
 			List<Object> me = new ArrayList<Object>();
 			try {
 				Set<IMethod> methods = Introspector.getAllMethods(type);
 				for (IMethod method : methods) {
-					if (Activator.getModel().isAdvice(method) || Activator.getModel().isAdvised(method)) {
+					if (snapshot.isAdvice(method) || snapshot.isAdvised(method)) {
 						me.addAll(Arrays.asList(getChildren(method)));
 					}
 				}
@@ -138,8 +156,6 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 			}
 			ClassMethodReferenceNode node = new ClassMethodReferenceNode(type, me);
 
-			List<IAopReference> references = Activator.getModel().getAllReferences();
-
 			// fields
 			try {
 				for (IField field : type.getFields()) {
@@ -154,11 +170,9 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 			catch (JavaModelException e) {
 			}
 
-			for (IAopReference reference : references) {
+			for (IAopReference reference : snapshot.getReferencesForTarget(type)) {
 				if (reference.getAdviceType() == ADVICE_TYPE.DECLARE_PARENTS) {
-					if (reference.getTarget().equals(type)) {
-						node.getDeclaredOnReferences().add(reference);
-					}
+					node.getDeclaredOnReferences().add(reference);
 				}
 			}
 			// add bean references
@@ -179,17 +193,9 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		}
 		else if (parentElement instanceof IMethod) {
 			IMethod method = (IMethod) parentElement;
-			List<IAopReference> references = Activator.getModel().getAllReferences();
-			List<IAopReference> foundSourceReferences = new ArrayList<IAopReference>();
-			List<IAopReference> foundTargetReferences = new ArrayList<IAopReference>();
-			for (IAopReference reference : references) {
-				if (reference.getTarget().equals(method)) {
-					foundTargetReferences.add(reference);
-				}
-				if (reference.getSource() != null && reference.getSource().equals(method)) {
-					foundSourceReferences.add(reference);
-				}
-			}
+			IAopReferenceModelSnapshot snapshot = getSnapshot();
+			Set<IAopReference> foundSourceReferences = snapshot.getReferencesForSource(method);
+			Set<IAopReference> foundTargetReferences = snapshot.getReferencesForTarget(method);
 			List<IReferenceNode> nodes = new ArrayList<IReferenceNode>();
 			Map<IMember, MethodReference> refs = new HashMap<IMember, MethodReference>();
 			for (IAopReference reference : foundSourceReferences) {
@@ -222,13 +228,7 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		}
 		else if (parentElement instanceof IField && parentElement instanceof SourceField) {
 			IField method = (IField) parentElement;
-			List<IAopReference> references = Activator.getModel().getAllReferences();
-			List<IAopReference> foundSourceReferences = new ArrayList<IAopReference>();
-			for (IAopReference reference : references) {
-				if (reference.getSource() != null && reference.getSource().equals(method)) {
-					foundSourceReferences.add(reference);
-				}
-			}
+			Set<IAopReference> foundSourceReferences = getSnapshot().getReferencesForSource(method);
 			List<IReferenceNode> nodes = new ArrayList<IReferenceNode>();
 			Map<IMember, List<IAopReference>> refs = new HashMap<IMember, List<IAopReference>>();
 			for (IAopReference reference : foundSourceReferences) {
@@ -271,7 +271,7 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 	private List<IReferenceNode> getChildrenFromXmlLocation(IResource resource, int startLine, int endLine, String id,
 			Set<IBean> beans) {
 		List<IReferenceNode> nodes = new ArrayList<IReferenceNode>();
-		List<IAopReference> references = Activator.getModel().getAllReferencesForResource(resource);
+		Set<IAopReference> references = getSnapshot().getAllReferencesForResource(resource);
 
 		Map<IAspectDefinition, List<IAopReference>> foundSourceReferences = new HashMap<IAspectDefinition, List<IAopReference>>();
 		Map<IAspectDefinition, List<IAopReference>> foundIntroductionSourceReferences = new HashMap<IAspectDefinition, List<IAopReference>>();
@@ -418,10 +418,11 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		}
 		else if (element instanceof IType) {
 			IType type = (IType) element;
+			IAopReferenceModelSnapshot snapshot = getSnapshot();
 			try {
 				IMethod[] methods = type.getMethods();
 				for (IMethod method : methods) {
-					if (Activator.getModel().isAdvised(method) || Activator.getModel().isAdvice(method)) {
+					if (snapshot.isAdvised(method) || snapshot.isAdvice(method)) {
 						return true;
 					}
 				}
@@ -431,27 +432,31 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 		}
 		else if (element instanceof IMethod) {
 			IMethod method = (IMethod) element;
-			List<IAopReference> references = Activator.getModel().getAllReferences();
-			for (IAopReference reference : references) {
-				if (reference.getTarget().equals(method)) {
-					return true;
-				}
-				if (reference.getSource().equals(method)) {
-					return true;
-				}
-			}
+			IAopReferenceModelSnapshot snapshot = getSnapshot();
+			return snapshot.isAdvised(method) || snapshot.isAdvice(method);
 		}
 		return false;
 	}
 
 	protected void refreshViewer(final Object element) {
+		updateViewer(element, Activator.getModel().getSnapshot(), true);
+	}
+
+	/**
+	 * Switches to the given snapshot in the UI thread, refreshing the viewer if requested.
+	 */
+	private void updateViewer(final Object element, final IAopReferenceModelSnapshot newSnapshot,
+			final boolean refresh) {
 		if (viewer instanceof TreeViewer) {
 			Control ctrl = viewer.getControl();
 
 			// Are we in the UI thread?
 			if (ctrl.getDisplay().getThread() == Thread.currentThread()) {
-				AopReferenceModelNavigator.refreshViewer((TreeViewer) viewer, AopReferenceModelNavigator
-						.calculateRootElement(element), element);
+				snapshot = newSnapshot;
+				if (refresh) {
+					AopReferenceModelNavigator.refreshViewer((TreeViewer) viewer, AopReferenceModelNavigator
+							.calculateRootElement(element), element);
+				}
 			}
 			else {
 				ctrl.getDisplay().asyncExec(new Runnable() {
@@ -462,8 +467,11 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 						if (ctrl == null || ctrl.isDisposed()) {
 							return;
 						}
-						AopReferenceModelNavigator.refreshViewer((TreeViewer) viewer, AopReferenceModelNavigator
-								.calculateRootElement(element), element);
+						snapshot = newSnapshot;
+						if (refresh) {
+							AopReferenceModelNavigator.refreshViewer((TreeViewer) viewer, AopReferenceModelNavigator
+									.calculateRootElement(element), element);
+						}
 					}
 				});
 			}
@@ -482,13 +490,44 @@ public class AopReferenceModelNavigatorContentProvider implements ICommonContent
 	}
 
 	public void changed() {
+		if (viewer == null) {
+			return;
+		}
 		Object obj = viewer.getInput();
-		refreshViewer(obj);
+		IAopReferenceModelSnapshot previous = snapshot;
+		IAopReferenceModelSnapshot current = Activator.getModel().getSnapshot();
+		if (current == previous) {
+			return;
+		}
+		boolean refresh = previous == null || isAffected(obj, current.getChangedResources(previous));
+		updateViewer(obj, current, refresh);
+	}
+
+	/**
+	 * Returns true if the tree shown for the given input may involve one of the changed resources.
+	 */
+	private boolean isAffected(Object input, Set<IResource> changedResources) {
+		if (changedResources.isEmpty()) {
+			return false;
+		}
+		IResource resource = null;
+		if (input instanceof JavaElementReferenceNode) {
+			input = ((JavaElementReferenceNode) input).getJavaElement();
+		}
+		if (input instanceof IJavaElement) {
+			resource = ((IJavaElement) input).getResource();
+		}
+		else if (input instanceof ElementImpl) {
+			resource = SpringUIUtils.getFile(((ElementImpl) input).getStructuredDocument());
+		}
+		return resource == null || changedResources.contains(resource);
 	}
 
 	public void elementChanged(ModelChangeEvent event) {
 		if (event.getType() == Type.CHANGED && event.getSource() instanceof IBeansProject) {
-			changed();
+			if (viewer != null) {
+				refreshViewer(viewer.getInput());
+			}
 		}
 	}
 }
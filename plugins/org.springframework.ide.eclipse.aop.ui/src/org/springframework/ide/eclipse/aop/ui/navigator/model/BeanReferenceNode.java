@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.swt.graphics.Image;
 import org.springframework.ide.eclipse.aop.core.Activator;
 import org.springframework.ide.eclipse.aop.core.model.IAopReference;
+import org.springframework.ide.eclipse.aop.core.model.IAopReferenceModelSnapshot;
 import org.springframework.ide.eclipse.aop.core.util.AopReferenceModelUtils;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
@@ -58,8 +59,8 @@ public class BeanReferenceNode implements IReferenceNode,
 
 		IType type = BeansModelUtils.getBeanType(bean, null);
 		if (type != null) {
-			List<IAopReference> references = Activator.getModel()
-					.getAllReferences();
+			IAopReferenceModelSnapshot snapshot = Activator.getModel()
+					.getSnapshot();
 
 			Set<IBean> innerBeans = BeansModelUtils.getInnerBeans(bean);
 
@@ -68,13 +69,9 @@ public class BeanReferenceNode implements IReferenceNode,
 				BeanReferenceNode n = new BeanReferenceNode(innerBean
 						.getElementID(), true);
 				refs.put(innerBean.getElementID(), n);
-
-				for (IAopReference r : references) {
-					if (innerBean.getElementID().equals(r.getTargetBeanId())) {
-						refs.get(r.getTargetBeanId()).getAdviseReferences()
-								.add(r);
-					}
-				}
+				n.getAdviseReferences().addAll(
+						snapshot.getReferencesForTargetBeanId(innerBean
+								.getElementID()));
 			}
 			for (Map.Entry<String, BeanReferenceNode> e : refs.entrySet()) {
 				innerBeanNodes.add(e.getValue());
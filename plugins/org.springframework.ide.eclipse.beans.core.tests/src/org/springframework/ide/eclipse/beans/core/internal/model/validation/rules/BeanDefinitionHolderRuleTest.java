@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation.rules;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.tests.BeansCoreTestCase;
+import org.springframework.ide.eclipse.core.MarkerUtils;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Test case for {@link BeanDefinitionHolderRule} validation rule
+ * @since 3.9.12
+ */
+public class BeanDefinitionHolderRuleTest extends BeansCoreTestCase {
+
+	private IResource resource1 = null;
+	private IResource resource2 = null;
+
+	@BeforeClass
+	public static void setUpAll() {
+		if (Platform.OS_WIN32.equals(Platform.getOS())) {
+			/*
+			 * Set non-locking class-loader for windows testing
+			 */
+			InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(
+					SpringCore.USE_NON_LOCKING_CLASSLOADER, true);
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		Thread.sleep(5000);
+		resource1 = createPredefinedProjectAndGetResource("validation", "src/shared-bean-name-1.xml");
+		resource2 = createPredefinedProjectAndGetResource("validation", "src/shared-bean-name-2.xml");
+	}
+
+	@Test
+	public void testSameBeanNameInStandaloneConfigs() throws Exception {
+		assertNoOverride(resource1);
+		assertNoOverride(resource2);
+	}
+
+	private void assertNoOverride(IResource resource) throws Exception {
+		IBeansConfig beansConfig = BeansCorePlugin.getModel().getConfig((IFile) resource);
+		IBean bean = BeansModelUtils.getBean("shared", beansConfig);
+		assertNotNull(bean);
+		Set<IMarker> markers = MarkerUtils.getAllMarkersInRange(resource, bean
+				.getElementStartLine(), bean.getElementEndLine());
+		for (IMarker marker : markers) {
+			String msg = (String) marker.getAttribute(IMarker.MESSAGE);
+			assertFalse("Error message not expected '" + msg + "'", msg != null
+					&& msg.startsWith("Overrides another bean"));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import org.springframework.ide.eclipse.beans.core.internal.model.resources.tests
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanClassRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRulesAutowireTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanDefinitionHolderRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanInitDestroyMethodRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanPropertyRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanReferenceRuleTest;
@@ -37,6 +38,7 @@ import org.springframework.ide.eclipse.beans.core.model.tests.BeansConfigTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansJavaConfigTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansModelUtilsTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectTest;
+import org.springframework.ide.eclipse.beans.ui.graph.tests.GraphLayoutCacheTest;
 import org.springframework.ide.eclipse.beans.ui.refactoring.tests.BeansJavaConfigRenameTypeRefactoringParticipantTest;
 import org.springframework.ide.eclipse.core.java.IntrospectorTest;
 import org.springframework.ide.eclipse.core.java.JdtUtilsTest;
@@ -58,6 +60,7 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeanConstructorArgumentRulesAutowireTest.class,
 	BeanPropertyRuleTest.class,
 	BeanInitDestroyMethodRuleTest.class,
+	BeanDefinitionHolderRuleTest.class,
 	RequiredPropertyRuleTest.class,
 	BeanReferenceRuleTest.class,
 	BeanReferenceRuleTest_INT_3674.class,
@@ -80,7 +83,8 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeansJavaConfigRenameTypeRefactoringParticipantTest.class,
 	ResourceChangeEventHandlerTest.class,
 	TypeHierarchyEngineTest.class,
-	BeansModelUtilsTest.class
+	BeansModelUtilsTest.class,
+	GraphLayoutCacheTest.class
 })
 public class AllBeansCoreTests {
 	// goofy junit4, no class body needed
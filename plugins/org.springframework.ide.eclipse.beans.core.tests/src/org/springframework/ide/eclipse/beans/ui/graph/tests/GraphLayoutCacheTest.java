@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection.BeanType;
+import org.springframework.ide.eclipse.beans.ui.graph.model.Bean;
+import org.springframework.ide.eclipse.beans.ui.graph.model.GraphLayoutCache;
+import org.springframework.ide.eclipse.beans.ui.graph.model.GraphLayoutCache.Layout;
+import org.springframework.ide.eclipse.beans.ui.graph.model.Reference;
+
+/**
+ * Test case for {@link GraphLayoutCache}.
+ * @since 3.9.12
+ */
+public class GraphLayoutCacheTest {
+
+	@Test
+	public void testBendpointsAppliedPerReference() throws Exception {
+		DirectedGraph graph = createGraph();
+		List<Reference> references = getReferences(graph);
+		Reference longReference = references.get(references.size() - 1);
+		new DirectedGraphLayout().visit(graph);
+		assertFalse(longReference.getBendpoints().isEmpty());
+
+		Layout layout = new Layout("structure");
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			layout.addBean((Bean) graph.nodes.getNode(i));
+		}
+		layout.addReferences(graph.edges);
+		Map<String, List<Point>> expected = new HashMap<String, List<Point>>();
+		for (Reference reference : references) {
+			expected.put(GraphLayoutCache.getKey(reference), reference.getBendpoints());
+		}
+
+		DirectedGraph cachedGraph = createGraph();
+		for (int i = 0; i < cachedGraph.nodes.size(); i++) {
+			assertTrue(layout.applyTo((Bean) cachedGraph.nodes.getNode(i)));
+		}
+		layout.applyTo(cachedGraph.edges);
+		for (Reference reference : getReferences(cachedGraph)) {
+			assertEquals(GraphLayoutCache.getKey(reference), expected.get(GraphLayoutCache.getKey(reference)),
+					reference.getBendpoints());
+		}
+	}
+
+	/**
+	 * Creates the graph <code>a -> b -> c -> d</code> with the additional long edge <code>a -> d</code>, which the
+	 * layout routes through virtual nodes.
+	 */
+	private DirectedGraph createGraph() {
+		DirectedGraph graph = new DirectedGraph();
+		Bean a = addBean(graph, "a");
+		Bean b = addBean(graph, "b");
+		Bean c = addBean(graph, "c");
+		Bean d = addBean(graph, "d");
+		graph.edges.add(new Reference(BeanType.STANDARD, a, b, false));
+		graph.edges.add(new Reference(BeanType.STANDARD, b, c, false));
+		graph.edges.add(new Reference(BeanType.STANDARD, c, d, false));
+		graph.edges.add(new Reference(BeanType.STANDARD, a, d, false));
+		return graph;
+	}
+
+	private Bean addBean(DirectedGraph graph, final String name) {
+		Bean bean = new Bean() {
+			@Override
+			public String getName() {
+				return name;
+			}
+		};
+		bean.width = 100;
+		bean.height = 40;
+		graph.nodes.add(bean);
+		return bean;
+	}
+
+	private List<Reference> getReferences(DirectedGraph graph) {
+		List<Reference> references = new ArrayList<Reference>();
+		for (int i = 0; i < graph.edges.size(); i++) {
+			references.add((Reference) graph.edges.getEdge(i));
+		}
+		return references;
+	}
+
+}
@@ -226,7 +226,8 @@ public class BeansConfigValidator extends AbstractValidator {
 	@Override
 	protected IValidationContext createContext(IResourceModelElement rootElement, IResourceModelElement contextElement) {
 		if (rootElement instanceof IBeansConfig) {
-			return new BeansValidationContext((IBeansConfig) rootElement, contextElement);
+			return new BeansValidationContext((IBeansConfig) rootElement, contextElement,
+					getProjectContributorState().get(BeansValidationCache.class));
 		}
 		return null;
 	}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.model.IResourceModelElement;
+import org.springframework.ide.eclipse.core.project.IProjectContributorState;
+import org.springframework.ide.eclipse.core.type.asm.CachingClassReaderFactory;
+import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
+
+/**
+ * Bounded cache of the expensive parts of a {@link BeansValidationContext} that is held in the
+ * {@link IProjectContributorState} of a build and therefore shared by all contexts created during that build.
+ * <p>
+ * Class metadata is cached per project and raw classpath, so configs of the same project read every class file only
+ * once. Bean definition registries are cached per context element and the configs it contains, so the registries of
+ * a config set are only created once for all configs of the set, together with the bean lookups done against them.
+ * <p>
+ * Entries are held by {@link SoftReference}s by default so that the garbage collector can reclaim them under memory
+ * pressure; a context that loses an entry simply recreates it.
+ * @since 3.9.12
+ */
+public class BeansValidationCache {
+
+	public static final int DEFAULT_MAX_CLASS_READER_FACTORIES = 8;
+
+	public static final int DEFAULT_MAX_REGISTRIES = 64;
+
+	private final boolean evictOnMemoryPressure;
+
+	private final Map<Object, Reference<ClassReaderFactory>> classReaderFactories;
+
+	private final Map<Object, Reference<CachedRegistry>> registries;
+
+	public BeansValidationCache() {
+		this(DEFAULT_MAX_CLASS_READER_FACTORIES, DEFAULT_MAX_REGISTRIES, true);
+	}
+
+	/**
+	 * Creates a new cache.
+	 * @param maxClassReaderFactories the maximum number of projects to cache class metadata for
+	 * @param maxRegistries the maximum number of registries to cache
+	 * @param evictOnMemoryPressure <code>true</code> if cached entries may be reclaimed by the garbage collector
+	 */
+	public BeansValidationCache(int maxClassReaderFactories, int maxRegistries, boolean evictOnMemoryPressure) {
+		this.evictOnMemoryPressure = evictOnMemoryPressure;
+		this.classReaderFactories = createLruMap(maxClassReaderFactories);
+		this.registries = createLruMap(maxRegistries);
+	}
+
+	/**
+	 * Returns the shared {@link ClassReaderFactory} for the given project, creating it if there is none for the
+	 * current classpath of the project.
+	 */
+	public ClassReaderFactory getClassReaderFactory(IProject project) {
+		Object key = getClasspathKey(project);
+		synchronized (classReaderFactories) {
+			ClassReaderFactory factory = dereference(classReaderFactories.get(key));
+			if (factory == null) {
+				factory = new CachingClassReaderFactory(JdtUtils.getClassLoader(project, null));
+				classReaderFactories.put(key, reference(factory));
+			}
+			return factory;
+		}
+	}
+
+	/**
+	 * Returns the cached registry for the given config, context element and fill mode, or <code>null</code> if
+	 * there is none.
+	 */
+	public CachedRegistry getRegistry(IBeansConfig config, IResourceModelElement contextElement,
+			boolean fillCompletely) {
+		Object key = getRegistryKey(config, contextElement, fillCompletely);
+		synchronized (registries) {
+			return dereference(registries.get(key));
+		}
+	}
+
+	/**
+	 * Caches the given registry for the given config, context element and fill mode.
+	 * @return the registry to use, which is an already cached registry if another context created one concurrently
+	 */
+	public CachedRegistry putRegistry(IBeansConfig config, IResourceModelElement contextElement,
+			boolean fillCompletely, BeanDefinitionRegistry registry) {
+		Object key = getRegistryKey(config, contextElement, fillCompletely);
+		synchronized (registries) {
+			CachedRegistry cached = dereference(registries.get(key));
+			if (cached == null) {
+				cached = new CachedRegistry(registry);
+				registries.put(key, reference(cached));
+			}
+			return cached;
+		}
+	}
+
+	public void clear() {
+		synchronized (classReaderFactories) {
+			classReaderFactories.clear();
+		}
+		synchronized (registries) {
+			registries.clear();
+		}
+	}
+
+	/**
+	 * Computes the key under which a registry is cached. The key names the configs that are registered in the
+	 * registry together with their modification stamps, plus the overriding flags of the registry. As a consequence the
+	 * complete registry of a config set is the same for all configs of the set.
+	 * <p>
+	 * An incomplete registry is filled with the beans of the validated config while that config is validated, so its
+	 * key additionally names the validated config; sharing it with another config would report the beans of that
+	 * config as overriding each other.
+	 */
+	static Object getRegistryKey(IBeansConfig config, IResourceModelElement contextElement, boolean fillCompletely) {
+		List<Object> key = new ArrayList<Object>();
+		key.add(fillCompletely);
+		if (contextElement instanceof IBeansConfigSet) {
+			IBeansConfigSet configSet = (IBeansConfigSet) contextElement;
+			key.add(configSet.getElementID());
+			if (!fillCompletely) {
+				key.add(configSet.isAllowAliasOverriding());
+				key.add(configSet.isAllowBeanDefinitionOverriding());
+			}
+			for (IBeansConfig csConfig : configSet.getConfigs()) {
+				if (!fillCompletely && config.equals(csConfig)) {
+					break;
+				}
+				addConfig(key, csConfig);
+			}
+		}
+		else if (contextElement instanceof IBeansConfig && !config.equals(contextElement)) {
+			key.add(Boolean.TRUE);
+			if (fillCompletely) {
+				addConfig(key, (IBeansConfig) contextElement);
+			}
+		}
+		else {
+			key.add(Boolean.FALSE);
+			if (fillCompletely) {
+				addConfig(key, config);
+			}
+		}
+		if (!fillCompletely) {
+			addConfig(key, config);
+		}
+		return key;
+	}
+
+	private static void addConfig(List<Object> key, IBeansConfig config) {
+		key.add(config.getElementID());
+		IResource resource = config.getElementResource();
+		key.add(resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP);
+	}
+
+	private static Object getClasspathKey(IProject project) {
+		List<Object> key = new ArrayList<Object>();
+		key.add(project.getName());
+		IJavaProject javaProject = JdtUtils.getJavaProject(project);
+		if (javaProject != null) {
+			try {
+				key.addAll(Arrays.asList(javaProject.getRawClasspath()));
+			}
+			catch (JavaModelException e) {
+				// fall back to the project name only
+			}
+		}
+		return key;
+	}
+
+	private <T> Reference<T> reference(T value) {
+		return (evictOnMemoryPressure ? new SoftReference<T>(value) : new StrongReference<T>(value));
+	}
+
+	private static <T> T dereference(Reference<T> reference) {
+		return (reference != null ? reference.get() : null);
+	}
+
+	private static <K, V> Map<K, V> createLruMap(final int maxSize) {
+		return new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * A cached registry together with the results of the bean lookups done against it.
+	 */
+	public static class CachedRegistry {
+
+		private final BeanDefinitionRegistry registry;
+
+		private final Map<String, Set<BeanDefinition>> beanLookupCache = new HashMap<String, Set<BeanDefinition>>();
+
+		CachedRegistry(BeanDefinitionRegistry registry) {
+			this.registry = registry;
+		}
+
+		public BeanDefinitionRegistry getRegistry() {
+			return registry;
+		}
+
+		public Map<String, Set<BeanDefinition>> getBeanLookupCache() {
+			return beanLookupCache;
+		}
+
+	}
+
+	/**
+	 * Reference that is never cleared, used if eviction on memory pressure is disabled.
+	 */
+	private static class StrongReference<T> extends WeakReference<T> {
+
+		private final T referent;
+
+		StrongReference(T referent) {
+			super(referent);
+			this.referent = referent;
+		}
+
+		@Override
+		public T get() {
+			return referent;
+		}
+
+	}
+
+}
@@ -71,6 +71,10 @@ public class BeansValidationContext extends AbstractValidationContext implements
 
 	private final Map<AttributeDescriptor, List<ToolAnnotationData>> toolAnnotationLookupCache;
 
+	private BeansValidationContext template;
+
+	private BeansValidationCache validationCache;
+
 	public BeansValidationContext(IBeansConfig config, IResourceModelElement contextElement) {
 		super(config, contextElement);
 
@@ -81,10 +85,65 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		this.toolAnnotationLookupCache = new HashMap<AttributeDescriptor, List<ToolAnnotationData>>();
 	}
 
+	/**
+	 * Creates a context for the given config and context element that takes its registries, bean lookup cache and
+	 * class reader factory from the given build-scoped {@link BeansValidationCache}, creating and caching them on
+	 * first access. If no cache is given this behaves like {@link #BeansValidationContext(IBeansConfig,
+	 * IResourceModelElement)}.
+	 * @since 3.9.12
+	 */
+	public BeansValidationContext(IBeansConfig config, IResourceModelElement contextElement,
+			BeansValidationCache validationCache) {
+		super(config, contextElement);
+		this.validationCache = validationCache;
+
+		if (validationCache != null) {
+			this.incompleteRegistry = getCachedRegistry(validationCache, config, contextElement, false)
+					.getRegistry();
+			BeansValidationCache.CachedRegistry complete = getCachedRegistry(validationCache, config,
+					contextElement, true);
+			this.completeRegistry = complete.getRegistry();
+			// bean lookups only depend on the complete registry and can therefore be shared as well
+			this.beanLookupCache = complete.getBeanLookupCache();
+		}
+		else {
+			this.incompleteRegistry = createRegistry(config, contextElement, false);
+			this.completeRegistry = createRegistry(config, contextElement, true);
+			this.beanLookupCache = new HashMap<String, Set<BeanDefinition>>();
+		}
+		this.toolAnnotationLookupCache = new HashMap<AttributeDescriptor, List<ToolAnnotationData>>();
+	}
+
+	/**
+	 * Creates a context for the given config and context element that shares the bean registries, class reader
+	 * factory and lookup caches of an already initialized context for the same config and context element. This avoids
+	 * rebuilding the registries for short-lived contexts, e.g. when validating single attributes as you type.
+	 * @since 3.9.12
+	 */
+	protected BeansValidationContext(IBeansConfig config, IResourceModelElement contextElement,
+			BeansValidationContext template) {
+		super(config, contextElement);
+		Assert.notNull(template);
+		this.template = template;
+
+		this.incompleteRegistry = template.incompleteRegistry;
+		this.completeRegistry = template.completeRegistry;
+
+		this.beanLookupCache = template.beanLookupCache;
+		this.toolAnnotationLookupCache = template.toolAnnotationLookupCache;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public synchronized ClassReaderFactory getClassReaderFactory() {
+		if (this.template != null) {
+			return this.template.getClassReaderFactory();
+		}
+		if (this.classReaderFactory == null && this.validationCache != null) {
+			this.classReaderFactory = this.validationCache.getClassReaderFactory(getRootElement()
+					.getElementResource().getProject());
+		}
 		if (this.classReaderFactory == null) {
 			this.classReaderFactory = new CachingClassReaderFactory(JdtUtils.getClassLoader(getRootElement()
 					.getElementResource().getProject(), null));
@@ -110,6 +169,9 @@ public class BeansValidationContext extends AbstractValidationContext implements
 	 * {@inheritDoc}
 	 */
 	public synchronized IProjectClassLoaderSupport getProjectClassLoaderSupport() {
+		if (this.template != null) {
+			return this.template.getProjectClassLoaderSupport();
+		}
 		if (this.projectClassLoaderSupport == null) {
 			this.projectClassLoaderSupport = JdtUtils.getProjectClassLoaderSupport(getRootElementProject(), null);
 		}
@@ -124,12 +186,16 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		Assert.notNull(beanClass);
 
 		String key = beanClass + KEY_SEPARATOR_CHAR + beanName;
-		if (beanLookupCache.containsKey(key)) {
-			return beanLookupCache.get(key);
+		synchronized (beanLookupCache) {
+			if (beanLookupCache.containsKey(key)) {
+				return beanLookupCache.get(key);
+			}
 		}
 		Set<BeanDefinition> bds = ValidationRuleUtils.getBeanDefinitions(beanName, beanClass, this);
 		// as we don't use a Hashtable we can insert null values
-		beanLookupCache.put(key, bds);
+		synchronized (beanLookupCache) {
+			beanLookupCache.put(key, bds);
+		}
 		return bds;
 	}
 
@@ -148,10 +214,12 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		return getRootElement().getElementResource();
 	}
 
-	public synchronized List<ToolAnnotationData> getToolAnnotation(Node n, String attributeName) {
+	public List<ToolAnnotationData> getToolAnnotation(Node n, String attributeName) {
 		AttributeDescriptor descriptor = AttributeDescriptor.create(n, attributeName);
-		if (toolAnnotationLookupCache.containsKey(descriptor)) {
-			return toolAnnotationLookupCache.get(descriptor);
+		synchronized (toolAnnotationLookupCache) {
+			if (toolAnnotationLookupCache.containsKey(descriptor)) {
+				return toolAnnotationLookupCache.get(descriptor);
+			}
 		}
 
 		// Search for tool annotations
@@ -173,7 +241,9 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		}
 
 		// Add to internal cache
-		toolAnnotationLookupCache.put(descriptor, annotationDatas);
+		synchronized (toolAnnotationLookupCache) {
+			toolAnnotationLookupCache.put(descriptor, annotationDatas);
+		}
 
 		// / Return found annoatations
 		return annotationDatas;
@@ -187,6 +257,16 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		return bds != null && bds.size() > 0;
 	}
 
+	private BeansValidationCache.CachedRegistry getCachedRegistry(BeansValidationCache cache, IBeansConfig config,
+			IResourceModelElement contextElement, boolean fillCompletely) {
+		BeansValidationCache.CachedRegistry cached = cache.getRegistry(config, contextElement, fillCompletely);
+		if (cached == null) {
+			cached = cache.putRegistry(config, contextElement, fillCompletely,
+					createRegistry(config, contextElement, fillCompletely));
+		}
+		return cached;
+	}
+
 	private BeanDefinitionRegistry createRegistry(IBeansConfig config, IResourceModelElement contextElement,
 			boolean fillCompletely) {
 		DefaultBeanDefinitionRegistry registry = new DefaultBeanDefinitionRegistry();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2009 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,10 +11,8 @@
 package org.springframework.ide.eclipse.beans.ui.editor.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
@@ -46,17 +44,18 @@ public class BeansCompletionUtils {
 		}
 		if (document != null) {
 			BeanReferenceSearchRequestor requestor = new BeanReferenceSearchRequestor(recorder, requiredTypes);
-			Map<String, Node> beanNodes = BeansEditorUtils.getReferenceableNodes(document, context.getFile());
+			Map<String, Node> beanNodes = ReferenceableElementsIndex.getIndex(document, file).getNodesStartingWith(
+					prefix);
 			for (Map.Entry<String, Node> node : beanNodes.entrySet()) {
 				Node beanNode = node.getValue();
 				requestor.acceptSearchMatch(node.getKey(), beanNode, file, prefix);
 			}
 			if (showExternal) {
-				Set<IBean> beansList = BeansEditorUtils.getBeansFromConfigSets(file);
-				Iterator<IBean> iterator = beansList.iterator();
-				while (iterator.hasNext()) {
-					IBean bean = iterator.next();
-					requestor.acceptSearchMatch(bean, file, prefix);
+				for (List<IBean> beans : ReferenceableElementsIndex.getExternalBeansStartingWith(file, prefix)
+						.values()) {
+					for (IBean bean : beans) {
+						requestor.acceptSearchMatch(bean, file, prefix);
+					}
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
 
@@ -27,10 +26,8 @@ import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -57,7 +54,6 @@ import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocument;
 import org.eclipse.wst.sse.core.internal.provisional.text.IStructuredDocumentRegion;
 import org.eclipse.wst.sse.ui.internal.contentassist.ContentAssistUtils;
 import org.eclipse.wst.xml.core.internal.document.ElementImpl;
-import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
 import org.eclipse.wst.xml.ui.internal.contentassist.ContentAssistRequest;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorUtils;
@@ -73,7 +69,6 @@ import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
 import org.springframework.ide.eclipse.beans.ui.editor.Activator;
 import org.springframework.ide.eclipse.beans.ui.editor.IPreferencesConstants;
 import org.springframework.ide.eclipse.beans.ui.editor.namespaces.IClassNameProvider;
-import org.springframework.ide.eclipse.beans.ui.editor.namespaces.IReferenceableElementsLocator;
 import org.springframework.ide.eclipse.beans.ui.editor.namespaces.NamespaceUtils;
 import org.springframework.ide.eclipse.core.io.ZipEntryStorage;
 import org.springframework.ide.eclipse.core.java.Introspector;
@@ -786,55 +781,11 @@ public class BeansEditorUtils {
 	}
 
 	public static final Node getFirstReferenceableNodeById(Document document, String id, IFile file) {
-		Map<String, Node> nodes = getReferenceableNodes(document, file);
-		for (Entry<String, Node> node : nodes.entrySet()) {
-			if (node.getKey().equals(id)) {
-				return node.getValue();
-			}
-		}
-		return null;
+		return ReferenceableElementsIndex.getIndex(document, file).getFirstNode(id);
 	}
 
 	public static final List<Node> getReferenceableNodesById(Document document, String id, IFile file) {
-		List<Node> nodes = new ArrayList<Node>();
-		for (IReferenceableElementsLocator locator : NamespaceUtils.getAllElementsLocators()) {
-
-			Map<String, Set<Node>> tempNodess = locator.getReferenceableElements(document, file);
-			if (tempNodess != null) {
-				for(String name: tempNodess.keySet()) {
-					if (name.equals(id)) {
-						Set<Node> tempNodes = tempNodess.get(name);
-						for(Node tempNode: tempNodes) {
-							updateList(tempNode, nodes);
-						}
-					}
-				}
-			}
-		}
-		return nodes;
-	}
-	
-	/**
-	 * Add newNode to nodes if it is not already in the list of nodes
-	 * @param newNode
-	 * @param nodes
-	 */
-	private static void updateList(Node newNode, List<Node> nodes) {
-		IDOMNode domNewNode = (IDOMNode) newNode;
-		boolean found = false;
-		for(Node node: nodes) {
-			if (newNode.getOwnerDocument().equals(node.getOwnerDocument())) {
-				IDOMNode domNode = (IDOMNode) node;
-				if (domNode.getStartOffset() == domNewNode.getStartOffset() && domNode.getEndOffset() == domNewNode.getEndOffset()) {
-					found = true;
-				}
-			}
-			
-		}
-		
-		if (!found) {
-			nodes.add(newNode);
-		}
+		return new ArrayList<Node>(ReferenceableElementsIndex.getIndex(document, file).getNodes(id));
 	}
 
 	/**
@@ -914,29 +865,7 @@ public class BeansEditorUtils {
 	}
 
 	public static final Map<String, Node> getReferenceableNodes(Document document, IFile file) {
-		Map<String, Node> nodes = new HashMap<String, Node>();
-		for (IReferenceableElementsLocator locator : NamespaceUtils.getAllElementsLocators()) {
-
-			Map<String, Set<Node>> tempNodes = locator.getReferenceableElements(document, file);
-			if (tempNodes != null) {
-				for(String name: tempNodes.keySet()) {
-					Set<Node> set = tempNodes.get(name);
-					if (set != null && set.size() > 0) {
-						Node node = set.iterator().next();
-						if (node == null) {
-							Activator.log(new Status(IStatus.WARNING,
-									Activator.PLUGIN_ID,
-									"Null entry in the set of referencable nodes. Name: '"
-											+ name + "'. Locator class: "
-											+ locator.getClass().getName()));
-						} else {
-							nodes.put(name, node);
-						}
-					}
-				}
-			}
-		}
-		return nodes;
+		return new HashMap<String, Node>(ReferenceableElementsIndex.getIndex(document, file).getNodes());
 	}
 
 	public static final boolean hasAttribute(Node node, String attributeName) {
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.editor.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.wst.sse.core.internal.provisional.IModelStateListener;
+import org.eclipse.wst.sse.core.internal.provisional.INodeAdapter;
+import org.eclipse.wst.sse.core.internal.provisional.INodeNotifier;
+import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMDocument;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.ui.editor.Activator;
+import org.springframework.ide.eclipse.beans.ui.editor.namespaces.IReferenceableElementsLocator;
+import org.springframework.ide.eclipse.beans.ui.editor.namespaces.NamespaceUtils;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Index of the elements of an XML document that can be referenced by name, as reported by all registered
+ * {@link IReferenceableElementsLocator}s.
+ * <p>
+ * The index of a document opened through the SSE model manager is kept as an adapter of the document and dropped as
+ * soon as the model reports a change, so that content assist and hyperlinks don't have to ask the locators to walk
+ * the document on every request. Some locators derive names from Java types (e.g. the ids of Spring Data
+ * repositories), so the index is also dropped when the Java model changes. Names are kept sorted by their lower case
+ * form to answer the prefix queries of bean reference proposals.
+ * <p>
+ * The beans of other configs that are visible from a file (the configs of the same config sets and the configs
+ * importing the file) are indexed the same way and kept until the beans model changes.
+ * @since 3.9.12
+ */
+public class ReferenceableElementsIndex {
+
+	private static final Map<String, SortedMap<String, List<IBean>>> EXTERNAL_BEANS = new ConcurrentHashMap<String, SortedMap<String, List<IBean>>>();
+
+	private static final IModelChangeListener MODEL_CHANGE_LISTENER = new IModelChangeListener() {
+		public void elementChanged(ModelChangeEvent event) {
+			// Changes to any config or config set can change the beans visible from other files
+			EXTERNAL_BEANS.clear();
+		}
+	};
+
+	/** Incremented on every change of the Java model */
+	private static final AtomicLong JAVA_MODEL_STAMP = new AtomicLong();
+
+	private static final IElementChangedListener JAVA_CHANGE_LISTENER = new IElementChangedListener() {
+		public void elementChanged(ElementChangedEvent event) {
+			// Changes to a type can change the names located in any file whose project sees that type
+			JAVA_MODEL_STAMP.incrementAndGet();
+		}
+	};
+
+	private static boolean listening = false;
+
+	private final IFile file;
+
+	/** The {@link #JAVA_MODEL_STAMP} this index was built at */
+	private final long javaModelStamp;
+
+	/** The first node found for each name, as returned by {@link BeansEditorUtils#getReferenceableNodes} */
+	private final Map<String, Node> nodes = new HashMap<String, Node>();
+
+	/** All nodes found for each name */
+	private final Map<String, List<Node>> allNodes = new HashMap<String, List<Node>>();
+
+	private final SortedMap<String, List<String>> namesByLowerCaseName = new TreeMap<String, List<String>>();
+
+	/**
+	 * Returns the index of the given document, building it if the document changed since it was last indexed.
+	 */
+	public static ReferenceableElementsIndex getIndex(Document document, IFile file) {
+		if (document instanceof IDOMDocument) {
+			ensureListening();
+			DocumentAdapter adapter;
+			synchronized (document) {
+				adapter = (DocumentAdapter) ((INodeNotifier) document).getAdapterFor(DocumentAdapter.class);
+				if (adapter == null) {
+					adapter = new DocumentAdapter();
+					((INodeNotifier) document).addAdapter(adapter);
+					IStructuredModel model = ((IDOMDocument) document).getModel();
+					if (model != null) {
+						model.addModelStateListener(adapter);
+					}
+				}
+			}
+			return adapter.getIndex(document, file);
+		}
+		return new ReferenceableElementsIndex(document, file);
+	}
+
+	/**
+	 * Returns the beans of other configs that can be referenced from the given file, by name, with names starting
+	 * with the given prefix regardless of case.
+	 */
+	public static SortedMap<String, List<IBean>> getExternalBeansStartingWith(IFile file, String prefix) {
+		if (file == null) {
+			return Collections.emptySortedMap();
+		}
+		ensureListening();
+		String key = file.getFullPath().toString();
+		SortedMap<String, List<IBean>> beans = EXTERNAL_BEANS.get(key);
+		if (beans == null) {
+			beans = new TreeMap<String, List<IBean>>();
+			for (IBean bean : BeansEditorUtils.getBeansFromConfigSets(file)) {
+				if (bean.getElementName() != null) {
+					add(beans, bean.getElementName().toLowerCase(), bean);
+				}
+			}
+			beans = Collections.unmodifiableSortedMap(beans);
+			EXTERNAL_BEANS.put(key, beans);
+		}
+		return subMap(beans, prefix);
+	}
+
+	public static synchronized void dispose() {
+		if (listening) {
+			BeansCorePlugin.getModel().removeChangeListener(MODEL_CHANGE_LISTENER);
+			JavaCore.removeElementChangedListener(JAVA_CHANGE_LISTENER);
+			listening = false;
+		}
+		EXTERNAL_BEANS.clear();
+	}
+
+	private static synchronized void ensureListening() {
+		if (!listening) {
+			BeansCorePlugin.getModel().addChangeListener(MODEL_CHANGE_LISTENER);
+			JavaCore.addElementChangedListener(JAVA_CHANGE_LISTENER, ElementChangedEvent.POST_CHANGE);
+			listening = true;
+		}
+	}
+
+	private ReferenceableElementsIndex(Document document, IFile file) {
+		this.file = file;
+		this.javaModelStamp = JAVA_MODEL_STAMP.get();
+		for (IReferenceableElementsLocator locator : NamespaceUtils.getAllElementsLocators()) {
+			Map<String, Set<Node>> locatedNodes = locator.getReferenceableElements(document, file);
+			if (locatedNodes == null) {
+				continue;
+			}
+			for (Map.Entry<String, Set<Node>> entry : locatedNodes.entrySet()) {
+				String name = entry.getKey();
+				Set<Node> set = entry.getValue();
+				if (set == null || set.isEmpty()) {
+					continue;
+				}
+				Node node = set.iterator().next();
+				if (node == null) {
+					Activator.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+							"Null entry in the set of referencable nodes. Name: '" + name + "'. Locator class: "
+									+ locator.getClass().getName()));
+					continue;
+				}
+				if (nodes.put(name, node) == null) {
+					add(namesByLowerCaseName, name.toLowerCase(), name);
+				}
+				List<Node> nodesWithName = allNodes.get(name);
+				if (nodesWithName == null) {
+					nodesWithName = new ArrayList<Node>();
+					allNodes.put(name, nodesWithName);
+				}
+				for (Node locatedNode : set) {
+					if (locatedNode != null && !containsNode(nodesWithName, locatedNode)) {
+						nodesWithName.add(locatedNode);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the first node found for each referenceable name.
+	 */
+	public Map<String, Node> getNodes() {
+		return Collections.unmodifiableMap(nodes);
+	}
+
+	/**
+	 * Returns the first node found with the given name or <code>null</code>.
+	 */
+	public Node getFirstNode(String name) {
+		return nodes.get(name);
+	}
+
+	/**
+	 * Returns all nodes found with the given name.
+	 */
+	public List<Node> getNodes(String name) {
+		List<Node> nodesWithName = allNodes.get(name);
+		return (nodesWithName != null ? nodesWithName : Collections.<Node> emptyList());
+	}
+
+	/**
+	 * Returns the first node found for each name starting with the given prefix regardless of case.
+	 */
+	public Map<String, Node> getNodesStartingWith(String prefix) {
+		Map<String, Node> matches = new HashMap<String, Node>();
+		for (List<String> names : subMap(namesByLowerCaseName, prefix).values()) {
+			for (String name : names) {
+				matches.put(name, nodes.get(name));
+			}
+		}
+		return matches;
+	}
+
+	private static <T> SortedMap<String, T> subMap(SortedMap<String, T> map, String prefix) {
+		String lowerCasePrefix = prefix.toLowerCase();
+		return map.subMap(lowerCasePrefix, lowerCasePrefix + Character.MAX_VALUE);
+	}
+
+	private static <T> void add(Map<String, List<T>> map, String key, T value) {
+		List<T> values = map.get(key);
+		if (values == null) {
+			values = new ArrayList<T>(1);
+			map.put(key, values);
+		}
+		values.add(value);
+	}
+
+	/**
+	 * Returns <code>true</code> if the list contains a node of the same document at the same offsets.
+	 */
+	private static boolean containsNode(List<Node> nodes, Node newNode) {
+		for (Node node : nodes) {
+			if (newNode.getOwnerDocument().equals(node.getOwnerDocument())) {
+				if (!(node instanceof IDOMNode) || !(newNode instanceof IDOMNode)) {
+					if (node.equals(newNode)) {
+						return true;
+					}
+				}
+				else if (((IDOMNode) node).getStartOffset() == ((IDOMNode) newNode).getStartOffset()
+						&& ((IDOMNode) node).getEndOffset() == ((IDOMNode) newNode).getEndOffset()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Keeps the index of a document and drops it whenever the model of the document or the Java model changes.
+	 */
+	private static class DocumentAdapter implements INodeAdapter, IModelStateListener {
+
+		private ReferenceableElementsIndex index;
+
+		public synchronized ReferenceableElementsIndex getIndex(Document document, IFile file) {
+			if (index == null || (file != null ? !file.equals(index.file) : index.file != null)
+					|| index.javaModelStamp != JAVA_MODEL_STAMP.get()) {
+				index = new ReferenceableElementsIndex(document, file);
+			}
+			return index;
+		}
+
+		private synchronized void invalidate() {
+			index = null;
+		}
+
+		public boolean isAdapterForType(Object type) {
+			return type == DocumentAdapter.class;
+		}
+
+		public void notifyChanged(INodeNotifier notifier, int eventType, Object changedFeature, Object oldValue,
+				Object newValue, int pos) {
+			invalidate();
+		}
+
+		public void modelAboutToBeChanged(IStructuredModel model) {
+			invalidate();
+		}
+
+		public void modelChanged(IStructuredModel model) {
+			invalidate();
+		}
+
+		public void modelDirtyStateChanged(IStructuredModel model, boolean isDirty) {
+		}
+
+		public void modelResourceDeleted(IStructuredModel model) {
+			invalidate();
+		}
+
+		public void modelResourceMoved(IStructuredModel oldModel, IStructuredModel newModel) {
+			invalidate();
+		}
+
+		public void modelAboutToBeReinitialized(IStructuredModel structuredModel) {
+			invalidate();
+		}
+
+		public void modelReinitialized(IStructuredModel structuredModel) {
+			invalidate();
+		}
+	}
+
+}
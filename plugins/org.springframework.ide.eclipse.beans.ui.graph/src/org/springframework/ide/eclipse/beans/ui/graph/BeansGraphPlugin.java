@@ -19,6 +19,9 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.osgi.framework.BundleContext;
+import org.springframework.ide.eclipse.beans.ui.graph.model.BeansDependencyIndex;
+import org.springframework.ide.eclipse.beans.ui.graph.model.GraphLayoutCache;
 
 /**
  * Central access point for the Spring Framework Editor plug-in
@@ -58,6 +61,13 @@ public class BeansGraphPlugin extends AbstractUIPlugin {
 		}
 	}
 
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		BeansDependencyIndex.dispose();
+		GraphLayoutCache.clear();
+		super.stop(context);
+	}
+
 	/**
 	 * Returns the shared instance.
 	 */
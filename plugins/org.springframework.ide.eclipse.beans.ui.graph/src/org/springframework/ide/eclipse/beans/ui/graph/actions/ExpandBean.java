@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.actions;
+
+import java.util.List;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.ui.actions.EditorPartAction;
+import org.eclipse.ui.IEditorPart;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.ui.graph.BeansGraphPlugin;
+import org.springframework.ide.eclipse.beans.ui.graph.editor.GraphEditor;
+import org.springframework.ide.eclipse.beans.ui.graph.model.Graph;
+import org.springframework.ide.eclipse.beans.ui.graph.parts.BeanPart;
+
+/**
+ * This action adds the beans referenced by and referencing the selected bean to a graph that is too large to be shown
+ * completely.
+ * @since 3.9.12
+ */
+public class ExpandBean extends EditorPartAction {
+
+	public ExpandBean(IEditorPart editor) {
+		super(editor);
+	}
+
+	@Override
+	protected void init() {
+		setId(GraphActionConstants.EXPAND_BEAN);
+		setText(BeansGraphPlugin.getResourceString("ContextMenu.ExpandBean.text"));
+	}
+
+	@Override
+	protected boolean calculateEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		GraphEditor editor = (GraphEditor) getWorkbenchPart();
+		EditPart part = getFirstSelectedEditPart();
+		if (part instanceof BeanPart && editor.getGraphicalViewer().getContents() != null) {
+			Object graph = editor.getGraphicalViewer().getContents().getModel();
+			return graph instanceof Graph && ((Graph) graph).isFocused()
+					&& !editor.isExpanded(getBeanName((BeanPart) part));
+		}
+		return false;
+	}
+
+	@Override
+	public void run() {
+		((GraphEditor) getWorkbenchPart()).expandBean(getBeanName((BeanPart) getFirstSelectedEditPart()));
+	}
+
+	private String getBeanName(BeanPart part) {
+		IBean bean = part.getBean().getBean();
+		return (bean != null ? bean.getElementName() : part.getBean().getName());
+	}
+
+	protected EditPart getFirstSelectedEditPart() {
+		GraphicalViewer viewer = ((GraphEditor) getWorkbenchPart()).getGraphicalViewer();
+		List list = viewer.getSelectedEditParts();
+		if (!list.isEmpty()) {
+			return (EditPart) list.get(0);
+		}
+		return null;
+	}
+}
@@ -18,4 +18,5 @@ public interface GraphActionConstants  {
 
 	String OPEN_TYPE = "open_type";
 	String OPEN_FILE = "open_file";
+	String EXPAND_BEAN = "expand_bean";
 }
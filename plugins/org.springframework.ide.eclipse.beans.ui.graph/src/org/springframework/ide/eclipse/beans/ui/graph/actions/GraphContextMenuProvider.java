@@ -54,5 +54,10 @@ public class GraphContextMenuProvider extends ContextMenuProvider {
 		if (action.isEnabled()) {
 			menu.appendToGroup(GEFActionConstants.GROUP_VIEW, action);
 		}
+
+		action = getActionRegistry().getAction(GraphActionConstants.EXPAND_BEAN);
+		if (action.isEnabled()) {
+			menu.appendToGroup(GEFActionConstants.GROUP_VIEW, action);
+		}
 	}
 }
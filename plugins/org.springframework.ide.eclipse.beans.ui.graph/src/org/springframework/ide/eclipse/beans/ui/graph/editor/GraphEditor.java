@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.beans.ui.graph.editor;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -90,6 +91,7 @@ import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
 import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
 import org.springframework.ide.eclipse.beans.ui.BeansUIPlugin;
 import org.springframework.ide.eclipse.beans.ui.graph.BeansGraphPlugin;
+import org.springframework.ide.eclipse.beans.ui.graph.actions.ExpandBean;
 import org.springframework.ide.eclipse.beans.ui.graph.actions.ExportAction;
 import org.springframework.ide.eclipse.beans.ui.graph.actions.GraphContextMenuProvider;
 import org.springframework.ide.eclipse.beans.ui.graph.actions.OpenConfigFile;
@@ -224,6 +226,21 @@ public class GraphEditor extends EditorPart implements ISelectionListener {
 		setContentDescription(input.getToolTipText());
 	}
 
+	/**
+	 * Adds the neighbourhood of the given bean to a graph that is too large to be shown completely and refreshes the
+	 * graph.
+	 */
+	public void expandBean(String beanName) {
+		if (getEditorInput() instanceof GraphEditorInput && ((GraphEditorInput) getEditorInput()).expandBean(beanName)) {
+			initializeGraphicalViewer();
+		}
+	}
+
+	public boolean isExpanded(String beanName) {
+		return getEditorInput() instanceof GraphEditorInput
+				&& ((GraphEditorInput) getEditorInput()).isExpanded(beanName);
+	}
+
 	protected void closeEditor() {
 		getSite().getPage().closeEditor(this, false);
 	}
@@ -261,7 +278,15 @@ public class GraphEditor extends EditorPart implements ISelectionListener {
 								public void run() {
 									if (getGraphicalViewer() != null && getGraphicalViewer().getControl() != null) {
 										setPartName(input.getName());
-										setContentDescription(input.getToolTipText());
+										if (graph.isFocused()) {
+											setContentDescription(MessageFormat.format(
+													BeansGraphPlugin.getResourceString("Graph.focused.description"),
+													input.getToolTipText(), graph.getBeansCount(),
+													graph.getScopeSize()));
+										}
+										else {
+											setContentDescription(input.getToolTipText());
+										}
 
 										graph.layout(getGraphicalViewer().getControl().getFont());
 										getGraphicalViewer().setContents(graph);
@@ -389,6 +414,9 @@ public class GraphEditor extends EditorPart implements ISelectionListener {
 		action = new OpenConfigFile(this);
 		registry.registerAction(action);
 
+		action = new ExpandBean(this);
+		registry.registerAction(action);
+
 		action = new PrintAction(this);
 		registry.registerAction(action);
 	}
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.ui.graph.editor;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.IEditorInput;
@@ -51,6 +54,8 @@ public class GraphEditorInput implements IEditorInput, IPersistableElement {
 
 	private boolean hasError;
 
+	private final Set<String> expandedBeans = new LinkedHashSet<String>();
+
 	/**
 	 * Creates a list with all beans which are referenced from the model element defined by given ID.
 	 * @param elementID the model element's ID
@@ -148,6 +153,25 @@ public class GraphEditorInput implements IEditorInput, IPersistableElement {
 		return contextId;
 	}
 
+	/**
+	 * Returns the names of the beans whose neighbourhoods are shown if the graph is too large to be shown completely.
+	 */
+	public synchronized Set<String> getExpandedBeans() {
+		return new LinkedHashSet<String>(expandedBeans);
+	}
+
+	/**
+	 * Adds the neighbourhood of the given bean to the beans shown if the graph is too large to be shown completely.
+	 * @return <code>true</code> if the neighbourhood was not shown before
+	 */
+	public synchronized boolean expandBean(String beanName) {
+		return expandedBeans.add(beanName);
+	}
+
+	public synchronized boolean isExpanded(String beanName) {
+		return expandedBeans.contains(beanName);
+	}
+
 	public void setHasError(boolean hasError) {
 		this.hasError = hasError;
 	}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection.BeanType;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanConstructorArgument;
+import org.springframework.ide.eclipse.beans.core.model.IBeanProperty;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+
+/**
+ * Index of the bean references within the scope of a beans graph, i.e. the beans of a config, config set or bean
+ * looked up from a given context.
+ * <p>
+ * The references of a model element are looked up via {@link BeansModelUtils#getBeanReferences} only once and then
+ * served from the index. The beans a bean depends on and the beans depending on it are precomputed from these
+ * references, so neighbourhoods of a bean can be added to a graph without walking the whole scope again.
+ * <p>
+ * Indexes are shared by all graphs showing the same element and context and are discarded on every change of the
+ * beans model.
+ * @since 3.9.12
+ */
+public class BeansDependencyIndex {
+
+	private static final Map<String, BeansDependencyIndex> INDEXES = new ConcurrentHashMap<String, BeansDependencyIndex>();
+
+	private static final IModelChangeListener MODEL_CHANGE_LISTENER = new IModelChangeListener() {
+		public void elementChanged(ModelChangeEvent event) {
+			INDEXES.clear();
+		}
+	};
+
+	private static boolean listening = false;
+
+	private final IModelElement context;
+
+	private final Map<String, IBean> beans;
+
+	private final Map<IModelElement, Set<BeansConnection>> references = new ConcurrentHashMap<IModelElement, Set<BeansConnection>>();
+
+	private Map<String, Set<String>> dependencies;
+
+	private Map<String, Set<String>> dependents;
+
+	/**
+	 * Returns the index for the given scope, creating it if the beans model changed since it was last requested.
+	 * @param elementId the ID of the element the scope was created for
+	 * @param contextId the ID of the context bean references are resolved in
+	 * @param scope the beans of the scope
+	 */
+	public static BeansDependencyIndex getIndex(String elementId, String contextId, Collection<IBean> scope) {
+		ensureListening();
+		String key = elementId + '\n' + contextId;
+		BeansDependencyIndex index = INDEXES.get(key);
+		if (index == null || !index.beans.keySet().equals(getNames(scope))) {
+			index = new BeansDependencyIndex(BeansCorePlugin.getModel().getElement(contextId), scope);
+			INDEXES.put(key, index);
+		}
+		return index;
+	}
+
+	public static synchronized void dispose() {
+		if (listening) {
+			BeansCorePlugin.getModel().removeChangeListener(MODEL_CHANGE_LISTENER);
+			listening = false;
+		}
+		INDEXES.clear();
+	}
+
+	private static synchronized void ensureListening() {
+		if (!listening) {
+			BeansCorePlugin.getModel().addChangeListener(MODEL_CHANGE_LISTENER);
+			listening = true;
+		}
+	}
+
+	private static Set<String> getNames(Collection<IBean> scope) {
+		Set<String> names = new LinkedHashSet<String>();
+		for (IBean bean : scope) {
+			names.add(bean.getElementName());
+		}
+		return names;
+	}
+
+	private BeansDependencyIndex(IModelElement context, Collection<IBean> scope) {
+		this.context = context;
+		this.beans = new LinkedHashMap<String, IBean>();
+		for (IBean bean : scope) {
+			beans.put(bean.getElementName(), bean);
+		}
+	}
+
+	/**
+	 * Returns the beans of the scope of this index by name.
+	 */
+	public Map<String, IBean> getBeans() {
+		return Collections.unmodifiableMap(beans);
+	}
+
+	/**
+	 * Returns the non-recursive bean references of the given bean, constructor argument or property.
+	 */
+	public Set<BeansConnection> getBeanReferences(IModelElement element) {
+		Set<BeansConnection> connections = references.get(element);
+		if (connections == null) {
+			connections = BeansModelUtils.getBeanReferences(element, context, false);
+			references.put(element, connections);
+		}
+		return connections;
+	}
+
+	/**
+	 * Returns the names of the beans of the scope the given bean references.
+	 */
+	public Set<String> getDependencies(String beanName) {
+		Set<String> names = getDependencies().get(beanName);
+		return (names != null ? names : Collections.<String> emptySet());
+	}
+
+	/**
+	 * Returns the names of the beans of the scope referencing the given bean.
+	 */
+	public Set<String> getDependents(String beanName) {
+		getDependencies();
+		Set<String> names = dependents.get(beanName);
+		return (names != null ? names : Collections.<String> emptySet());
+	}
+
+	/**
+	 * Returns the names of the given bean and all beans it references or is referenced by.
+	 */
+	public Set<String> getNeighbourhood(String beanName) {
+		Set<String> names = new LinkedHashSet<String>();
+		names.add(beanName);
+		names.addAll(getDependencies(beanName));
+		names.addAll(getDependents(beanName));
+		return names;
+	}
+
+	/**
+	 * Returns the name of the bean with the most references from and to other beans of the scope, or
+	 * <code>null</code> if the scope is empty.
+	 */
+	public String getMostConnectedBean() {
+		String focus = null;
+		int maxDegree = -1;
+		for (String name : beans.keySet()) {
+			int degree = getDependencies(name).size() + getDependents(name).size();
+			if (degree > maxDegree) {
+				focus = name;
+				maxDegree = degree;
+			}
+		}
+		return focus;
+	}
+
+	private synchronized Map<String, Set<String>> getDependencies() {
+		if (dependencies == null) {
+			Map<String, Set<String>> dependencies = new HashMap<String, Set<String>>();
+			Map<String, Set<String>> dependents = new HashMap<String, Set<String>>();
+			for (IBean bean : beans.values()) {
+				Set<String> targets = new LinkedHashSet<String>();
+				addTargets(targets, bean, bean);
+				for (IBeanConstructorArgument carg : bean.getConstructorArguments()) {
+					addTargets(targets, bean, carg);
+				}
+				for (IBeanProperty property : bean.getProperties()) {
+					addTargets(targets, bean, property);
+				}
+				dependencies.put(bean.getElementName(), targets);
+				for (String target : targets) {
+					Set<String> sources = dependents.get(target);
+					if (sources == null) {
+						sources = new LinkedHashSet<String>();
+						dependents.put(target, sources);
+					}
+					sources.add(bean.getElementName());
+				}
+			}
+			this.dependents = dependents;
+			this.dependencies = dependencies;
+		}
+		return dependencies;
+	}
+
+	private void addTargets(Set<String> targets, IBean bean, IModelElement element) {
+		for (BeansConnection connection : getBeanReferences(element)) {
+			IBean target = connection.getTarget();
+			if (target != null && connection.getType() != BeanType.INNER
+					&& !bean.getElementName().equals(target.getElementName())
+					&& beans.containsKey(target.getElementName())) {
+				targets.add(target.getElementName());
+			}
+		}
+	}
+
+}
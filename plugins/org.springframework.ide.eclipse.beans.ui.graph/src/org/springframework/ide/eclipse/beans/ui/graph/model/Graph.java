@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2010 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,10 @@ import org.springframework.ide.eclipse.core.model.IModelElement;
 /**
  * This class builds the graphical representation of the model data (given as {@link GraphEditorInput}) via GEF's
  * {@link DirectedGraphLayout}.
+ * <p>
+ * Bean references are looked up from a {@link BeansDependencyIndex}; graphs with more than
+ * {@link #MAX_UNFOCUSED_BEANS} beans only show the neighbourhoods of a focus bean and the beans expanded by the user.
+ * Layouts are reused from the {@link GraphLayoutCache} if the shown beans didn't change.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  */
@@ -74,6 +78,13 @@ public class Graph implements IAdaptable {
 
 	private static final String ERROR_TITLE = "Graph.error.title";
 
+	/*
+	 * Max number of beans shown completely; larger graphs are only shown around a focus bean and the beans expanded by
+	 * the user
+	 */
+	public static final int MAX_UNFOCUSED_BEANS = Integer.getInteger(BeansGraphPlugin.PLUGIN_ID + ".maxUnfocusedBeans",
+			200);
+
 	private GraphEditorInput input;
 
 	private DirectedGraph graph;
@@ -86,6 +97,12 @@ public class Graph implements IAdaptable {
 
 	private String contextId;
 
+	private BeansDependencyIndex index;
+
+	private int scopeSize;
+
+	private boolean focused;
+
 	public Graph() {
 		graph = new DirectedGraph();
 	}
@@ -134,6 +151,28 @@ public class Graph implements IAdaptable {
 		return graph.nodes;
 	}
 
+	/**
+	 * Returns <code>true</code> if this graph only shows the neighbourhoods of a focus bean and the beans expanded by
+	 * the user because the complete graph has more than {@link #MAX_UNFOCUSED_BEANS} beans.
+	 */
+	public boolean isFocused() {
+		return focused;
+	}
+
+	/**
+	 * Returns the number of beans this graph would show if it wasn't focused.
+	 */
+	public int getScopeSize() {
+		return scopeSize;
+	}
+
+	/**
+	 * Returns the number of beans shown by this graph.
+	 */
+	public int getBeansCount() {
+		return beans.size();
+	}
+
 	@SuppressWarnings({ "unchecked", "deprecation" })
 	public void layout(Font font) {
 
@@ -151,6 +190,13 @@ public class Graph implements IAdaptable {
 			bean.preferredHeight = size.height;
 		}
 
+		// Reuse the layout of a graph with the same beans and references
+		String structure = getStructure();
+		GraphLayoutCache.Layout cachedLayout = GraphLayoutCache.get(elementId, contextId, structure);
+		if (cachedLayout != null && applyLayout(cachedLayout)) {
+			return;
+		}
+
 		// Remove all unreferenced single beans and connect all unreferenced
 		// subgraphs with a temporary root bean
 		Bean root = new Bean();
@@ -260,6 +306,13 @@ public class Graph implements IAdaptable {
 				x += bean.width + DEFAULT_PADDING.getWidth();
 				graph.nodes.add(bean);
 			}
+
+			GraphLayoutCache.Layout layout = new GraphLayoutCache.Layout(structure);
+			for (int i = 0; i < graph.nodes.size(); i++) {
+				layout.addBean((Bean) graph.nodes.getNode(i));
+			}
+			layout.addReferences(graph.edges);
+			GraphLayoutCache.put(elementId, contextId, layout);
 		}
 		catch (RuntimeException e) {
 
@@ -275,6 +328,34 @@ public class Graph implements IAdaptable {
 		}
 	}
 
+	/**
+	 * Returns a description of the beans (with their sizes) and references of this graph which is used to look up a
+	 * cached layout.
+	 */
+	private String getStructure() {
+		StringBuilder structure = new StringBuilder();
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			Bean bean = (Bean) graph.nodes.getNode(i);
+			structure.append(GraphLayoutCache.getKey(bean)).append(':').append(bean.width).append('x')
+					.append(bean.height).append('\n');
+		}
+		for (int i = 0; i < graph.edges.size(); i++) {
+			Reference reference = (Reference) graph.edges.getEdge(i);
+			structure.append(GraphLayoutCache.getKey(reference)).append('\n');
+		}
+		return structure.toString();
+	}
+
+	private boolean applyLayout(GraphLayoutCache.Layout layout) {
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			if (!layout.applyTo((Bean) graph.nodes.getNode(i))) {
+				return false;
+			}
+		}
+		layout.applyTo(graph.edges);
+		return true;
+	}
+
 	@SuppressWarnings("deprecation")
 	protected void extendGraphContent() {
 		if (BeansUIPlugin.getDefault().getPluginPreferences()
@@ -331,10 +412,37 @@ public class Graph implements IAdaptable {
 			}
 		}
 
-		// Marshall all beans into a graph bean node
-		beans = new LinkedHashMap<String, Bean>();
+		Map<String, IBean> scope = new LinkedHashMap<String, IBean>();
 		for (IBean bean : list) {
 			if (shouldAddBean(bean)) {
+				scope.put(bean.getElementName(), bean);
+			}
+		}
+		index = BeansDependencyIndex.getIndex(elementId, contextId, scope.values());
+		scopeSize = scope.size();
+
+		// Large graphs are only shown around the focus bean and the beans expanded by the user
+		Set<String> visibleBeans = scope.keySet();
+		focused = scope.size() > MAX_UNFOCUSED_BEANS && !(getElement(elementId) instanceof IBean);
+		if (focused) {
+			if (input.getExpandedBeans().isEmpty()) {
+				String focus = index.getMostConnectedBean();
+				if (focus != null) {
+					input.expandBean(focus);
+				}
+			}
+			visibleBeans = new LinkedHashSet<String>();
+			for (String beanName : input.getExpandedBeans()) {
+				if (scope.containsKey(beanName)) {
+					visibleBeans.addAll(index.getNeighbourhood(beanName));
+				}
+			}
+		}
+
+		// Marshall all beans into a graph bean node
+		beans = new LinkedHashMap<String, Bean>();
+		for (IBean bean : scope.values()) {
+			if (visibleBeans.contains(bean.getElementName())) {
 				beans.put(bean.getElementName(), new Bean(bean));
 			}
 		}
@@ -361,15 +469,15 @@ public class Graph implements IAdaptable {
 
 	protected void createReferences() {
 		beanReferences = new ArrayList<Reference>();
-		// Add all beans defined in GraphEditorInput as nodes to the graph
+		// Add all beans defined in GraphEditorInput as nodes to the graph; the bean references are served from the
+		// dependency index
 		Iterator beans = this.beans.values().iterator();
 		while (beans.hasNext()) {
 			Bean bean = (Bean) beans.next();
 
 			// Add all beans references from bean (parent, factory or
 			// depends-on beans) to list of graph edges
-			Iterator beanRefs = BeansModelUtils.getBeanReferences(bean.getBean(),
-					BeansCorePlugin.getModel().getElement(contextId), false).iterator();
+			Iterator beanRefs = index.getBeanReferences(bean.getBean()).iterator();
 			while (beanRefs.hasNext()) {
 				BeansConnection beanRef = (BeansConnection) beanRefs.next();
 				Bean targetBean = this.beans.get(beanRef.getTarget().getElementName());
@@ -382,8 +490,7 @@ public class Graph implements IAdaptable {
 			// of graph edges
 			ConstructorArgument[] cargs = bean.getConstructorArguments();
 			for (ConstructorArgument carg : cargs) {
-				Iterator cargRefs = BeansModelUtils.getBeanReferences(carg.getBeanConstructorArgument(),
-						BeansCorePlugin.getModel().getElement(contextId), false).iterator();
+				Iterator cargRefs = index.getBeanReferences(carg.getBeanConstructorArgument()).iterator();
 				while (cargRefs.hasNext()) {
 					BeansConnection beanRef = (BeansConnection) cargRefs.next();
 					Bean targetBean = this.beans.get(beanRef.getTarget().getElementName());
@@ -396,8 +503,7 @@ public class Graph implements IAdaptable {
 			// Add all bean references in properties to list of graph edges
 			Property[] properties = bean.getProperties();
 			for (Property property : properties) {
-				Iterator propRefs = BeansModelUtils.getBeanReferences(property.getBeanProperty(),
-						BeansCorePlugin.getModel().getElement(contextId), false).iterator();
+				Iterator propRefs = index.getBeanReferences(property.getBeanProperty()).iterator();
 				while (propRefs.hasNext()) {
 					BeansConnection beanRef = (BeansConnection) propRefs.next();
 					Bean targetBean = this.beans.get(beanRef.getTarget().getElementName());
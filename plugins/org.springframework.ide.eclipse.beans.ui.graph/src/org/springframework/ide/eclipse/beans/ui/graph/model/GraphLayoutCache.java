@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.EdgeList;
+
+/**
+ * Cache of the results of laying out beans graphs, kept per element and context ID of the graph.
+ * <p>
+ * A cached layout is only reused if the graph has exactly the same structure as the graph it was computed for, i.e.
+ * the same beans with the same sizes and the same references. This way re-opening or refreshing a graph whose
+ * visible beans didn't change doesn't run the {@link DirectedGraphLayout} again.
+ * @since 3.9.12
+ */
+public class GraphLayoutCache {
+
+	private static final int MAX_CACHED_LAYOUTS = 32;
+
+	private static final Map<String, Layout> LAYOUTS = Collections.synchronizedMap(new LinkedHashMap<String, Layout>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest) {
+			return size() > MAX_CACHED_LAYOUTS;
+		}
+	});
+
+	/**
+	 * Returns the cached layout for the given graph or <code>null</code> if there is none for its current structure.
+	 */
+	public static Layout get(String elementId, String contextId, String structure) {
+		Layout layout = LAYOUTS.get(getKey(elementId, contextId));
+		return (layout != null && layout.structure.equals(structure) ? layout : null);
+	}
+
+	public static void put(String elementId, String contextId, Layout layout) {
+		LAYOUTS.put(getKey(elementId, contextId), layout);
+	}
+
+	public static void clear() {
+		LAYOUTS.clear();
+	}
+
+	private static String getKey(String elementId, String contextId) {
+		return elementId + '\n' + contextId;
+	}
+
+	/**
+	 * The positions of the beans and the bend points of the references of a laid out graph.
+	 */
+	public static class Layout {
+
+		private final String structure;
+
+		private final Map<String, Rectangle> bounds = new HashMap<String, Rectangle>();
+
+		private final Map<String, List<Point>> bendpoints = new HashMap<String, List<Point>>();
+
+		public Layout(String structure) {
+			this.structure = structure;
+		}
+
+		public void addBean(Bean bean) {
+			bounds.put(getKey(bean), new Rectangle(bean.x, bean.y, bean.width, bean.height));
+		}
+
+		/**
+		 * Remembers the bend points of the references in the given edge list. The layout reorders the edges of a
+		 * graph, so bend points are kept per reference (see {@link GraphLayoutCache#getKey(Reference)}) and not per
+		 * position.
+		 */
+		public void addReferences(EdgeList edges) {
+			Map<Reference, String> keys = getKeys(edges);
+			for (Map.Entry<Reference, String> entry : keys.entrySet()) {
+				bendpoints.put(entry.getValue(), entry.getKey().getBendpoints());
+			}
+		}
+
+		/**
+		 * Moves the given bean to its cached position.
+		 * @return <code>false</code> if there is no position for the bean
+		 */
+		public boolean applyTo(Bean bean) {
+			Rectangle rect = bounds.get(getKey(bean));
+			if (rect == null) {
+				return false;
+			}
+			bean.x = rect.x;
+			bean.y = rect.y;
+			bean.width = rect.width;
+			bean.height = rect.height;
+			return true;
+		}
+
+		/**
+		 * Sets the cached bend points of the references in the given edge list.
+		 */
+		public void applyTo(EdgeList edges) {
+			Map<Reference, String> keys = getKeys(edges);
+			for (Map.Entry<Reference, String> entry : keys.entrySet()) {
+				List<Point> points = bendpoints.get(entry.getValue());
+				if (points != null) {
+					entry.getKey().setBendpoints(points);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Returns the key identifying a bean of a graph.
+	 */
+	public static String getKey(Bean bean) {
+		return (bean.getBean() != null ? bean.getBean().getElementName() : bean.getName());
+	}
+
+	/**
+	 * Returns the key identifying a reference of a graph by its source, target, type and inner flag.
+	 */
+	public static String getKey(Reference reference) {
+		return getKey(reference.getSourceBean()) + "->" + getKey(reference.getTargetBean()) + ':'
+				+ reference.getType() + ':' + reference.isInner();
+	}
+
+	/**
+	 * Returns unique keys for the references in the given edge list. References with the same
+	 * {@link #getKey(Reference) key} are told apart by their ordinal among each other.
+	 */
+	private static Map<Reference, String> getKeys(EdgeList edges) {
+		Map<Reference, String> keys = new LinkedHashMap<Reference, String>();
+		Map<String, Integer> ordinals = new HashMap<String, Integer>();
+		for (int i = 0; i < edges.size(); i++) {
+			if (edges.getEdge(i) instanceof Reference) {
+				Reference reference = (Reference) edges.getEdge(i);
+				String key = getKey(reference);
+				Integer ordinal = ordinals.get(key);
+				ordinal = (ordinal != null ? ordinal + 1 : 0);
+				ordinals.put(key, ordinal);
+				keys.put(reference, key + '#' + ordinal);
+			}
+		}
+		return keys;
+	}
+
+}
@@ -10,9 +10,14 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.ui.graph.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection.BeanType;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
 
@@ -34,6 +39,8 @@ public class Reference extends Edge implements IAdaptable {
 	
 	private IResourceModelElement sourceLocation;
 
+	private List<Point> bendpoints;
+
 	public Reference(BeanType type, Bean source, Bean target, boolean isInner) {
 		this(type, source, target, null, isInner);
 	}
@@ -89,6 +96,38 @@ public class Reference extends Edge implements IAdaptable {
 		return getSourceBean().getBean();
 	}
 
+	/**
+	 * Returns the bend points of this edge, either the ones taken from a cached layout or the ones calculated from the
+	 * edge's virtual nodes (if any).
+	 */
+	public List<Point> getBendpoints() {
+		if (bendpoints != null) {
+			return bendpoints;
+		}
+		List<Point> points = new ArrayList<Point>();
+		NodeList nodes = vNodes;
+		if (nodes != null) {
+			for (int i = 0; i < nodes.size(); i++) {
+				Node node = nodes.getNode(i);
+
+				// Check if edge was inverted (due to broken cycle)
+				if (isFeedback()) {
+					points.add(new Point(node.x, node.y + node.height));
+					points.add(new Point(node.x, node.y));
+				}
+				else {
+					points.add(new Point(node.x, node.y));
+					points.add(new Point(node.x, node.y + node.height));
+				}
+			}
+		}
+		return points;
+	}
+
+	public void setBendpoints(List<Point> bendpoints) {
+		this.bendpoints = bendpoints;
+	}
+
 	public int getStartLine() {
 		if (node instanceof Property) {
 			return ((Property) node).getBeanProperty().getElementStartLine();
@@ -20,10 +20,10 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.PolylineConnection;
 import org.eclipse.draw2d.PolylineDecoration;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.Node;
-import org.eclipse.draw2d.graph.NodeList;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.Request;
 import org.eclipse.gef.RequestConstants;
@@ -101,28 +101,8 @@ public class ReferencePart extends AbstractConnectionEditPart {
 		}
 
 		// Create bend points for edge's virtual nodes (if any)
-		NodeList nodes = edge.vNodes;
-		if (nodes != null) {
-			for (int i = 0; i < nodes.size(); i++) {
-				Node node = nodes.getNode(i);
-
-				// Check if edge was inverted (due to broken cycle)
-				if (edge.isFeedback()) {
-					bends.add(new AbsoluteBendpoint(node.x
-							+ GraphPart.MARGIN_SIZE, node.y
-							+ GraphPart.MARGIN_SIZE + node.height));
-					bends.add(new AbsoluteBendpoint(node.x
-							+ GraphPart.MARGIN_SIZE, node.y
-							+ GraphPart.MARGIN_SIZE));
-				} else {
-					bends.add(new AbsoluteBendpoint(node.x
-							+ GraphPart.MARGIN_SIZE, node.y
-							+ GraphPart.MARGIN_SIZE));
-					bends.add(new AbsoluteBendpoint(node.x
-							+ GraphPart.MARGIN_SIZE, node.y
-							+ GraphPart.MARGIN_SIZE + node.height));
-				}
-			}
+		for (Point point : getReference().getBendpoints()) {
+			bends.add(new AbsoluteBendpoint(point.x + GraphPart.MARGIN_SIZE, point.y + GraphPart.MARGIN_SIZE));
 		}
 		conn.setRoutingConstraint(bends);
 		conn.setTargetDecoration(new PolylineDecoration());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2011 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -60,6 +60,9 @@ public abstract class AbstractRenameRefactoringParticipant extends RenamePartici
 		for (IBeansProject beansProject : projects) {
 			Set<IBeansConfig> beansConfigs = beansProject.getConfigs();
 			for (IBeansConfig beansConfig : beansConfigs) {
+				if (pm.isCanceled()) {
+					throw new OperationCanceledException();
+				}
 				if (!processedResources.contains(beansConfig.getElementResource())) {
 					addChange(result, beansConfig.getElementResource(), pm);
 					processedResources.add(beansConfig.getElementResource());
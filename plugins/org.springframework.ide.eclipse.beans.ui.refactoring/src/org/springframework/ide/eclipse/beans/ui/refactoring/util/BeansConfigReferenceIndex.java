@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.refactoring.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Offset index of the attribute values and text contents of an XML config file.
+ * <p>
+ * The index is built by scanning the text of the file instead of loading its SSE model. It records the offset of
+ * every quoted attribute value and every text node that doesn't contain entity references, so that references to
+ * Java elements can be replaced without a DOM, and it records all attribute names, so that refactorings can tell
+ * whether a file can contain a reference before they load the DOM model of the file.
+ * <p>
+ * Indexes are cached per file and reused as long as the modification stamp of the file doesn't change. Files with
+ * unsaved changes in an editor are indexed from the editor's document and not cached.
+ * @since 3.9.12
+ */
+public class BeansConfigReferenceIndex {
+
+	private static final int MAX_CACHED_INDEXES = 2048;
+
+	private static final Map<String, BeansConfigReferenceIndex> INDEXES = Collections
+			.synchronizedMap(new LinkedHashMap<String, BeansConfigReferenceIndex>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, BeansConfigReferenceIndex> eldest) {
+					return size() > MAX_CACHED_INDEXES;
+				}
+			});
+
+	private final long modificationStamp;
+
+	/** The offsets of all attribute values and text contents, by value */
+	private final SortedMap<String, int[]> values = new TreeMap<String, int[]>();
+
+	private final Set<String> attributeNames = new HashSet<String>();
+
+	/**
+	 * Returns the index of the given file or <code>null</code> if the file can't be read.
+	 */
+	public static BeansConfigReferenceIndex getIndex(IFile file) {
+		ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(),
+				LocationKind.IFILE);
+		if (buffer != null && buffer.isDirty()) {
+			return new BeansConfigReferenceIndex(buffer.getDocument().get(), -1);
+		}
+
+		String key = file.getFullPath().toString();
+		long modificationStamp = file.getModificationStamp();
+		BeansConfigReferenceIndex index = INDEXES.get(key);
+		if (index == null || index.modificationStamp != modificationStamp) {
+			String text = readFile(file);
+			if (text == null) {
+				INDEXES.remove(key);
+				return null;
+			}
+			index = new BeansConfigReferenceIndex(text, modificationStamp);
+			INDEXES.put(key, index);
+		}
+		return index;
+	}
+
+	public static void clear() {
+		INDEXES.clear();
+	}
+
+	private static String readFile(IFile file) {
+		if (!file.exists()) {
+			return null;
+		}
+		InputStream stream = null;
+		try {
+			stream = file.getContents(true);
+			Reader reader = new InputStreamReader(stream, file.getCharset());
+			StringBuilder text = new StringBuilder();
+			char[] chars = new char[8192];
+			int read;
+			while ((read = reader.read(chars)) >= 0) {
+				text.append(chars, 0, read);
+			}
+
+			// Documents don't contain the byte order mark
+			if (text.length() > 0 && text.charAt(0) == '\uFEFF') {
+				text.deleteCharAt(0);
+			}
+			return text.toString();
+		}
+		catch (CoreException e) {
+			return null;
+		}
+		catch (IOException e) {
+			return null;
+		}
+		finally {
+			if (stream != null) {
+				try {
+					stream.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	private BeansConfigReferenceIndex(String text, long modificationStamp) {
+		this.modificationStamp = modificationStamp;
+		scan(text);
+	}
+
+	/**
+	 * Returns <code>true</code> if an attribute value or a text content of the file equals the given value.
+	 */
+	public boolean containsValue(String value) {
+		return values.containsKey(value);
+	}
+
+	/**
+	 * Returns <code>true</code> if an element of the file has an attribute with the given qualified name.
+	 */
+	public boolean containsAttributeName(String name) {
+		return attributeNames.contains(name);
+	}
+
+	/**
+	 * Returns the attribute values and text contents starting with the given prefix, mapped to the offsets they are
+	 * found at.
+	 */
+	public SortedMap<String, int[]> getValuesStartingWith(String prefix) {
+		return values.subMap(prefix, prefix + Character.MAX_VALUE);
+	}
+
+	private void scan(String text) {
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			int tagStart = text.indexOf('<', i);
+			int textEnd = (tagStart < 0 ? length : tagStart);
+			addText(text, i, textEnd);
+			if (tagStart < 0) {
+				return;
+			}
+			if (text.startsWith("<!--", tagStart)) {
+				i = skipTo(text, tagStart + 4, "-->");
+			}
+			else if (text.startsWith("<![CDATA[", tagStart)) {
+				i = skipTo(text, tagStart + 9, "]]>");
+			}
+			else if (text.startsWith("<?", tagStart)) {
+				i = skipTo(text, tagStart + 2, "?>");
+			}
+			else if (text.startsWith("<!", tagStart)) {
+				i = skipDeclaration(text, tagStart + 2);
+			}
+			else if (text.startsWith("</", tagStart)) {
+				i = skipTo(text, tagStart + 2, ">");
+			}
+			else {
+				i = scanStartTag(text, tagStart + 1);
+			}
+		}
+	}
+
+	/**
+	 * Scans the attributes of a start tag and returns the offset after the end of the tag.
+	 */
+	private int scanStartTag(String text, int i) {
+		int length = text.length();
+
+		// Skip the element name
+		while (i < length && !isTagDelimiter(text.charAt(i))) {
+			i++;
+		}
+		while (i < length) {
+			char c = text.charAt(i);
+			if (c == '>') {
+				return i + 1;
+			}
+			else if (Character.isWhitespace(c) || c == '/') {
+				i++;
+				continue;
+			}
+
+			int nameStart = i;
+			while (i < length && !isTagDelimiter(text.charAt(i)) && text.charAt(i) != '=') {
+				i++;
+			}
+			attributeNames.add(text.substring(nameStart, i));
+			while (i < length && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+			if (i >= length || text.charAt(i) != '=') {
+				continue;
+			}
+			i++;
+			while (i < length && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+			if (i >= length) {
+				return length;
+			}
+			char quote = text.charAt(i);
+			if (quote == '"' || quote == '\'') {
+				int valueEnd = text.indexOf(quote, i + 1);
+				if (valueEnd < 0) {
+					return length;
+				}
+				addValue(text.substring(i + 1, valueEnd), i + 1);
+				i = valueEnd + 1;
+			}
+			else {
+				// Unquoted values are not valid XML; skip them
+				while (i < length && !isTagDelimiter(text.charAt(i))) {
+					i++;
+				}
+			}
+		}
+		return length;
+	}
+
+	private void addText(String text, int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		String value = text.substring(start, end);
+		if (value.trim().length() > 0 && value.indexOf('&') < 0) {
+			addValue(value, start);
+		}
+	}
+
+	private void addValue(String value, int offset) {
+		if (value.indexOf('&') >= 0) {
+			return;
+		}
+		int[] offsets = values.get(value);
+		if (offsets == null) {
+			offsets = new int[] { offset };
+		}
+		else {
+			int[] newOffsets = new int[offsets.length + 1];
+			System.arraycopy(offsets, 0, newOffsets, 0, offsets.length);
+			newOffsets[offsets.length] = offset;
+			offsets = newOffsets;
+		}
+		values.put(value, offsets);
+	}
+
+	private static boolean isTagDelimiter(char c) {
+		return Character.isWhitespace(c) || c == '>' || c == '/';
+	}
+
+	private static int skipTo(String text, int i, String end) {
+		int index = text.indexOf(end, i);
+		return (index < 0 ? text.length() : index + end.length());
+	}
+
+	/**
+	 * Skips a declaration like a DOCTYPE, including its internal subset.
+	 */
+	private static int skipDeclaration(String text, int i) {
+		int depth = 0;
+		for (; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '[') {
+				depth++;
+			}
+			else if (c == ']') {
+				depth--;
+			}
+			else if (c == '>' && depth <= 0) {
+				return i + 1;
+			}
+		}
+		return text.length();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.beans.ui.refactoring.util;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -35,7 +36,6 @@ import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
 import org.eclipse.wst.xml.core.internal.document.AttrImpl;
 import org.eclipse.wst.xml.core.internal.document.DOMModelImpl;
-import org.eclipse.wst.xml.core.internal.document.TextImpl;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMDocument;
 import org.springframework.ide.eclipse.beans.ui.editor.util.BeansEditorUtils;
 import org.springframework.ide.eclipse.beans.ui.refactoring.ltk.RenameIdType;
@@ -46,6 +46,13 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 /**
+ * Creates the changes of XML config files for refactorings of Java elements
+ * and bean IDs.
+ * <p>
+ * The {@link BeansConfigReferenceIndex} of a file is consulted before its SSE
+ * model is loaded, so files that can't contain a reference are skipped.
+ * References to types and packages are replaced directly from the offsets in
+ * the index.
  * @author Christian Dupuis
  * @author Torsten Juergeleit
  * @author Martin Lippert
@@ -57,6 +64,11 @@ public class BeansRefactoringChangeUtils {
 
 	public static Change createConstructorArgumentRenameChange(IFile file, IJavaElement affectedElement, String newName,
 			IProgressMonitor pm) throws CoreException {
+		BeansConfigReferenceIndex index = BeansConfigReferenceIndex.getIndex(file);
+		if (index != null && !index.containsAttributeName("c:" + affectedElement.getElementName())
+				&& !index.containsAttributeName("c:" + affectedElement.getElementName() + "-ref")) {
+			return null;
+		}
 		IStructuredModel model = null;
 		try {
 			model = StructuredModelManager.getModelManager().getModelForRead(file);
@@ -133,6 +145,9 @@ public class BeansRefactoringChangeUtils {
 
 	public static Change createMethodRenameChange(IFile file, IJavaElement[] affectedElements, String[] newNames,
 			IProgressMonitor pm) throws CoreException {
+		if (!mayReferenceMethods(file, affectedElements)) {
+			return null;
+		}
 		IStructuredModel model = null;
 		try {
 			model = StructuredModelManager.getModelManager().getModelForRead(file);
@@ -170,6 +185,31 @@ public class BeansRefactoringChangeUtils {
 		return null;
 	}
 
+	/**
+	 * Returns <code>false</code> if the given file doesn't contain a property
+	 * name or method attribute that refers to one of the given methods.
+	 */
+	private static boolean mayReferenceMethods(IFile file, IJavaElement[] affectedElements) {
+		BeansConfigReferenceIndex index = BeansConfigReferenceIndex.getIndex(file);
+		if (index == null) {
+			return true;
+		}
+		for (IJavaElement element : affectedElements) {
+			String methodName = element.getElementName();
+			if (methodName.startsWith("set")) {
+				String propertyName = StringUtils.uncapitalize(methodName.substring(3));
+				if (index.containsValue(propertyName) || index.containsAttributeName("p:" + propertyName)
+						|| index.containsAttributeName("p:" + propertyName + "-ref")) {
+					return true;
+				}
+			}
+			else if (index.containsValue(methodName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static Set<TextEdit> createMethodTextEdits(Node node, IJavaElement element, String newName, IFile file) {
 		if (node == null) {
 			return null;
@@ -266,6 +306,10 @@ public class BeansRefactoringChangeUtils {
 
 	public static Change createRenameBeanIdChange(IFile file, RenameIdType descriptor, String oldBeanId, String newBeanId,
 			boolean updateReferences, IProgressMonitor monitor) throws CoreException {
+		BeansConfigReferenceIndex index = BeansConfigReferenceIndex.getIndex(file);
+		if (index != null && !index.containsValue(oldBeanId)) {
+			return null;
+		}
 		IStructuredModel model = null;
 		try {
 			model = StructuredModelManager.getModelManager().getModelForRead(file);
@@ -346,6 +390,10 @@ public class BeansRefactoringChangeUtils {
 
 	public static TextFileChange createRenameBeanRefsChange(IFile file, RenameIdType descriptor,
 			String oldBeanId, String newBeanId, IProgressMonitor monitor) throws CoreException {
+		BeansConfigReferenceIndex index = BeansConfigReferenceIndex.getIndex(file);
+		if (index != null && !index.containsValue(oldBeanId)) {
+			return null;
+		}
 		IStructuredModel model = null;
 		try {
 			model = StructuredModelManager.getModelManager().getModelForRead(file);
@@ -457,85 +505,36 @@ public class BeansRefactoringChangeUtils {
 
 	public static void createRenameChange(TextChange textChange, TextEdit textEdit, IFile file, IJavaElement[] affectedElements, String[] newNames,
 			IProgressMonitor monitor) throws CoreException {
+		BeansConfigReferenceIndex index = BeansConfigReferenceIndex.getIndex(file);
+		if (index == null) {
+			return;
+		}
 		IJavaProject jp = JdtUtils.getJavaProject(file.getProject());
-		IStructuredModel model = null;
-		try {
-			model = StructuredModelManager.getModelManager().getModelForRead(file);
+		for (int j = 0; j < affectedElements.length; j++) {
 
-			if (model == null) {
-				return;
-			}
-
-			IDOMDocument document = ((DOMModelImpl) model).getDocument();
-			NodeList nodes = document.getChildNodes();
-			for (int j = 0; j < affectedElements.length; j++) {
-
-				IJavaElement je = affectedElements[j];
+			IJavaElement je = affectedElements[j];
 
-				// check that the element we are about to change is on the file's classpath
-				if (jp == null || (jp != null && jp.isOnClasspath(je))) {
-					for (int i = 0; i < nodes.getLength(); i++) {
-						Node n = nodes.item(i);
-						recursiveCreateTextEdit(newNames[j], textChange, textEdit, je, n);
-					}
-				}
+			// check that the element we are about to change is on the file's classpath
+			if (jp == null || (jp != null && jp.isOnClasspath(je))) {
+				createTextEdits(index, je, newNames[j], textChange, textEdit);
 			}
 		}
-		catch (IOException e) {
-		}
-		finally {
-			if (model != null) {
-				model.releaseFromRead();
-			}
-		}
-	}
-
-	private static void recursiveCreateTextEdit(String newName, TextChange textChange, TextEdit textEdit, IJavaElement je, Node n) {
-		createTextEdit(n, je, newName, textChange, textEdit);
-		NodeList children = n.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			recursiveCreateTextEdit(newName, textChange, textEdit, je, children.item(i));
-		}
 	}
 
-	private static void createTextEdit(Node node, IJavaElement element, String newName, TextChange textChange, TextEdit textEdit) {
-		if (node == null) {
-			return;
-		}
-
+	private static void createTextEdits(BeansConfigReferenceIndex index, IJavaElement element, String newName,
+			TextChange textChange, TextEdit textEdit) {
 		String oldName = (element instanceof IType) ? ((IType) element).getFullyQualifiedName('$') : element
 				.getElementName();
 
-		// creating replace edits for attributes
-		NamedNodeMap attributes = node.getAttributes();
-		if (attributes != null) {
-			for (int i = 0; i < attributes.getLength(); i++) {
-				String attribute = attributes.item(i).getNodeValue();
-				if (oldName.equals(attribute) || isGoodMatch(attribute, oldName, element instanceof IPackageFragment)) {
-					AttrImpl attr = (AttrImpl) attributes.getNamedItem(attributes.item(i).getNodeName());
-					int offset = attr.getValueRegionStartOffset() + 1;
-					if (offset >= 0) {
-						ReplaceEdit edit = new ReplaceEdit(offset, oldName.length(), newName);
+		// creating replace edits for attribute values and value strings
+		for (Map.Entry<String, int[]> entry : index.getValuesStartingWith(oldName).entrySet()) {
+			String value = entry.getKey();
+			if (oldName.equals(value) || isGoodMatch(value, oldName, element instanceof IPackageFragment)) {
+				for (int offset : entry.getValue()) {
+					ReplaceEdit edit = new ReplaceEdit(offset, oldName.length(), newName);
 
-						textEdit.addChild(edit);
-						textChange.addTextEditGroup(new TextEditGroup("Update class reference", edit));
-					}
-				}
-			}
-		}
-		
-		// creating replace edits for value strings
-		if (node instanceof TextImpl) {
-			String value = node.getNodeValue();
-			if (value != null) {
-				if (oldName.equals(value) || isGoodMatch(value, oldName, element instanceof IPackageFragment)) {
-					int offset = ((TextImpl)node).getStartOffset();
-					if (offset >= 0) {
-						ReplaceEdit edit = new ReplaceEdit(offset, oldName.length(), newName);
-
-						textEdit.addChild(edit);
-						textChange.addTextEditGroup(new TextEditGroup("Update class reference", edit));
-					}
+					textEdit.addChild(edit);
+					textChange.addTextEditGroup(new TextEditGroup("Update class reference", edit));
 				}
 			}
 		}
@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.search.internal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.LookupOverride;
+import org.springframework.beans.factory.support.MethodOverride;
+import org.springframework.beans.factory.support.ReplaceOverride;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.Bean;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanAlias;
+import org.springframework.ide.eclipse.beans.core.model.IBeanProperty;
+import org.springframework.ide.eclipse.beans.core.model.IBeanReference;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansList;
+import org.springframework.ide.eclipse.beans.core.model.IBeansMap;
+import org.springframework.ide.eclipse.beans.core.model.IBeansMapEntry;
+import org.springframework.ide.eclipse.beans.core.model.IBeansModel;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.beans.core.model.IBeansSet;
+import org.springframework.ide.eclipse.beans.core.model.IBeansTypedString;
+import org.springframework.ide.eclipse.beans.core.model.IBeansValueHolder;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+
+/**
+ * Search index of the beans model used by the beans queries.
+ * <p>
+ * For every {@link IBeansConfig} the names of its beans and their aliases, the bean class names, the property names,
+ * the parent bean names and the names of all referenced beans are mapped to the model elements a query reports for
+ * them. A query then only matches its pattern against the distinct names of a config instead of visiting all its
+ * model elements. The index of a config is built on first use and kept until the beans model reports a change of the
+ * config or its project.
+ * @since 3.9.12
+ */
+public class BeansSearchIndex {
+
+	/**
+	 * The kinds of names kept in the index.
+	 */
+	public enum Kind {
+
+		/** Bean names and aliases, mapped to the bean */
+		BEAN_NAME,
+
+		/** Bean class names, mapped to the bean */
+		BEAN_CLASS,
+
+		/** Property names, mapped to the bean */
+		PROPERTY_NAME,
+
+		/** Parent bean names, mapped to the child bean */
+		PARENT_NAME,
+
+		/** Names of referenced beans, mapped to the referencing alias, bean or value holder */
+		REFERENCE
+	}
+
+	public static final String PROXY_FACTORY_CLASS_NAME = "org.springframework.aop.framework.ProxyFactoryBean";
+
+	private static final int CANCEL_CHECK_INTERVAL = 1000;
+
+	private static final Map<String, ConfigIndex> INDEXES = new ConcurrentHashMap<String, ConfigIndex>();
+
+	private static final IModelChangeListener MODEL_CHANGE_LISTENER = new IModelChangeListener() {
+		public void elementChanged(ModelChangeEvent event) {
+			IModelElement element = event.getElement();
+			if (element instanceof IBeansConfig) {
+				INDEXES.remove(element.getElementID());
+			}
+			else if (element instanceof IBeansProject) {
+				String prefix = element.getElementID() + IModelElement.ID_DELIMITER;
+				Iterator<String> ids = INDEXES.keySet().iterator();
+				while (ids.hasNext()) {
+					if (ids.next().startsWith(prefix)) {
+						ids.remove();
+					}
+				}
+			}
+			else {
+				INDEXES.clear();
+			}
+		}
+	};
+
+	private static boolean listening = false;
+
+	/**
+	 * Returns the elements within the given scope with a name of the given kind matching the given pattern, in the
+	 * order of the beans model.
+	 * @param exactName the name to look up instead of matching the pattern, or <code>null</code>
+	 * @throws OperationCanceledException if the given monitor is canceled
+	 */
+	public static List<IModelElement> getMatches(BeansSearchScope scope, Kind kind, Pattern pattern,
+			String exactName, IProgressMonitor monitor) {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+		ensureListening();
+		Set<IModelElement> elements = new LinkedHashSet<IModelElement>();
+		for (IModelElement element : scope.getModelElements()) {
+			addIndexedElements(element, elements);
+		}
+
+		List<IModelElement> matches = new ArrayList<IModelElement>();
+		monitor.beginTask("", elements.size());
+		try {
+			for (IModelElement element : elements) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				getIndex(element, monitor).addMatches(kind, pattern, exactName, matches, monitor);
+				monitor.worked(1);
+			}
+		}
+		finally {
+			monitor.done();
+		}
+		return matches;
+	}
+
+	public static synchronized void dispose() {
+		if (listening) {
+			BeansCorePlugin.getModel().removeChangeListener(MODEL_CHANGE_LISTENER);
+			listening = false;
+		}
+		INDEXES.clear();
+	}
+
+	private static synchronized void ensureListening() {
+		if (!listening) {
+			BeansCorePlugin.getModel().addChangeListener(MODEL_CHANGE_LISTENER);
+			listening = true;
+		}
+	}
+
+	/**
+	 * Adds the configs of the given scope element, or the element itself if it is neither the model nor a project.
+	 */
+	private static void addIndexedElements(IModelElement element, Set<IModelElement> elements) {
+		if (element instanceof IBeansModel) {
+			for (IBeansProject project : ((IBeansModel) element).getProjects()) {
+				addIndexedElements(project, elements);
+			}
+		}
+		else if (element instanceof IBeansProject) {
+			elements.addAll(((IBeansProject) element).getConfigs());
+		}
+		else {
+			elements.add(element);
+		}
+	}
+
+	/**
+	 * Returns the index of the given element. Configs are served from the shared indexes; any other element is
+	 * indexed for a single search only.
+	 */
+	private static ConfigIndex getIndex(IModelElement element, IProgressMonitor monitor) {
+		if (!(element instanceof IBeansConfig)) {
+			return new ConfigIndex(element, monitor);
+		}
+		String id = element.getElementID();
+		ConfigIndex index = INDEXES.get(id);
+		if (index == null || index.element != element) {
+			index = new ConfigIndex(element, monitor);
+			INDEXES.put(id, index);
+		}
+		return index;
+	}
+
+	/**
+	 * The names of one config, or any other model element, and the elements they belong to.
+	 */
+	private static class ConfigIndex {
+
+		private final IModelElement element;
+
+		/** The indexed elements in the order they were visited */
+		private final List<IModelElement> elements = new ArrayList<IModelElement>();
+
+		/** The positions of the elements in {@link #elements} by name */
+		private final Map<Kind, Map<String, BitSet>> names = new EnumMap<Kind, Map<String, BitSet>>(Kind.class);
+
+		/**
+		 * @throws OperationCanceledException if the given monitor is canceled before the index is complete
+		 */
+		ConfigIndex(IModelElement element, IProgressMonitor monitor) {
+			this.element = element;
+			for (Kind kind : Kind.values()) {
+				names.put(kind, new HashMap<String, BitSet>());
+			}
+			element.accept(new IModelElementVisitor() {
+				public boolean visit(IModelElement element, IProgressMonitor monitor) {
+					addNames(element);
+					return true;
+				}
+			}, monitor);
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+		}
+
+		void addMatches(Kind kind, Pattern pattern, String exactName, List<IModelElement> matches,
+				IProgressMonitor monitor) {
+			Map<String, BitSet> namesOfKind = names.get(kind);
+			BitSet positions;
+			if (exactName != null) {
+				positions = namesOfKind.get(exactName);
+				if (positions == null) {
+					return;
+				}
+			}
+			else {
+				positions = new BitSet(elements.size());
+				int count = 0;
+				for (Map.Entry<String, BitSet> entry : namesOfKind.entrySet()) {
+					if (++count % CANCEL_CHECK_INTERVAL == 0 && monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					if (pattern.matcher(entry.getKey()).matches()) {
+						positions.or(entry.getValue());
+					}
+				}
+			}
+			for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+				matches.add(elements.get(i));
+			}
+		}
+
+		private void addNames(IModelElement element) {
+			int position = elements.size();
+			int count = 0;
+			if (element instanceof IBeanAlias) {
+				count += addName(Kind.REFERENCE, ((IBeanAlias) element).getBeanName(), position);
+			}
+			else if (element instanceof IBean) {
+				IBean bean = (IBean) element;
+				count += addName(Kind.BEAN_NAME, bean.getElementName(), position);
+				String[] aliases = bean.getAliases();
+				if (aliases != null) {
+					for (String alias : aliases) {
+						count += addName(Kind.BEAN_NAME, alias, position);
+					}
+				}
+				count += addName(Kind.BEAN_CLASS, bean.getClassName(), position);
+				for (IBeanProperty property : bean.getProperties()) {
+					count += addName(Kind.PROPERTY_NAME, property.getElementName(), position);
+				}
+				if (bean.isChildBean()) {
+					count += addName(Kind.PARENT_NAME, bean.getParentName(), position);
+					count += addName(Kind.REFERENCE, bean.getParentName(), position);
+				}
+				if (bean instanceof Bean) {
+					count += addReferences((AbstractBeanDefinition) ((Bean) bean).getBeanDefinition(), position);
+				}
+			}
+			else if (element instanceof IBeansValueHolder) {
+				count += addReferences(element, ((IBeansValueHolder) element).getValue(), position);
+			}
+			if (count > 0) {
+				elements.add(element);
+			}
+		}
+
+		/**
+		 * Adds the factory bean, depends-on and method override references of the given bean definition.
+		 */
+		private int addReferences(AbstractBeanDefinition bd, int position) {
+			int count = addName(Kind.REFERENCE, bd.getFactoryBeanName(), position);
+			String[] dependsOnBeanNames = bd.getDependsOn();
+			if (dependsOnBeanNames != null) {
+				for (String name : dependsOnBeanNames) {
+					count += addName(Kind.REFERENCE, name, position);
+				}
+			}
+			if (!bd.getMethodOverrides().isEmpty()) {
+				for (MethodOverride methodOverride : bd.getMethodOverrides().getOverrides()) {
+					if (methodOverride instanceof LookupOverride) {
+						count += addName(Kind.REFERENCE, ((LookupOverride) methodOverride).getBeanName(), position);
+					}
+					else if (methodOverride instanceof ReplaceOverride) {
+						count += addName(Kind.REFERENCE,
+								((ReplaceOverride) methodOverride).getMethodReplacerBeanName(), position);
+					}
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Adds the names of the beans referenced by the given value of the given value holder.
+		 */
+		private int addReferences(IModelElement element, Object value, int position) {
+			int count = 0;
+			if (value instanceof IBeanReference) {
+				count += addName(Kind.REFERENCE, ((IBeanReference) value).getBeanName(), position);
+			}
+			else if (value instanceof IBeansList) {
+
+				// Interceptors of a proxy factory bean are referenced by name
+				if (element instanceof IBeanProperty && element.getElementName().equals("interceptorNames")) {
+					String beanClass = BeansModelUtils.getBeanClass((IBean) element.getElementParent(), null);
+					if (PROXY_FACTORY_CLASS_NAME.equals(beanClass)) {
+						for (IModelElement child : ((IBeansList) value).getElementChildren()) {
+							if (child instanceof IBeansTypedString) {
+								count += addName(Kind.REFERENCE, ((IBeansTypedString) child).getString(), position);
+							}
+						}
+					}
+				}
+				else {
+					for (IModelElement child : ((IBeansList) value).getElementChildren()) {
+						count += addReferences(element, child, position);
+					}
+				}
+			}
+			else if (value instanceof IBeansSet) {
+				for (IModelElement child : ((IBeansSet) value).getElementChildren()) {
+					count += addReferences(element, child, position);
+				}
+			}
+			else if (value instanceof IBeansMap) {
+				for (IModelElement child : ((IBeansMap) value).getElementChildren()) {
+					if (child instanceof IBeansMapEntry) {
+						count += addReferences(element, ((IBeansMapEntry) child).getKey(), position);
+						count += addReferences(element, ((IBeansMapEntry) child).getValue(), position);
+					}
+				}
+			}
+			return count;
+		}
+
+		private int addName(Kind kind, String name, int position) {
+			if (name == null) {
+				return 0;
+			}
+			Map<String, BitSet> namesOfKind = names.get(kind);
+			BitSet positions = namesOfKind.get(name);
+			if (positions == null) {
+				positions = new BitSet();
+				namesOfKind.put(name, positions);
+			}
+			positions.set(position);
+			return 1;
+		}
+
+	}
+
+}
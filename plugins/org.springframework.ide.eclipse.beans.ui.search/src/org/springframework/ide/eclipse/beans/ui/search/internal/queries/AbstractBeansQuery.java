@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,27 +10,29 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.ui.search.internal.queries;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.search.ui.ISearchQuery;
 import org.eclipse.search.ui.ISearchResult;
 import org.eclipse.search.ui.text.Match;
 import org.springframework.ide.eclipse.beans.ui.search.BeansSearchPlugin;
+import org.springframework.ide.eclipse.beans.ui.search.internal.BeansSearchIndex;
 import org.springframework.ide.eclipse.beans.ui.search.internal.BeansSearchMessages;
 import org.springframework.ide.eclipse.beans.ui.search.internal.BeansSearchResult;
 import org.springframework.ide.eclipse.beans.ui.search.internal.BeansSearchScope;
 import org.springframework.ide.eclipse.core.MessageUtils;
 import org.springframework.ide.eclipse.core.model.IModelElement;
-import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
 import org.springframework.ide.eclipse.core.model.ISourceModelElement;
 import org.springsource.ide.eclipse.commons.core.PatternUtils;
 
 /**
+ * Base class for the beans queries. The elements matching a query are looked
+ * up in the {@link BeansSearchIndex}.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  */
@@ -39,6 +41,7 @@ public abstract class AbstractBeansQuery implements ISearchQuery {
 	private BeansSearchScope scope;
 	private String pattern;
 	private Pattern compiledPattern;
+	private String exactName;
 	private ISearchResult result;
 
 	public AbstractBeansQuery(BeansSearchScope scope, String pattern,
@@ -48,6 +51,13 @@ public abstract class AbstractBeansQuery implements ISearchQuery {
 		this.pattern = pattern;
 		this.compiledPattern = PatternUtils.createPattern(pattern,
 				isCaseSensitive, isRegexSearch);
+
+		// Patterns without wildcards are looked up directly in the index
+		if (isCaseSensitive && !isRegexSearch && pattern != null
+				&& pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0
+				&& pattern.indexOf('\\') < 0) {
+			this.exactName = pattern;
+		}
 	}
 
 	public BeansSearchScope getScope() {
@@ -76,34 +86,23 @@ public abstract class AbstractBeansQuery implements ISearchQuery {
 	public final IStatus run(IProgressMonitor monitor) {
 		final BeansSearchResult result = (BeansSearchResult) getSearchResult();
 		result.removeAll();
-		for (IModelElement element : scope.getModelElements()) {
-			if (monitor.isCanceled()) {
-				throw new OperationCanceledException();
+		List<IModelElement> elements = BeansSearchIndex.getMatches(scope,
+				getIndexKind(), compiledPattern, exactName, monitor);
+		for (IModelElement element : elements) {
+			int startLine;
+			int lines;
+			if (element instanceof ISourceModelElement) {
+				ISourceModelElement sourceElement =
+					(ISourceModelElement) element;
+				startLine = sourceElement.getElementStartLine();
+				lines = sourceElement.getElementEndLine() - startLine + 1;
+			} else {
+				startLine = -1;
+				lines = -1;
 			}
-			IModelElementVisitor visitor = new IModelElementVisitor() {
-				public boolean visit(IModelElement element,
-						IProgressMonitor monitor) {
-					if (doesMatch(element, compiledPattern, monitor)) {
-						int startLine;
-						int lines;
-						if (element instanceof ISourceModelElement) {
-							ISourceModelElement sourceElement =
-								(ISourceModelElement) element;
-							startLine = sourceElement.getElementStartLine();
-							lines = sourceElement.getElementEndLine()
-									- startLine + 1;
-						} else {
-							startLine = -1;
-							lines = -1;
-						}
-						Match match = new Match(element, Match.UNIT_LINE,
-								startLine, lines);
-						result.addMatch(match);
-					}
-					return true;
-				}
-			};
-			element.accept(visitor, monitor);
+			Match match = new Match(element, Match.UNIT_LINE, startLine,
+					lines);
+			result.addMatch(match);
 		}
 		Object[] args = new Object[] { new Integer(result.getMatchCount()) };
 		String message = MessageUtils.format(
@@ -113,9 +112,8 @@ public abstract class AbstractBeansQuery implements ISearchQuery {
 	}
 
 	/**
-	 * Returns <code>true</code> if given {@link IModelElement} matches
-	 * this query. 
+	 * Returns the kind of names in the {@link BeansSearchIndex} the pattern
+	 * of this query is matched against.
 	 */
-	protected abstract boolean doesMatch(IModelElement element,
-			Pattern pattern, IProgressMonitor monitor);
+	protected abstract BeansSearchIndex.Kind getIndexKind();
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2009 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,13 @@
 package org.springframework.ide.eclipse.beans.ui.search.jdt;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
@@ -77,7 +82,7 @@ public class BeansJavaSearchParticipant implements IQueryParticipant, IMatchPres
 		}
 
 		String search = null;
-		List<String> requiredTypeNames = new ArrayList<String>();
+		Set<String> requiredTypeNames = new HashSet<String>();
 		IJavaProject project = null;
 
 		if (querySpecification instanceof ElementQuerySpecification) {
@@ -129,6 +134,8 @@ public class BeansJavaSearchParticipant implements IQueryParticipant, IMatchPres
 			queries.add(new BeanReferenceQuery(scope, search, true, false));
 		}
 
+		// Bean classes are checked against the class path only once
+		Map<String, Boolean> visibleBeanClasses = new HashMap<String, Boolean>();
 		for (ISearchQuery query : queries) {
 			query.run(monitor);
 
@@ -139,9 +146,7 @@ public class BeansJavaSearchParticipant implements IQueryParticipant, IMatchPres
 					for (Match match : matches) {
 						if (match.getElement() instanceof IBean) {
 							IBean bean = (IBean) match.getElement();
-							IType type = JdtUtils.getJavaType(bean.getElementResource().getProject(), bean
-									.getClassName());
-							if (project == null || (type != null && project.isOnClasspath(type))) {
+							if (project == null || isVisible(project, bean, visibleBeanClasses)) {
 								if (searchFor == SEARCH_FOR_FIELDS) {
 									// check if the match fits to the selected class
 									String beanClass = BeansModelUtils.getBeanClass(bean, null);
@@ -163,7 +168,22 @@ public class BeansJavaSearchParticipant implements IQueryParticipant, IMatchPres
 		}
 	}
 
-	private void getTypeHierachy(IProgressMonitor monitor, List<String> requiredTypeNames, IType baseType) {
+	/**
+	 * Returns <code>true</code> if the class of the given bean is on the class path of the given project.
+	 */
+	private boolean isVisible(IJavaProject project, IBean bean, Map<String, Boolean> visibleBeanClasses) {
+		IProject beanProject = bean.getElementResource().getProject();
+		String key = beanProject.getName() + '/' + bean.getClassName();
+		Boolean visible = visibleBeanClasses.get(key);
+		if (visible == null) {
+			IType type = JdtUtils.getJavaType(beanProject, bean.getClassName());
+			visible = Boolean.valueOf(type != null && project.isOnClasspath(type));
+			visibleBeanClasses.put(key, visible);
+		}
+		return visible.booleanValue();
+	}
+
+	private void getTypeHierachy(IProgressMonitor monitor, Set<String> requiredTypeNames, IType baseType) {
 		try {
 			IType[] types = baseType.newTypeHierarchy(monitor).getAllSubtypes(baseType);
 			requiredTypeNames.add(baseType.getFullyQualifiedName());
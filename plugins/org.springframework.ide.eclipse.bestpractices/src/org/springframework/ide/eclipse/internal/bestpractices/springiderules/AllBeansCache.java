@@ -25,8 +25,11 @@ public class AllBeansCache {
 
 	private final Map<IModelElement, IBean[]> allBeansCache;
 
+	private final Map<IModelElement, BeanSignatureIndex> signatureIndexCache;
+
 	public AllBeansCache() {
 		allBeansCache = new ConcurrentHashMap<IModelElement, IBean[]>();
+		signatureIndexCache = new ConcurrentHashMap<IModelElement, BeanSignatureIndex>();
 	}
 
 	public IBean[] getAllBeans(IModelElement rootElement) {
@@ -40,4 +43,14 @@ public class AllBeansCache {
 		return allBeans;
 	}
 
+	public BeanSignatureIndex getSignatureIndex(IModelElement rootElement) {
+		BeanSignatureIndex index = signatureIndexCache.get(rootElement);
+		if (index == null) {
+			index = new BeanSignatureIndex(getAllBeans(rootElement));
+			signatureIndexCache.put(rootElement, index);
+		}
+
+		return index;
+	}
+
 }
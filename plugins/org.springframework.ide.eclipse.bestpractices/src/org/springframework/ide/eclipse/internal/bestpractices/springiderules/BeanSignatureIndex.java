@@ -0,0 +1,182 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Pivotal Software, Inc.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.internal.bestpractices.springiderules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.ide.eclipse.beans.core.internal.model.Bean;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeanReference;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansTypedString;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanProperty;
+
+/**
+ * Index of the beans of a validation scope that narrows the beans
+ * {@link UseBeanInheritance} has to compare a bean with.
+ * <p>
+ * Beans are bucketed by a canonical signature of the number of their
+ * constructor arguments and their init method, which two beans have to share
+ * to be similar. Within a bucket every property value that can be compared at
+ * all is reduced to a canonical key, and an inverted index from these keys to
+ * the beans is used to count the properties two beans have in common. Only
+ * beans that share enough properties are returned as candidates, so the full
+ * comparison is only done for a small group of beans.
+ * @since 3.9.12
+ */
+public class BeanSignatureIndex {
+
+	private final Map<IBean, Integer> positions = new IdentityHashMap<IBean, Integer>();
+
+	private final Map<String, Bucket> buckets = new HashMap<String, Bucket>();
+
+	/**
+	 * Beans the signature can't be computed for; these are candidates for
+	 * every other bean.
+	 */
+	private final List<IBean> unbucketedBeans = new ArrayList<IBean>();
+
+	private final IBean[] allBeans;
+
+	public BeanSignatureIndex(IBean[] allBeans) {
+		this.allBeans = allBeans;
+		for (int i = 0; i < allBeans.length; i++) {
+			IBean bean = allBeans[i];
+			positions.put(bean, i);
+			String signature = getSignature(bean);
+			if (signature == null) {
+				unbucketedBeans.add(bean);
+				continue;
+			}
+			Bucket bucket = buckets.get(signature);
+			if (bucket == null) {
+				bucket = new Bucket();
+				buckets.put(signature, bucket);
+			}
+			bucket.add(bean);
+		}
+	}
+
+	/**
+	 * Returns the beans that may be similar to the given bean, in the order
+	 * they were passed to this index. The returned beans still need to be
+	 * compared with the given bean; all other beans are known to be not
+	 * similar.
+	 * @param minNumSharedProperties the number of property values a similar
+	 * bean has to have in common with the given bean
+	 */
+	public List<IBean> getCandidates(IBean bean, int minNumSharedProperties) {
+		String signature = getSignature(bean);
+		if (signature == null) {
+			List<IBean> candidates = new ArrayList<IBean>(allBeans.length);
+			Collections.addAll(candidates, allBeans);
+			return candidates;
+		}
+
+		List<IBean> candidates = new ArrayList<IBean>(unbucketedBeans);
+		Bucket bucket = buckets.get(signature);
+		if (bucket != null) {
+			if (minNumSharedProperties <= 0) {
+				candidates.addAll(bucket.beans);
+			}
+			else {
+				Map<IBean, int[]> counts = new IdentityHashMap<IBean, int[]>();
+				for (IBeanProperty property : bean.getProperties()) {
+					String key = getPropertyKey(property);
+					List<IBean> beans = key != null ? bucket.postings.get(key) : null;
+					if (beans == null) {
+						continue;
+					}
+					for (IBean other : beans) {
+						int[] count = counts.get(other);
+						if (count == null) {
+							count = new int[1];
+							counts.put(other, count);
+						}
+						if (++count[0] == minNumSharedProperties) {
+							candidates.add(other);
+						}
+					}
+				}
+			}
+		}
+
+		Collections.sort(candidates, new Comparator<IBean>() {
+			public int compare(IBean bean1, IBean bean2) {
+				return positions.get(bean1).compareTo(positions.get(bean2));
+			}
+		});
+		return candidates;
+	}
+
+	/**
+	 * Returns the canonical signature of the given bean or <code>null</code>
+	 * if the init method of the bean is not known.
+	 */
+	static String getSignature(IBean bean) {
+		if (!(bean instanceof Bean)) {
+			return null;
+		}
+		String initMethod = ((AbstractBeanDefinition) ((Bean) bean).getBeanDefinition()).getInitMethodName();
+		return bean.getConstructorArguments().size() + ":" + (initMethod != null ? initMethod : "");
+	}
+
+	/**
+	 * Returns the canonical key of the given property or <code>null</code> if
+	 * the value of the property is never considered equal to another value.
+	 */
+	static String getPropertyKey(IBeanProperty property) {
+		Object value = property.getValue();
+		if (value instanceof BeansTypedString && ((BeansTypedString) value).getString() != null) {
+			return "s:" + property.getElementName() + '\0' + ((BeansTypedString) value).getString();
+		}
+		else if (value instanceof BeanReference && ((BeanReference) value).getBeanName() != null) {
+			return "r:" + property.getElementName() + '\0' + ((BeanReference) value).getBeanName();
+		}
+		return null;
+	}
+
+	private static class Bucket {
+
+		private final List<IBean> beans = new ArrayList<IBean>();
+
+		/**
+		 * The beans of this bucket by property key. A bean is listed once for
+		 * every property with the key, so counting the entries counts the
+		 * pairs of equal properties.
+		 */
+		private final Map<String, List<IBean>> postings = new HashMap<String, List<IBean>>();
+
+		void add(IBean bean) {
+			beans.add(bean);
+			for (IBeanProperty property : bean.getProperties()) {
+				String key = getPropertyKey(property);
+				if (key == null) {
+					continue;
+				}
+				List<IBean> beansWithKey = postings.get(key);
+				if (beansWithKey == null) {
+					beansWithKey = new ArrayList<IBean>();
+					postings.put(key, beansWithKey);
+				}
+				beansWithKey.add(bean);
+			}
+		}
+
+	}
+
+}
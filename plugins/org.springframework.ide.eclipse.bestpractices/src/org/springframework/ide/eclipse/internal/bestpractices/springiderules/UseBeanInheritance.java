@@ -11,7 +11,9 @@
 package org.springframework.ide.eclipse.internal.bestpractices.springiderules;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -75,7 +77,7 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 	 */
 	public void validate(IBean bean, IBeansValidationContext validationContext, IProgressMonitor progressMonitor) {
 
-		IBean[] allBeans = null;
+		BeanSignatureIndex signatureIndex = null;
 		if (validationContext instanceof IProjectContributorState) {
 			AllBeansCache allBeansCache = ((IProjectContributorState) validationContext).get(AllBeansCache.class);
 			if (allBeansCache == null) {
@@ -83,15 +85,17 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 				((IProjectContributorState) validationContext).hold(allBeansCache);
 			}
 
-			allBeans = allBeansCache.getAllBeans(validationContext.getRootElement());
+			signatureIndex = allBeansCache.getSignatureIndex(validationContext.getRootElement());
 		}
 		else {
 			Set<IBean> beans = BeansModelUtils.getBeans(validationContext.getRootElement());
-			allBeans = beans.toArray(new IBean[beans.size()]);
+			signatureIndex = new BeanSignatureIndex(beans.toArray(new IBean[beans.size()]));
 		}
 
+		// Only compare with the beans that share the signature and enough
+		// property values with this bean; all others can't be similar
 		List<IBean> similarBeanList = new ArrayList<IBean>();
-		for (IBean currBean : allBeans) {
+		for (IBean currBean : signatureIndex.getCandidates(bean, minNumSharedProperties)) {
 			if (isSimilar(bean, currBean)) {
 				similarBeanList.add(currBean);
 			}
@@ -200,33 +204,28 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 			return false;
 		}
 
-		// Count the number of matching properties
+		// Count the number of matching property pairs using the canonical
+		// property keys instead of comparing every pair of properties
+		Map<String, Integer> bean2PropertyKeys = new HashMap<String, Integer>();
+		for (IBeanProperty currProperty2 : bean2.getProperties()) {
+			String key = BeanSignatureIndex.getPropertyKey(currProperty2);
+			if (key != null) {
+				Integer count = bean2PropertyKeys.get(key);
+				bean2PropertyKeys.put(key, count != null ? count + 1 : 1);
+			}
+		}
 		int matchingPropertyCount = 0;
 		for (IBeanProperty currProperty1 : bean1.getProperties()) {
-			for (IBeanProperty currProperty2 : bean2.getProperties()) {
-				if (propertiesEqual(currProperty1, currProperty2)) {
-					matchingPropertyCount++;
-				}
+			String key = BeanSignatureIndex.getPropertyKey(currProperty1);
+			Integer count = key != null ? bean2PropertyKeys.get(key) : null;
+			if (count != null) {
+				matchingPropertyCount += count;
 			}
 		}
 
 		return matchingPropertyCount >= minNumSharedProperties;
 	}
 
-	/**
-	 * Two properties are considered equal if they have they refer to the same
-	 * property of the bean (element name) and their values are the same.
-	 * @return true if the two properties are the same
-	 */
-	private boolean propertiesEqual(IBeanProperty beanProperty1, IBeanProperty beanProperty2) {
-		if (beanProperty1.getElementName().equals(beanProperty2.getElementName())) {
-			if (propertyValuesEqual(beanProperty1.getValue(), beanProperty2.getValue())) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	private boolean propertyValuesEqual(Object value1, Object value2) {
 		if (value1 instanceof BeansTypedString && value2 instanceof BeansTypedString) {
 			BeansTypedString beansTypedString1 = (BeansTypedString) value1;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -45,11 +45,13 @@ import org.springframework.ide.eclipse.boot.dash.test.yaml.Yaml2DeploymentProper
 	BootDashElementTagsTests.class,
 	ActuatorClientTest.class,
 	ActuatorDataTest.class,
+	ApplicationLogBufferTest.class,
 	ToggleFiltersModelTest.class,
 	BeanResourceDefinitionParsingTests.class,
 
 	//Medium length (less than 30 seconds):
 	JarNameGeneratorTest.class,
+	ApplicationArchiveCacheTest.class,
 	BootJarPackagingTest.class,
 	BootDashViewModelTest.class,
 	DeploymentPropertiesDialogModelTests.class,
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging.ApplicationArchiveCache;
+
+public class ApplicationArchiveCacheTest {
+
+	private File folder;
+	private File contents;
+	private ApplicationArchiveCache cache;
+
+	@Before
+	public void setup() throws Exception {
+		folder = Files.createTempDirectory("archive-cache-test").toFile();
+		contents = new File(folder, "classes");
+		cache = new ApplicationArchiveCache(new File(folder, "cache"));
+		cache.getFolder().mkdirs();
+		write("com/example/Foo.class", "foo");
+		write("application.properties", "a=b");
+	}
+
+	@After
+	public void teardown() throws Exception {
+		FileUtils.deleteQuietly(folder);
+	}
+
+	@Test
+	public void fingerprintOnlyChangesWithContent() throws Exception {
+		String initial = cache.fingerprintFolder(contents);
+		assertEquals(initial, cache.fingerprintFolder(contents));
+
+		write("application.properties", "a=cc");
+		String changed = cache.fingerprintFolder(contents);
+		assertNotEquals(initial, changed);
+
+		write("application.properties", "a=b");
+		assertEquals(initial, cache.fingerprintFolder(contents));
+
+		write("com/example/Bar.class", "bar");
+		assertNotEquals(initial, cache.fingerprintFolder(contents));
+	}
+
+	@Test
+	public void sameSizeChangeWithinTimestampGranularityNoticed() throws Exception {
+		File file = new File(contents, "com/example/Foo.class");
+		long lastModified = file.lastModified();
+		String initial = cache.fingerprintFolder(contents);
+		String initialFile = cache.fingerprintFile(file);
+
+		//A recompile of the same size that the file system can't tell apart by its timestamp
+		write("com/example/Foo.class", "bar");
+		assertTrue(file.setLastModified(lastModified));
+		assertNotEquals(initial, cache.fingerprintFolder(contents));
+		assertNotEquals(initialFile, cache.fingerprintFile(file));
+	}
+
+	@Test
+	public void archiveOnlyRebuiltWhenInputsChange() throws Exception {
+		File archive = new File(cache.getFolder(), "app.jar");
+		AtomicInteger builds = new AtomicInteger();
+		ApplicationArchiveCache.ArchiveBuilder builder = (target) -> {
+			builds.incrementAndGet();
+			FileUtils.writeStringToFile(target, "archive", "UTF-8");
+		};
+
+		assertTrue(cache.update(archive, cache.fingerprintFolder(contents), builder));
+		assertFalse(cache.update(archive, cache.fingerprintFolder(contents), builder));
+		assertEquals(1, builds.get());
+
+		write("com/example/Foo.class", "changed");
+		assertTrue(cache.update(archive, cache.fingerprintFolder(contents), builder));
+		assertEquals(2, builds.get());
+
+		//A deleted archive is rebuilt even if its inputs didn't change
+		archive.delete();
+		assertTrue(cache.update(archive, cache.fingerprintFolder(contents), builder));
+		assertEquals(3, builds.get());
+	}
+
+	@Test
+	public void archiveReplacedOnlyOnceBuilt() throws Exception {
+		File archive = new File(cache.getFolder(), "app.jar");
+		FileUtils.writeStringToFile(archive, "old", "UTF-8");
+
+		assertTrue(cache.update(archive, cache.fingerprintFolder(contents), (target) -> {
+			assertNotEquals(archive, target);
+			assertEquals("old", FileUtils.readFileToString(archive, "UTF-8"));
+			FileUtils.writeStringToFile(target, "new", "UTF-8");
+		}));
+		assertEquals("new", FileUtils.readFileToString(archive, "UTF-8"));
+		assertArrayEquals(new String[] {"app.jar"}, cache.getFolder().list());
+	}
+
+	/**
+	 * Writes a file. Unless they are about timestamps, tests only change files to contents of a
+	 * different length, so that changes are noticed independently of the timestamp resolution of
+	 * the file system.
+	 */
+	private void write(String path, String content) throws IOException {
+		FileUtils.writeStringToFile(new File(contents, path), content, "UTF-8");
+	}
+
+}
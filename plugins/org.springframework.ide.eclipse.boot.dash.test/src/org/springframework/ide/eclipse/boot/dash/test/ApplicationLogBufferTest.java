@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.console.ApplicationLogBuffer;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.console.LogType;
+
+import reactor.core.publisher.Flux;
+
+public class ApplicationLogBufferTest {
+
+	/**
+	 * Records what is written to the console.
+	 */
+	private static class RecordingSink implements ApplicationLogBuffer.Sink {
+		final List<LogType> types = Collections.synchronizedList(new ArrayList<>());
+		final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void write(LogType type, String text) throws Exception {
+			types.add(type);
+			writes.add(text);
+		}
+
+		List<String> lines() {
+			List<String> lines = new ArrayList<>();
+			synchronized (writes) {
+				for (String text : writes) {
+					for (String line : text.split("\n")) {
+						lines.add(line);
+					}
+				}
+			}
+			return lines;
+		}
+	}
+
+	@Test
+	public void batchesSyntheticLogFlux() throws Exception {
+		RecordingSink sink = new RecordingSink();
+		ApplicationLogBuffer buffer = new ApplicationLogBuffer(sink, 100000);
+
+		Flux.range(0, 50000).subscribe(i -> buffer.add(LogType.CFSTDOUT, "line " + i));
+		waitForFlush(buffer);
+
+		List<String> lines = sink.lines();
+		assertEquals(50000, lines.size());
+		for (int i = 0; i < lines.size(); i++) {
+			assertEquals("line " + i, lines.get(i));
+		}
+		assertTrue("Expected batched writes, but got " + sink.writes.size(), sink.writes.size() < 1000);
+	}
+
+	@Test
+	public void keepsLogTypesApart() throws Exception {
+		RecordingSink sink = new RecordingSink();
+		ApplicationLogBuffer buffer = new ApplicationLogBuffer(sink, 100);
+
+		buffer.add(LogType.CFSTDOUT, "out 1");
+		buffer.add(LogType.CFSTDOUT, "out 2\n");
+		buffer.add(LogType.CFSTDERROR, "err 1");
+		buffer.add(LogType.CFSTDOUT, "out 3");
+		waitForFlush(buffer);
+
+		assertEquals(3, sink.writes.size());
+		assertEquals("out 1\nout 2\n", sink.writes.get(0));
+		assertEquals(LogType.CFSTDOUT, sink.types.get(0));
+		assertEquals("err 1\n", sink.writes.get(1));
+		assertEquals(LogType.CFSTDERROR, sink.types.get(1));
+		assertEquals("out 3\n", sink.writes.get(2));
+	}
+
+	@Test
+	public void dropsOldestMessagesUnderOverload() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch slowConsole = new CountDownLatch(1);
+		RecordingSink sink = new RecordingSink() {
+			@Override
+			public void write(LogType type, String text) throws Exception {
+				writing.countDown();
+				slowConsole.await(10, TimeUnit.SECONDS);
+				super.write(type, text);
+			}
+		};
+		ApplicationLogBuffer buffer = new ApplicationLogBuffer(sink, 100);
+
+		buffer.add(LogType.CFSTDOUT, "first");
+		assertTrue(writing.await(10, TimeUnit.SECONDS));
+		//While the console is busy, the app keeps logging
+		Flux.range(0, 10000).subscribe(i -> buffer.add(LogType.CFSTDOUT, "line " + i));
+		slowConsole.countDown();
+		waitForFlush(buffer);
+
+		List<String> lines = sink.lines();
+		assertEquals(102, lines.size());
+		assertEquals("first", lines.get(0));
+		assertTrue(lines.get(1), lines.get(1).startsWith("[9900 log messages dropped"));
+		assertEquals(LogType.LOCALSTDERROR, sink.types.get(1));
+		assertEquals("line 9900", lines.get(2));
+		assertEquals("line 9999", lines.get(101));
+	}
+
+	@Test
+	public void reduceCapacity() throws Exception {
+		RecordingSink sink = new RecordingSink();
+		ApplicationLogBuffer buffer = new ApplicationLogBuffer(sink, 100);
+		for (int i = 0; i < 10; i++) {
+			buffer.add(LogType.CFSTDOUT, "line " + i);
+		}
+		buffer.setCapacity(5);
+		buffer.flush();
+
+		List<String> lines = sink.lines();
+		assertEquals(6, lines.size());
+		assertTrue(lines.get(0).startsWith("[5 log messages dropped"));
+		assertEquals("line 5", lines.get(1));
+	}
+
+	private void waitForFlush(ApplicationLogBuffer buffer) throws Exception {
+		Job.getJobManager().join(buffer, null);
+		buffer.flush();
+	}
+
+}
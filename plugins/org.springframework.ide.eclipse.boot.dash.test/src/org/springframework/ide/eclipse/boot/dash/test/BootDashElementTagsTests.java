@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -274,4 +274,34 @@ public class BootDashElementTagsTests extends Mocks {
 		assertTrue(filterBoxModel.getFilter().getValue().accept(createElement("foobar", new String[] {})));
 	}
 
+	@Test
+	public void narrowingSearchText() throws Exception {
+		BootDashElementsFilterBoxModel filterBoxModel = new BootDashElementsFilterBoxModel();
+		TestElement foo = createElement("foo", new String[] {"spring"});
+		TestElement bar = createElement("bar", new String[] {"xd"});
+
+		filterBoxModel.getText().setValue("sp");
+		assertTrue(filterBoxModel.getFilter().getValue().accept(foo));
+		assertFalse(filterBoxModel.getFilter().getValue().accept(bar));
+
+		filterBoxModel.getText().setValue("spring,");
+		assertTrue(filterBoxModel.getFilter().getValue().accept(foo));
+		assertFalse(filterBoxModel.getFilter().getValue().accept(bar));
+
+		//Elements rejected by a previous filter are matched again when their tags change
+		when(bar.getTags()).thenReturn(new LinkedHashSet<String>(Arrays.asList("spring")));
+		filterBoxModel.getText().setValue("spring, ");
+		assertTrue(filterBoxModel.getFilter().getValue().accept(foo));
+		assertTrue(filterBoxModel.getFilter().getValue().accept(bar));
+
+		filterBoxModel.getText().setValue("spring, b");
+		assertFalse(filterBoxModel.getFilter().getValue().accept(foo));
+		assertTrue(filterBoxModel.getFilter().getValue().accept(bar));
+
+		//Going back to a wider search text
+		filterBoxModel.getText().setValue("spring");
+		assertTrue(filterBoxModel.getFilter().getValue().accept(foo));
+		assertTrue(filterBoxModel.getFilter().getValue().accept(bar));
+	}
+
 }
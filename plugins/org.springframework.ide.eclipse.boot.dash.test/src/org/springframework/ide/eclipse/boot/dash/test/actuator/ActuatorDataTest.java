@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2019 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,7 +13,9 @@ package org.springframework.ide.eclipse.boot.dash.test.actuator;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -97,6 +99,26 @@ public class ActuatorDataTest {
 		assertEquals(liveBeans, client.getBeans());
 	}
 
+	@Test public void testUnchangedDataNotParsedAgain() throws Exception {
+		TestActuatorClient client = new TestActuatorClient(null)
+				.beansJson(ActuatorClientTest.getContents("beans-sample.json"))
+				.envJson(ActuatorClientTest.getContents("env-sample-boot2.json"))
+				.requestMappingJson(ActuatorClientTest.getContents("requestmappings-sample-boot2.json"))
+				.version("2");
+		assertSame(client.getEnv(), client.getEnv());
+		assertSame(client.getRequestMappings(), client.getRequestMappings());
+
+		client.version("1");
+		LiveBeansModel liveBeans = client.getBeans();
+		assertSame(liveBeans, client.getBeans());
+
+		client.beansJson(ActuatorClientTest.getContents("beans-sample-diff1.json"));
+		LiveBeansModel changed = client.getBeans();
+		assertNotSame(liveBeans, changed);
+		assertNotEquals(liveBeans, changed);
+		assertSame(changed, client.getBeans());
+	}
+
 	@Test public void testModelIneuality_1() throws Exception {
 		TestActuatorClient client = new TestActuatorClient(null).beansJson(ActuatorClientTest.getContents("beans-sample.json")).version("1");
 		TestActuatorClient otherClient = new TestActuatorClient(null).beansJson(ActuatorClientTest.getContents("beans-sample-diff1.json")).version("1");
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2019 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -35,10 +35,25 @@ public abstract class CloudDashElement<T> extends WrappingBootDashElement<T> {
 	private LiveExpression<LiveBeansModel> liveBeans;
 	private LiveExpression<LiveEnvModel> liveEnv;
 
+	private ActuatorClient actuatorClient;
+	private URI actuatorClientTarget;
+
 	protected ActuatorClient getActuatorClient(URI target) {
 		return new RestActuatorClient(target, getTypeLookup(), getRestClient());
 	}
 
+	/**
+	 * Get the actuator client for a given target. The client is reused for as long as the target
+	 * doesn't change, so that unchanged actuator data isn't parsed again on every refresh.
+	 */
+	private synchronized ActuatorClient getSharedActuatorClient(URI target) {
+		if (actuatorClient==null || !target.equals(actuatorClientTarget)) {
+			actuatorClient = getActuatorClient(target);
+			actuatorClientTarget = target;
+		}
+		return actuatorClient;
+	}
+
 	@Override
 	public List<RequestMapping> getLiveRequestMappings() {
 		synchronized (this) {
@@ -48,10 +63,10 @@ public abstract class CloudDashElement<T> extends WrappingBootDashElement<T> {
 					protected ImmutableList<RequestMapping> compute() {
 						URI target = actuatorUrl.getValue();
 						if (target!=null) {
-							ActuatorClient client = getActuatorClient(target);
+							ActuatorClient client = getSharedActuatorClient(target);
 							List<RequestMapping> list = client.getRequestMappings();
 							if (list!=null) {
-								return ImmutableList.copyOf(client.getRequestMappings());
+								return ImmutableList.copyOf(list);
 							}
 						}
 						return null;
@@ -74,7 +89,7 @@ public abstract class CloudDashElement<T> extends WrappingBootDashElement<T> {
 					protected LiveBeansModel compute() {
 						URI target = actuatorUrl.getValue();
 						if (target != null) {
-							ActuatorClient client = getActuatorClient(target);
+							ActuatorClient client = getSharedActuatorClient(target);
 							return client.getBeans();
 						}
 						return null;
@@ -97,7 +112,7 @@ public abstract class CloudDashElement<T> extends WrappingBootDashElement<T> {
 					protected LiveEnvModel compute() {
 						URI target = actuatorUrl.getValue();
 						if (target != null) {
-							ActuatorClient client = getActuatorClient(target);
+							ActuatorClient client = getSharedActuatorClient(target);
 							return client.getEnv();
 						}
 						return null;
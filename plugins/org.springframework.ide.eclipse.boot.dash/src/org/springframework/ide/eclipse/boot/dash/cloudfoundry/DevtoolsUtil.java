@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -102,15 +102,10 @@ public class DevtoolsUtil {
 
 	private static ILaunchConfiguration findConfig(IProject project, String host) {
 		String remoteUrl = remoteUrl(host);
-		try {
-			for (ILaunchConfiguration c : getLaunchManager().getLaunchConfigurations(getConfigurationType())) {
-				if (project.equals(BootLaunchConfigurationDelegate.getProject(c))
-					&& remoteUrl.equals(BootDevtoolsClientLaunchConfigurationDelegate.getRemoteUrl(c))) {
-					return c;
-				}
+		for (ILaunchConfiguration c : BootLaunchConfigurationDelegate.getLaunchConfigs(project, BootDevtoolsClientLaunchConfigurationDelegate.TYPE_ID)) {
+			if (remoteUrl.equals(BootDevtoolsClientLaunchConfigurationDelegate.getRemoteUrl(c))) {
+				return c;
 			}
-		} catch (CoreException e) {
-			BootActivator.log(e);
 		}
 		return null;
 	}
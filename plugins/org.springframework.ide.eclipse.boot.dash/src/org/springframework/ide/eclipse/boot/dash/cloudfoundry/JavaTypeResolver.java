@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,7 +20,7 @@ import org.eclipse.jface.window.Window;
 import org.eclipse.jface.wizard.WizardDialog;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
-import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
+import org.springframework.ide.eclipse.boot.launch.util.MainTypeIndex;
 
 /**
  *
@@ -40,17 +40,12 @@ public class JavaTypeResolver {
 	}
 
 	public IType[] getMainTypes(IProgressMonitor monitor) throws Exception {
-		return MainTypeFinder.guessMainTypes(getJavaProject(), monitor);
-
+		return MainTypeIndex.getDefault().getMainTypes(getJavaProject(), monitor);
 	}
 
 	public IType getMainTypesFromSource(IProgressMonitor monitor) throws Exception {
 		if (project != null) {
 			IType[] types = getMainTypes(monitor);
-			// Enable when dependency to
-			// org.springsource.ide.eclipse.commons.core is
-			// added. This should be the common way to obtain main types
-			// MainTypeFinder.guessMainTypes(project, monitor);
 
 			if (types != null && types.length > 0) {
 
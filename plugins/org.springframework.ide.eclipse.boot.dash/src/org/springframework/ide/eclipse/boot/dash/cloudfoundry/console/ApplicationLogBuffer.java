@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cloudfoundry.console;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.springframework.ide.eclipse.boot.util.Log;
+
+/**
+ * Bounded buffer between a stream of application log messages and the console they
+ * are written to.
+ * <p>
+ * Adding a message only queues it, so the thread delivering the log stream never waits
+ * for the console. The queued messages are written in batches by a background job:
+ * consecutive messages of the same type are joined and written to the console at once.
+ * <p>
+ * The buffer holds at most a given number of messages. When the application logs faster
+ * than the console can keep up with, the oldest queued messages are dropped, and a line
+ * reporting how many messages were dropped is written in their place.
+ *
+ * @since 3.9.12
+ */
+public class ApplicationLogBuffer {
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	/**
+	 * Delay before a batch is written, so that messages arriving in a burst are written together.
+	 */
+	private static final long BATCH_DELAY = 50/*ms*/;
+
+	@FunctionalInterface
+	public interface Sink {
+		void write(LogType type, String text) throws Exception;
+	}
+
+	private static class Entry {
+		final LogType type;
+		final String message;
+
+		Entry(LogType type, String message) {
+			this.type = type;
+			this.message = message;
+		}
+	}
+
+	private final Sink sink;
+	private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+	private int capacity;
+	private long dropped = 0;
+	private boolean disposed = false;
+
+	private final Job flushJob = new Job("Write application log") {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			flush();
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family==ApplicationLogBuffer.this;
+		}
+	};
+
+	public ApplicationLogBuffer(Sink sink, int capacity) {
+		this.sink = sink;
+		setCapacity(capacity);
+		flushJob.setSystem(true);
+	}
+
+	/**
+	 * Change the maximum number of messages queued in this buffer. If more messages are
+	 * already queued, the oldest ones are dropped.
+	 */
+	public synchronized void setCapacity(int capacity) {
+		this.capacity = Math.max(1, capacity);
+		while (entries.size() > this.capacity) {
+			entries.removeFirst();
+			dropped++;
+		}
+	}
+
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Queue a message to be written.
+	 */
+	public void add(LogType type, String message) {
+		if (message == null) {
+			return;
+		}
+		synchronized (this) {
+			if (disposed) {
+				return;
+			}
+			if (entries.size() >= capacity) {
+				entries.removeFirst();
+				dropped++;
+			}
+			entries.addLast(new Entry(type, message));
+		}
+		//Scheduling a job that is already waiting does nothing, and a running job is run again
+		flushJob.schedule(BATCH_DELAY);
+	}
+
+	/**
+	 * Write all the messages queued so far.
+	 */
+	public void flush() {
+		List<Entry> batch;
+		long droppedCount;
+		synchronized (this) {
+			batch = new ArrayList<>(entries);
+			entries.clear();
+			droppedCount = dropped;
+			dropped = 0;
+		}
+		try {
+			if (droppedCount > 0) {
+				//The dropped messages are the oldest ones, so they go before the rest of the batch.
+				sink.write(LogType.LOCALSTDERROR, "[" + droppedCount
+						+ " log messages dropped: the application is logging faster than the console can show]\n");
+			}
+			StringBuilder text = new StringBuilder();
+			LogType type = null;
+			for (Entry entry : batch) {
+				if (type != null && entry.type != type) {
+					sink.write(type, text.toString());
+					text.setLength(0);
+				}
+				type = entry.type;
+				text.append(ApplicationLogConsole.format(entry.message));
+			}
+			if (type != null) {
+				sink.write(type, text.toString());
+			}
+		} catch (Exception e) {
+			Log.log(e);
+		}
+	}
+
+	/**
+	 * Discard the queued messages and stop accepting new ones.
+	 */
+	public void dispose() {
+		synchronized (this) {
+			disposed = true;
+			entries.clear();
+			dropped = 0;
+		}
+		flushJob.cancel();
+	}
+
+}
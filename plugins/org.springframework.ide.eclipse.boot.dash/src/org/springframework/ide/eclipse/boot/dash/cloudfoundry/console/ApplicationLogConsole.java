@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -37,8 +37,27 @@ public class ApplicationLogConsole extends MessageConsole implements IPropertyCh
 
 	private Disposable logStreamingToken;
 
+	/**
+	 * Messages from the application log stream are written through this buffer, so that the
+	 * log stream isn't held up by the console.
+	 */
+	private final ApplicationLogBuffer logBuffer;
+
 	public ApplicationLogConsole(String name, String type) {
+		this(name, type, ApplicationLogBuffer.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param logBufferCapacity Maximum number of application log messages waiting to be written
+	 *        to the console. Older messages are dropped when more are waiting.
+	 */
+	public ApplicationLogConsole(String name, String type, int logBufferCapacity) {
 		super(name, type, BootDashActivator.getImageDescriptor("icons/cloud_obj.png"), true);
+		this.logBuffer = new ApplicationLogBuffer(this::writeFormatted, logBufferCapacity);
+	}
+
+	public ApplicationLogBuffer getLogBuffer() {
+		return logBuffer;
 	}
 
 	public synchronized void setLogStreamingToken(Disposable logStreamingToken) {
@@ -52,12 +71,15 @@ public class ApplicationLogConsole extends MessageConsole implements IPropertyCh
 		return this.logStreamingToken;
 	}
 
-	public synchronized void writeLog(LogMessage log) {
+	/**
+	 * Queue a message from the application log stream. The message is written to the
+	 * console asynchronously.
+	 */
+	public void writeLog(LogMessage log) {
 		if (log == null) {
 			return;
 		}
-		final LogType logType = LogType.getLogType(log);
-		writeApplicationLog(log.getMessage(), logType);
+		logBuffer.add(LogType.getLogType(log), log.getMessage());
 	}
 
 	/**
@@ -68,14 +90,8 @@ public class ApplicationLogConsole extends MessageConsole implements IPropertyCh
 	 */
 	public synchronized boolean writeApplicationLog(String message, LogType type) {
 		if (message != null) {
-			IOConsoleOutputStream stream = getStream(type);
-
 			try {
-				if (stream != null && !stream.isClosed()) {
-					message = format(message);
-					stream.write(message);
-					return true;
-				}
+				return writeFormatted(type, format(message));
 			} catch (IOException e) {
 				BootDashActivator.log(e);
 			}
@@ -83,6 +99,15 @@ public class ApplicationLogConsole extends MessageConsole implements IPropertyCh
 		return false;
 	}
 
+	private synchronized boolean writeFormatted(LogType type, String text) throws IOException {
+		IOConsoleOutputStream stream = getStream(type);
+		if (stream != null && !stream.isClosed()) {
+			stream.write(text);
+			return true;
+		}
+		return false;
+	}
+
 	protected static String format(String message) {
 		if (message.contains("\n") || message.contains("\r")) {
 			return message;
@@ -101,6 +126,7 @@ public class ApplicationLogConsole extends MessageConsole implements IPropertyCh
 	 */
 	public synchronized void close() {
 		setLogStreamingToken(null);
+		logBuffer.dispose();
 
 		for (IOConsoleOutputStream outputStream : activeStreams.values()) {
 			if (!outputStream.isClosed()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -353,20 +353,15 @@ public class SshDebugLaunchConfigurationDelegate extends AbstractBootLaunchConfi
 	}
 
 	private static ILaunchConfiguration findConfig(IProject project, CloudFoundryRunTarget target, String appName) {
-		try {
-			if (project!=null) {
-				for (ILaunchConfiguration c : getLaunchMan().getLaunchConfigurations(getLaunchType())) {
-					if (
-							project.equals(BootLaunchConfigurationDelegate.getProject(c)) &&
-							target.getId().equals(getRunTargetId(c)) &&
-							appName.equals(getAppName(c))
-							) {
-						return c;
-					}
+		if (project!=null) {
+			for (ILaunchConfiguration c : getLaunchConfigs(project, TYPE_ID)) {
+				if (
+						target.getId().equals(getRunTargetId(c)) &&
+						appName.equals(getAppName(c))
+						) {
+					return c;
 				}
 			}
-		} catch (CoreException e) {
-			BootActivator.log(e);
 		}
 		return null;
 	}
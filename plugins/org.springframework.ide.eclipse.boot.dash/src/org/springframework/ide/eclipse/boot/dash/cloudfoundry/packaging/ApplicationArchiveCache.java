@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.springsource.ide.eclipse.commons.frameworks.core.util.FileUtil;
+
+/**
+ * Per-project cache of the archives built when packaging a boot app for a push.
+ * <p>
+ * The cache remembers a SHA-1 fingerprint of every file it has seen. Size and timestamp of a
+ * file only decide whether the file needs to be hashed again: a file whose size and timestamp
+ * haven't changed keeps its fingerprint, unless it was hashed so shortly after it was modified
+ * that a later write of the same size could have left the timestamp unchanged. Each archive the
+ * cache builds is tagged with the combined fingerprint of its inputs, and is only built again
+ * when that fingerprint changes.
+ * <p>
+ * An archive is the unit of reuse: when any of its inputs changed, the archive is written again
+ * as a whole, including the entries for the files that didn't change. So a change to a single
+ * class of a project rewrites both the project's base jar and the repackaged jar nesting it.
+ * <p>
+ * Archives are built into a temporary file next to the target and then moved in place, so an
+ * archive that is being uploaded is never overwritten while it is read. Callers building several
+ * archives that depend on each other should synchronize on the cache to keep concurrent
+ * packagings of the same project from interleaving.
+ */
+public class ApplicationArchiveCache {
+
+	private static final String TEMP_FOLDER_NAME = "springidetempFolderForJavaAppJar";
+
+	private static final Map<String, ApplicationArchiveCache> caches = new HashMap<>();
+
+	/**
+	 * Builds an archive into a given target file.
+	 */
+	public interface ArchiveBuilder {
+		void build(File target) throws IOException;
+	}
+
+	/**
+	 * The coarsest timestamp resolution of the file systems we care about (FAT stores timestamps
+	 * in two second steps).
+	 */
+	private static final long MTIME_GRANULARITY = 2000;
+
+	private static class FileFingerprint {
+		final long length;
+		final long lastModified;
+		final long hashed;
+		final String sha1;
+
+		FileFingerprint(long length, long lastModified, long hashed, String sha1) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.hashed = hashed;
+			this.sha1 = sha1;
+		}
+
+		/**
+		 * Whether the file can't have changed since it was hashed. A file hashed within the
+		 * timestamp granularity of its last modification may have been written again without
+		 * changing its size or timestamp, so it always needs to be hashed again.
+		 */
+		boolean isCurrent(File file) {
+			return file.length()==length && file.lastModified()==lastModified
+					&& hashed - lastModified > MTIME_GRANULARITY;
+		}
+	}
+
+	public static synchronized ApplicationArchiveCache forProject(String projectName) throws IOException {
+		ApplicationArchiveCache cache = caches.get(projectName);
+		if (cache==null || !cache.getFolder().isDirectory()) {
+			cache = new ApplicationArchiveCache(FileUtil.createTempDirectory(TEMP_FOLDER_NAME));
+			caches.put(projectName, cache);
+		}
+		return cache;
+	}
+
+	private final File folder;
+
+	/**
+	 * Fingerprints of the files in a folder, keyed by the folder and then by the path of the
+	 * file relative to it.
+	 */
+	private final Map<File, Map<String, FileFingerprint>> folderFingerprints = new HashMap<>();
+
+	private final Map<File, FileFingerprint> fileFingerprints = new HashMap<>();
+
+	/**
+	 * The input fingerprint each archive built by this cache was built from.
+	 */
+	private final Map<File, String> archives = new HashMap<>();
+
+	public ApplicationArchiveCache(File folder) {
+		this.folder = folder;
+	}
+
+	/**
+	 * The folder in which the archives of this cache are kept.
+	 */
+	public File getFolder() {
+		return folder;
+	}
+
+	/**
+	 * Computes a fingerprint of the relative paths and contents of all files in a folder.
+	 */
+	public synchronized String fingerprintFolder(File root) throws IOException {
+		Map<String, FileFingerprint> previous = folderFingerprints.getOrDefault(root, Collections.emptyMap());
+		Map<String, FileFingerprint> current = new TreeMap<>();
+		collect(root, null, previous, current);
+		folderFingerprints.put(root, current);
+
+		MessageDigest digest = sha1();
+		for (Entry<String, FileFingerprint> e : current.entrySet()) {
+			update(digest, e.getKey());
+			update(digest, e.getValue().sha1);
+		}
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Computes a fingerprint of the contents of a single file.
+	 */
+	public synchronized String fingerprintFile(File file) throws IOException {
+		FileFingerprint fingerprint = fileFingerprints.get(file);
+		if (fingerprint==null || !fingerprint.isCurrent(file)) {
+			fingerprint = fingerprint(file);
+			fileFingerprints.put(file, fingerprint);
+		}
+		return fingerprint.sha1;
+	}
+
+	/**
+	 * Ensures the target archive was built from inputs with the given fingerprint, calling the
+	 * builder only if the archive is missing or was built from different inputs. The builder
+	 * writes into a temporary file which then replaces the target.
+	 *
+	 * @return true if the archive was (re)built.
+	 */
+	public synchronized boolean update(File target, String inputFingerprint, ArchiveBuilder builder) throws IOException {
+		if (target.isFile() && inputFingerprint.equals(archives.get(target))) {
+			return false;
+		}
+		archives.remove(target);
+		File temp = File.createTempFile(target.getName(), ".tmp", target.getParentFile());
+		try {
+			builder.build(temp);
+			try {
+				Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			temp.delete();
+		}
+		archives.put(target, inputFingerprint);
+		return true;
+	}
+
+	/**
+	 * Combines a number of fingerprints (or other strings) into a single fingerprint.
+	 */
+	public static String combine(Iterable<String> parts) {
+		MessageDigest digest = sha1();
+		for (String part : parts) {
+			update(digest, part);
+		}
+		return toHex(digest.digest());
+	}
+
+	private void collect(File folder, String relativePath, Map<String, FileFingerprint> previous,
+			Map<String, FileFingerprint> current) throws IOException {
+		String[] names = folder.list();
+		if (names!=null) {
+			for (String name : names) {
+				File file = new File(folder, name);
+				String path = relativePath==null ? name : relativePath + "/" + name;
+				if (file.isDirectory()) {
+					collect(file, path, previous, current);
+				} else if (file.isFile()) {
+					FileFingerprint fingerprint = previous.get(path);
+					if (fingerprint==null || !fingerprint.isCurrent(file)) {
+						fingerprint = fingerprint(file);
+					}
+					current.put(path, fingerprint);
+				}
+			}
+		}
+	}
+
+	private static FileFingerprint fingerprint(File file) throws IOException {
+		long length = file.length();
+		long lastModified = file.lastModified();
+		long hashed = System.currentTimeMillis();
+		MessageDigest digest = sha1();
+		byte[] buffer = new byte[8192];
+		try (InputStream in = new FileInputStream(file)) {
+			int read;
+			while ((read = in.read(buffer)) >= 0) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return new FileFingerprint(length, lastModified, hashed, toHex(digest.digest()));
+	}
+
+	private static void update(MessageDigest digest, String part) {
+		digest.update(part.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest sha1() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			//Every JRE is required to support SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,14 +38,12 @@ import org.springframework.ide.eclipse.boot.core.ISpringBootProject;
 import org.springframework.ide.eclipse.boot.core.SpringBootCore;
 import org.springframework.ide.eclipse.boot.dash.model.UserInteractions;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.util.MainTypeIndex;
 import org.springframework.ide.eclipse.boot.util.JavaProjectUtil;
 import org.springframework.ide.eclipse.boot.util.Log;
-import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
-import org.springsource.ide.eclipse.commons.frameworks.core.util.FileUtil;
 
 public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationArchiverStrategy {
 
-	private static final String TEMP_FOLDER_NAME = "springidetempFolderForJavaAppJar";
 	private static final boolean DEBUG = false;
 
 	private static void debug(String string) {
@@ -128,7 +126,7 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 		private ILaunchConfiguration conf;
 		private BootLaunchConfigurationDelegate delegate;
 		private JarNameGenerator jarNames;
-		private File _tempFolder;
+		private ApplicationArchiveCache _cache;
 
 		Archiver(IJavaProject jp, IType mainType) throws CoreException {
 			this.jp = jp;
@@ -156,20 +154,37 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 		@Override
 		public File getApplicationArchive(IProgressMonitor mon) throws Exception {
 			SplitClasspath classpath = getRuntimeClasspath();
-			File tempFolder = getTempFolder();
+			ApplicationArchiveCache cache = getCache();
+			File tempFolder = cache.getFolder();
 			File baseJar = new File(tempFolder, jp.getElementName()+".original.jar");
 			File repackagedJar = new File(tempFolder, jp.getElementName()+".repackaged.jar");
 
-			createBaseJar(classpath.projectContents, baseJar);
-			repackage(baseJar, classpath.dependencies, repackagedJar);
+			//Concurrent pushes of the same project share the cache folder. Hold the cache so that
+			// the repackaged jar is always built from the base jar of the same packaging.
+			synchronized (cache) {
+				List<String> baseFingerprint = new ArrayList<>();
+				for (File outputFolder : classpath.projectContents) {
+					baseFingerprint.add(cache.fingerprintFolder(outputFolder));
+				}
+				cache.update(baseJar, ApplicationArchiveCache.combine(baseFingerprint),
+						(jar) -> createBaseJar(classpath.projectContents, jar));
+
+				List<String> repackagedFingerprint = new ArrayList<>();
+				repackagedFingerprint.add(mainType.getFullyQualifiedName());
+				repackagedFingerprint.addAll(baseFingerprint);
+				List<Library> libraries = getLibraries(cache, classpath.dependencies, repackagedFingerprint);
+				boolean rebuilt = cache.update(repackagedJar, ApplicationArchiveCache.combine(repackagedFingerprint),
+						(jar) -> repackage(baseJar, libraries, jar));
+				debug(rebuilt ? "Repackaged: "+repackagedJar : "Unchanged: "+repackagedJar);
+			}
 			return repackagedJar;
 		}
 
-		private File getTempFolder() throws IOException {
-			if (_tempFolder==null) {
-				_tempFolder = FileUtil.createTempDirectory(TEMP_FOLDER_NAME);
+		private ApplicationArchiveCache getCache() throws IOException {
+			if (_cache==null) {
+				_cache = ApplicationArchiveCache.forProject(jp.getElementName());
 			}
-			return _tempFolder;
+			return _cache;
 		}
 
 		private void createBaseJar(List<File> projectContents, File baseJar) throws FileNotFoundException, IOException {
@@ -209,29 +224,51 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 			return relativePath + "/" +name;
 		}
 
-		private void repackage(File baseJar, List<File> dependencies, File repackagedJar) throws IOException {
+		private void repackage(File baseJar, List<Library> libraries, File repackagedJar) throws IOException {
 			Repackager repackager = new Repackager(baseJar);
 			repackager.setMainClass(mainType.getFullyQualifiedName());
-			repackager.repackage(repackagedJar, asLibraries(dependencies));
+			repackager.repackage(repackagedJar, asLibraries(libraries));
+		}
+
+		/**
+		 * Determines the libraries to nest in the repackaged jar, adding the fingerprint of each to
+		 * the given list. Jar dependencies are nested as is. Folder dependencies are packaged into a
+		 * jar in the cache folder, which is only rewritten when the contents of the folder changed.
+		 */
+		private List<Library> getLibraries(ApplicationArchiveCache cache, List<File> dependencies,
+				List<String> fingerprints) throws IOException {
+			List<Library> libraries = new ArrayList<>(dependencies.size());
+			for (File dep : dependencies) {
+				if (dep.isFile()) {
+					String jarName = jarNames.createName(dep);
+					fingerprints.add(jarName);
+					fingerprints.add(cache.fingerprintFile(dep));
+					libraries.add(new Library(jarName, dep, LibraryScope.COMPILE, false));
+				} else if (dep.isDirectory()) {
+					String jarName = jarNames.createName(dep);
+					File jarFile = new File(cache.getFolder(), jarName);
+					String fingerprint = cache.fingerprintFolder(dep);
+					cache.update(jarFile, fingerprint, (jar) -> {
+						JarWriter jarWriter = new JarWriter(jar);
+						try {
+							writeFolder(jarWriter, dep);
+						} finally {
+							jarWriter.close();
+						}
+					});
+					fingerprints.add(jarName);
+					fingerprints.add(fingerprint);
+					libraries.add(new Library(jarName, jarFile, LibraryScope.COMPILE, false));
+				}
+			}
+			return libraries;
 		}
 
-		private Libraries asLibraries(final List<File> dependencies) {
+		private Libraries asLibraries(final List<Library> libraries) {
 			return new Libraries() {
 				public void doWithLibraries(LibraryCallback callback) throws IOException {
-					for (File dep : dependencies) {
-						if (dep.isFile()) {
-							callback.library(new Library(jarNames.createName(dep), dep, LibraryScope.COMPILE, false));
-						} else if (dep.isDirectory()) {
-							String jarName = jarNames.createName(dep);
-							File jarFile = new File(getTempFolder(), jarName);
-							JarWriter jarWriter = new JarWriter(jarFile);
-							try {
-								writeFolder(jarWriter, dep);
-							} finally {
-								jarWriter.close();
-							}
-							callback.library(new Library(jarName, jarFile, LibraryScope.COMPILE, false));
-						}
+					for (Library library : libraries) {
+						callback.library(library);
 					}
 				}
 			};
@@ -287,7 +324,7 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 
 	private IType getMainType(IJavaProject jp, IProgressMonitor mon) {
 		try {
-			IType[] candidates = MainTypeFinder.guessMainTypes(jp, mon);
+			IType[] candidates = MainTypeIndex.getDefault().getMainTypes(jp, mon);
 			if (candidates!=null && candidates.length>0) {
 				if (candidates.length==1) {
 					return candidates[0];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -52,6 +52,7 @@ import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelega
 import org.springframework.ide.eclipse.boot.launch.cli.CloudCliServiceLaunchConfigurationDelegate;
 import org.springframework.ide.eclipse.boot.launch.util.BootDebugUITools;
 import org.springframework.ide.eclipse.boot.launch.util.BootLaunchUtils;
+import org.springframework.ide.eclipse.boot.launch.util.MainTypeIndex;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifeCycleClientManager;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecycleClient;
 import org.springframework.ide.eclipse.boot.pstore.IPropertyStore;
@@ -59,7 +60,6 @@ import org.springframework.ide.eclipse.boot.pstore.PropertyStoreApi;
 import org.springframework.ide.eclipse.boot.pstore.PropertyStores;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springframework.ide.eclipse.boot.util.RetryUtil;
-import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
 import org.springsource.ide.eclipse.commons.livexp.core.AsyncLiveExpression;
 import org.springsource.ide.eclipse.commons.livexp.core.DisposeListener;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveExpression;
@@ -283,7 +283,7 @@ public abstract class AbstractLaunchConfigurationsDashElement<T> extends Wrappin
 	}
 
 	protected IType[] guessMainTypes() throws CoreException {
-		return MainTypeFinder.guessMainTypes(getJavaProject(), new NullProgressMonitor());
+		return MainTypeIndex.getDefault().getMainTypes(getJavaProject(), new NullProgressMonitor());
 	}
 
 	protected void launch(final String runMode, final ILaunchConfiguration conf) throws Exception {
@@ -651,6 +651,9 @@ public abstract class AbstractLaunchConfigurationsDashElement<T> extends Wrappin
 							} catch (Exception e) {
 								debug(ExceptionUtil.getMessage(e));
 								//most likely this just means the app isn't running so ignore
+								if (cm!=null) {
+									cm.disposeClient(e);
+								}
 							} finally {
 								if (cm!=null) {
 									cm.disposeClient();
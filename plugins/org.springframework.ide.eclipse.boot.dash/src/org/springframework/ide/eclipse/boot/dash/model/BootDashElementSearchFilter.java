@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,71 +10,95 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.model;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
-
-import org.eclipse.core.resources.IProject;
-import org.eclipse.core.runtime.IAdaptable;
-import org.eclipse.ui.IWorkingSet;
-import org.eclipse.ui.PlatformUI;
+import java.util.WeakHashMap;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSet.Builder;
 
 /**
  * Boot Dash elements filter working on strings from BDEs tags combined with
  * working set names (if BDE element delegates to a project in the workspace
+ * <p>
+ * The outcome for each element is remembered along with the strings it was computed
+ * from. When the search text is extended, the new filter is narrower than the previous
+ * one, so elements rejected by the previous filter are rejected without matching them
+ * again (as long as their tags didn't change).
  *
  * @author Alex Boyko
  *
  */
 public class BootDashElementSearchFilter extends TagSearchFilter<BootDashElement> {
 
-	private Map<IProject, Set<String>> mapping;
+	private static class Result {
+		final ImmutableSet<String> tags;
+		final boolean accepted;
+
+		Result(ImmutableSet<String> tags, boolean accepted) {
+			this.tags = tags;
+			this.accepted = accepted;
+		}
+	}
+
+	private final String text;
+
+	private final BootDashElementSearchIndex index;
+
+	private final Map<BootDashElement, Result> results = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Results of the previous, wider, filter. Only its rejections are reused.
+	 */
+	private final Map<BootDashElement, Result> widerResults;
 
-	public BootDashElementSearchFilter(String s) {
+	public BootDashElementSearchFilter(String s, BootDashElementSearchIndex index) {
+		this(s, index, null);
+	}
+
+	/**
+	 * @param previous the filter for the previous search text, or null. Its results are
+	 *            reused if the new search text extends it.
+	 */
+	public BootDashElementSearchFilter(String s, BootDashElementSearchIndex index, BootDashElementSearchFilter previous) {
 		super(s);
+		this.text = s;
+		this.index = index;
+		this.widerResults = previous != null && previous.isWiderThan(s) ? previous.results : null;
+	}
+
+	/**
+	 * Whether any element accepted by a filter for the given search text is also accepted
+	 * by this filter. This holds when the search text extends this filter's text: search tags
+	 * already complete in this filter's text stay the same, and the search term can only grow
+	 * into a longer term or a tag containing it. With a '\' in the text, wildcards may be
+	 * escaped, so we don't make any assumptions.
+	 */
+	private boolean isWiderThan(String s) {
+		return s.startsWith(text) && text.indexOf('\\') < 0 && s.indexOf('\\') < 0;
 	}
 
-	private Map<IProject, Set<String>> getMapping() {
-		if (mapping == null) {
-			mapping = new HashMap<>();
-			for (IWorkingSet ws : PlatformUI.getWorkbench().getWorkingSetManager().getAllWorkingSets()) {
-				if (!ws.isAggregateWorkingSet()) {
-					for (IAdaptable a : ws.getElements()) {
-						IProject project = (IProject)a.getAdapter(IProject.class);
-						if (project != null) {
-							Set<String> set = mapping.get(project);
-							if (set == null) {
-								set = new HashSet<>();
-								mapping.put(project, set);
-							}
-							set.add(ws.getName());
-						}
-					}
-				}
+	@Override
+	public boolean accept(BootDashElement element) {
+		if (isAcceptAll()) {
+			return true;
+		}
+		ImmutableSet<String> tags = getTags(element);
+		Result result = results.get(element);
+		if (result == null || !result.tags.equals(tags)) {
+			Result wider = widerResults == null ? null : widerResults.get(element);
+			if (wider != null && !wider.accepted && wider.tags.equals(tags)) {
+				result = wider;
+			} else {
+				result = new Result(tags, matches(tags));
 			}
+			results.put(element, result);
 		}
-		return mapping;
+		return result.accepted;
 	}
 
 	@Override
 	protected ImmutableSet<String> getTags(BootDashElement element) {
-		Builder<String> tags = ImmutableSet.builder();
-		tags.addAll(super.getTags(element));
-		// Add implicit tag for element name
-		tags.add(element.getName());
-		// Add implicit tags for Working Sets
-		if (element.getProject() != null) {
-			Set<String> workingSetNames = getMapping().get(element.getProject());
-			if (workingSetNames != null) {
-				tags.addAll(workingSetNames);
-			}
-		}
-		return tags.build();
+		return index.getSearchTags(element);
 	}
 
 }
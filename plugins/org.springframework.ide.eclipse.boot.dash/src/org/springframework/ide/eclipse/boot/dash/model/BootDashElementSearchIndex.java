@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.ui.IWorkingSet;
+import org.eclipse.ui.IWorkingSetManager;
+import org.eclipse.ui.PlatformUI;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSet.Builder;
+
+/**
+ * The strings boot dash elements are searched by: the element's tags, its name, and the
+ * names of the working sets its project belongs to.
+ * <p>
+ * Working set membership is computed once and kept until the working sets change, rather
+ * than being recomputed for every search.
+ *
+ * @since 3.9.12
+ */
+public class BootDashElementSearchIndex {
+
+	private Map<IProject, ImmutableSet<String>> workingSets;
+
+	private IWorkingSetManager workingSetManager;
+
+	private final IPropertyChangeListener workingSetListener = new IPropertyChangeListener() {
+		@Override
+		public void propertyChange(PropertyChangeEvent event) {
+			invalidate();
+		}
+	};
+
+	/**
+	 * @return the strings the element is searched by.
+	 */
+	public ImmutableSet<String> getSearchTags(BootDashElement element) {
+		Builder<String> tags = ImmutableSet.builder();
+		Set<String> elementTags = element.getTags();
+		if (elementTags != null) {
+			tags.addAll(elementTags);
+		}
+		// Add implicit tag for element name
+		tags.add(element.getName());
+		// Add implicit tags for Working Sets
+		IProject project = element.getProject();
+		if (project != null) {
+			ImmutableSet<String> workingSetNames = getWorkingSets().get(project);
+			if (workingSetNames != null) {
+				tags.addAll(workingSetNames);
+			}
+		}
+		return tags.build();
+	}
+
+	private synchronized Map<IProject, ImmutableSet<String>> getWorkingSets() {
+		if (workingSets == null) {
+			if (workingSetManager == null) {
+				workingSetManager = PlatformUI.getWorkbench().getWorkingSetManager();
+				workingSetManager.addPropertyChangeListener(workingSetListener);
+			}
+			Map<IProject, Builder<String>> builders = new HashMap<>();
+			for (IWorkingSet ws : workingSetManager.getAllWorkingSets()) {
+				if (!ws.isAggregateWorkingSet()) {
+					for (IAdaptable a : ws.getElements()) {
+						IProject project = (IProject)a.getAdapter(IProject.class);
+						if (project != null) {
+							Builder<String> names = builders.get(project);
+							if (names == null) {
+								names = ImmutableSet.builder();
+								builders.put(project, names);
+							}
+							names.add(ws.getName());
+						}
+					}
+				}
+			}
+			workingSets = new HashMap<>();
+			for (Map.Entry<IProject, Builder<String>> e : builders.entrySet()) {
+				workingSets.put(e.getKey(), e.getValue().build());
+			}
+		}
+		return workingSets;
+	}
+
+	private synchronized void invalidate() {
+		workingSets = null;
+	}
+
+	public synchronized void dispose() {
+		if (workingSetManager != null) {
+			workingSetManager.removePropertyChangeListener(workingSetListener);
+			workingSetManager = null;
+		}
+		workingSets = null;
+	}
+
+}
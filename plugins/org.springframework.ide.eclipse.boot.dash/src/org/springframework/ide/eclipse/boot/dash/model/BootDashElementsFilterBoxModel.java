@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,13 +20,28 @@ import org.springsource.ide.eclipse.commons.livexp.util.Filters;
  */
 public class BootDashElementsFilterBoxModel extends FilterBoxModel<BootDashElement> {
 
+	private final BootDashElementSearchIndex index = new BootDashElementSearchIndex();
+
+	/**
+	 * Filter for the previous input, so that its results can be reused while the
+	 * user keeps typing.
+	 */
+	private BootDashElementSearchFilter lastFilter;
+
 	@Override
-	protected Filter<BootDashElement> createFilterForInput(String text) {
+	protected synchronized Filter<BootDashElement> createFilterForInput(String text) {
 		if (StringUtil.hasText(text)) {
-			return new BootDashElementSearchFilter(text);
+			return lastFilter = new BootDashElementSearchFilter(text, index, lastFilter);
 		} else {
+			lastFilter = null;
 			return Filters.acceptAll();
 		}
 	}
 
+	@Override
+	public void dispose() {
+		super.dispose();
+		index.dispose();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,12 @@ package org.springframework.ide.eclipse.boot.dash.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import org.springsource.ide.eclipse.commons.core.PatternUtils;
@@ -31,10 +33,30 @@ import com.google.common.collect.ImmutableSet;
  */
 public class  TagSearchFilter<T extends Taggable> implements Filter<T> {
 
+	private static final Pattern TAGS_ONLY = Pattern.compile("(.+)" + TagUtils.SEPARATOR_REGEX);
+
+	private static final int MAX_CACHED_PATTERNS = 100;
+
+	/**
+	 * Compiled patterns for recently used search tags and terms. While typing in the filter
+	 * box, a new filter is created for each keystroke, mostly from the same tags.
+	 */
+	private static final Map<String, Pattern> patternCache = Collections.synchronizedMap(
+			new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+					return size() > MAX_CACHED_PATTERNS;
+				}
+			});
+
 	private String searchTerm;
 
 	private String[] searchTags;
 
+	private List<Pattern> patterns;
+
 	public TagSearchFilter() {
 		this(null, null);
 	}
@@ -49,7 +71,7 @@ public class  TagSearchFilter<T extends Taggable> implements Filter<T> {
 		if (!s.isEmpty()) {
 			String[] splitSearchStr = TagUtils.parseTags(s);
 			if (splitSearchStr.length > 0) {
-				if (Pattern.matches("(.+)" + TagUtils.SEPARATOR_REGEX, s)) {
+				if (TAGS_ONLY.matcher(s).matches()) {
 					this.searchTags = splitSearchStr;
 				} else {
 					this.searchTags = Arrays.copyOfRange(splitSearchStr, 0, splitSearchStr.length - 1);
@@ -61,26 +83,56 @@ public class  TagSearchFilter<T extends Taggable> implements Filter<T> {
 
 	@Override
 	public boolean accept(T element) {
-		if (searchTags.length == 0 && searchTerm.isEmpty()) {
+		if (isAcceptAll()) {
 			return true;
 		}
+		return matches(getTags(element));
+	}
+
+	protected boolean isAcceptAll() {
+		return searchTags.length == 0 && searchTerm.isEmpty();
+	}
 
-		List<Predicate<String>> patterns = new ArrayList<>(searchTags.length);
-		for (String searchTag : searchTags) {
-			patterns.add(toPattern(searchTag));
+	/**
+	 * @return whether each search tag, and the search term, matches at least one of the given tags.
+	 */
+	protected boolean matches(Set<String> elementTags) {
+		for (Pattern pattern : getPatterns()) {
+			if (!anyMatch(pattern, elementTags)) {
+				return false;
+			}
 		}
-		patterns.add(toPattern("*"+searchTerm+"*"));
+		return true;
+	}
 
-		Set<String> elementTags = getTags(element);
+	private static boolean anyMatch(Pattern pattern, Set<String> elementTags) {
+		for (String tag : elementTags) {
+			if (pattern.matcher(tag).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-		return patterns.stream().allMatch(
-				(pat) -> elementTags.stream().anyMatch(pat)
-		);
+	private List<Pattern> getPatterns() {
+		if (patterns == null) {
+			List<Pattern> compiled = new ArrayList<>(searchTags.length + 1);
+			for (String searchTag : searchTags) {
+				compiled.add(toPattern(searchTag));
+			}
+			compiled.add(toPattern("*"+searchTerm+"*"));
+			patterns = compiled;
+		}
+		return patterns;
 	}
 
-	private Predicate<String> toPattern(String wildcarded) {
-		Pattern pat = PatternUtils.createPattern(wildcarded, false, false);
-		return (s) -> pat.matcher(s).matches();
+	private static Pattern toPattern(String wildcarded) {
+		Pattern pat = patternCache.get(wildcarded);
+		if (pat == null) {
+			pat = PatternUtils.createPattern(wildcarded, false, false);
+			patternCache.put(wildcarded, pat);
+		}
+		return pat;
 	}
 
 	@Override
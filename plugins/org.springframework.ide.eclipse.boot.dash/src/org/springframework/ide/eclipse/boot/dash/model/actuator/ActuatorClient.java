@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2019 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.model.actuator;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -34,6 +38,12 @@ import org.springsource.ide.eclipse.commons.livexp.util.Log;
  * This implementation is abstract because there is more than one way that we can
  * connect to an actuator endpoint and retrieve the data from it. The method
  * to retrieve the data is therefore an abstract method.
+ * <p>
+ * The client keeps a snapshot of the last data retrieved for each endpoint, along with
+ * a hash of its content and the model parsed from it. When an endpoint returns the same
+ * content again, the snapshot's model is returned as is rather than parsed again. Clients
+ * polling the endpoints (and the views listening to them) therefore only see a new model
+ * when the data actually changed.
  *
  * @author Kris De Volder
  */
@@ -41,8 +51,30 @@ public abstract class ActuatorClient {
 
 	private static final VersionRange BEANS_PARSER_VERSION_1_RANGE = new VersionRange("[1.0.0, 2.0.0)");
 
+	@FunctionalInterface
+	private interface Parser<T> {
+		T parse(String json, String version) throws Exception;
+	}
+
+	/**
+	 * The model parsed from the data last retrieved from an endpoint.
+	 */
+	private static class Snapshot<T> {
+		final byte[] hash;
+		final T model;
+
+		Snapshot(byte[] hash, T model) {
+			this.hash = hash;
+			this.model = model;
+		}
+	}
+
 	private final TypeLookup typeLookup;
 
+	private Snapshot<List<RequestMapping>> requestMappings;
+	private Snapshot<LiveBeansModel> beans;
+	private Snapshot<LiveEnvModel> env;
+
 	public ActuatorClient(TypeLookup typeLookup) {
 		this.typeLookup = typeLookup;
 	}
@@ -58,17 +90,15 @@ public abstract class ActuatorClient {
 			//Boot 1.x
 			parser = new Boot1RequestMappingsParser();
 		}
-		return parser.parse(obj, typeLookup);
+		return Collections.unmodifiableList(parser.parse(obj, typeLookup));
 	}
 
 	public List<RequestMapping> getRequestMappings() {
 		try {
 			ImmutablePair<String, String> data = getRequestMappingData();
-			if (data != null) {
-				String json = data.left;
-				if (json!=null) {
-					return parseRequestMappings(json, data.right);
-				}
+			synchronized (this) {
+				requestMappings = update(requestMappings, data, this::parseRequestMappings);
+				return requestMappings==null ? null : requestMappings.model;
 			}
 		} catch (Exception e) {
 			Log.log(e);
@@ -79,17 +109,9 @@ public abstract class ActuatorClient {
 	public LiveBeansModel getBeans() {
 		try {
 			ImmutablePair<String, String> data = getBeansData();
-			if (data != null) {
-				String json = data.left;
-				String version = data.right;
-				if (json != null) {
-					if (version != null) {
-						if (BEANS_PARSER_VERSION_1_RANGE.includes(Version.valueOf(version))) {
-							return new LiveBeansJsonParser(typeLookup, json).parse();
-						}
-					}
-					return new LiveBeansJsonParser2(typeLookup, json).parse();
-				}
+			synchronized (this) {
+				beans = update(beans, data, this::parseBeans);
+				return beans==null ? null : beans.model;
 			}
 		} catch (Exception e) {
 			Log.log(e);
@@ -97,14 +119,21 @@ public abstract class ActuatorClient {
 		return null;
 	}
 
+	private LiveBeansModel parseBeans(String json, String version) throws Exception {
+		if (version != null) {
+			if (BEANS_PARSER_VERSION_1_RANGE.includes(Version.valueOf(version))) {
+				return new LiveBeansJsonParser(typeLookup, json).parse();
+			}
+		}
+		return new LiveBeansJsonParser2(typeLookup, json).parse();
+	}
+
 	public LiveEnvModel getEnv() {
 		try {
 			ImmutablePair<String, String> data = getEnvData();
-			if (data != null) {
-				String json = data.left;
-				if (json!=null) {
-					return parseEnv(json, data.right);
-				}
+			synchronized (this) {
+				env = update(env, data, this::parseEnv);
+				return env==null ? null : env.model;
 			}
 		} catch (Exception e) {
 			Log.log(e);
@@ -112,6 +141,30 @@ public abstract class ActuatorClient {
 		return null;
 	}
 
+	/**
+	 * Computes the snapshot for newly retrieved data. The previous snapshot is kept if
+	 * the data didn't change. Otherwise the data is parsed.
+	 */
+	private static <T> Snapshot<T> update(Snapshot<T> previous, ImmutablePair<String, String> data, Parser<T> parser) throws Exception {
+		if (data==null || data.left==null) {
+			return null;
+		}
+		byte[] hash = hash(data.left, data.right);
+		if (previous!=null && Arrays.equals(previous.hash, hash)) {
+			return previous;
+		}
+		return new Snapshot<>(hash, parser.parse(data.left, data.right));
+	}
+
+	private static byte[] hash(String json, String version) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-1");
+		if (version!=null) {
+			digest.update(version.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+		return digest.digest(json.getBytes(StandardCharsets.UTF_8));
+	}
+
 	private LiveEnvModel parseEnv(String json, String version) throws Exception {
 		JsonParser<LiveEnvModel> parser = null;
 		if ("2".equals(version)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2019 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,8 @@ import javax.management.InstanceNotFoundException;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
 import org.springframework.ide.eclipse.boot.launch.util.JMXClient;
+import org.springframework.ide.eclipse.boot.launch.util.JMXConnectionPool;
+import org.springframework.ide.eclipse.boot.launch.util.JMXConnectionPool.PooledConnection;
 import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,7 +27,8 @@ import com.google.common.collect.ImmutableSet;
 
 /**
  * Concretization of abstract {@link ActuatorClient} which uses JMX to connect
- * to actuator endpoint(s).
+ * to actuator endpoint(s). Uses the shared connection of a {@link JMXConnectionPool}
+ * for the current JMX port.
  *
  * @author Kris De Volder
  */
@@ -59,12 +62,16 @@ public class JMXActuatorClient extends ActuatorClient {
 			new OperationInfo("org.springframework.boot:type=Endpoint,name=environmentEndpoint", "getData", "1") //Boot 1.x
 	};
 
-	private JMXClient client = null;
-	private Integer port = null;
+	private final JMXConnectionPool pool;
 
 	public JMXActuatorClient(TypeLookup typeLookup, Provider<Integer> jmxPort) {
+		this(typeLookup, jmxPort, JMXConnectionPool.getDefault());
+	}
+
+	public JMXActuatorClient(TypeLookup typeLookup, Provider<Integer> jmxPort, JMXConnectionPool pool) {
 		super(typeLookup);
 		this.portProvider = jmxPort;
+		this.pool = pool;
 	}
 
 	@Override
@@ -83,9 +90,10 @@ public class JMXActuatorClient extends ActuatorClient {
 	}
 
 	protected ImmutablePair<String, String> getDataFrom(OperationInfo[] infos) throws Exception {
-		try {
-			JMXClient client = getClient();
-			if (client!=null && infos!=null) {
+		PooledConnection connection = getConnection();
+		if (connection!=null && infos!=null) {
+			try {
+				JMXClient client = new JMXClient(connection.getConnection());
 				for (OperationInfo op : infos) {
 					try {
 						Object obj = client.callOperation(op.objectName, op.operationName);
@@ -96,11 +104,11 @@ public class JMXActuatorClient extends ActuatorClient {
 						//Ignore and try other mbean
 					}
 				}
-			}
-		} catch (Exception e) {
-			disposeClient(); //Client may be in broken state, do not reuse.
-			if (!isExpectedException(e)) {
-				throw e;
+			} catch (Exception e) {
+				connection.failed(e); //Connection may be in broken state, do not reuse.
+				if (!isExpectedException(e)) {
+					throw e;
+				}
 			}
 		}
 		return null;
@@ -117,22 +125,9 @@ public class JMXActuatorClient extends ActuatorClient {
 		return EXPECTED_EXCEPTIONS.contains(className);
 	}
 
-	private synchronized JMXClient getClient() throws Exception {
-		Integer currentPort = portProvider.get();
-		if (currentPort==null) return null;
-		if (!currentPort.equals(port) || client==null) {
-			disposeClient();
-			port = currentPort;
-			client = new JMXClient(currentPort);
-		}
-		return client;
-	}
-
-	private void disposeClient() {
-		JMXClient client = this.client;
-		if (client!=null) {
-			this.client = null;
-			client.dispose();
-		}
+	private PooledConnection getConnection() {
+		Integer port = portProvider.get();
+		if (port==null || port<=0) return null;
+		return pool.get(port);
 	}
 }
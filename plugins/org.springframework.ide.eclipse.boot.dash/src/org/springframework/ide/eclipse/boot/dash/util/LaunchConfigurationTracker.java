@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012 Pivotal Software, Inc.
+ * Copyright (c) 2012, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.util;
 
-import static org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate.isHiddenFromBootDash;
+import static org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate.DEFAULT_HIDE_FROM_BOOT_DASH;
+import static org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate.HIDE_FROM_BOOT_DASH;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +34,7 @@ import org.eclipse.debug.core.ILaunchManager;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.dash.model.BootProjectDashElement;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchConfigurationIndex;
 import org.springsource.ide.eclipse.commons.livexp.core.AsyncLiveExpression.AsyncMode;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveSetVariable;
 import org.springsource.ide.eclipse.commons.livexp.core.ObservableSet;
@@ -52,17 +54,37 @@ public class LaunchConfigurationTracker implements Disposable {
 	private final AtomicBoolean initialized = new AtomicBoolean(false);
 	private final ILaunchManager launchManager;
 	private final ILaunchConfigurationType launchType;
+	private final LaunchConfigurationIndex index;
+	private final boolean ownsIndex;
 	private final Map<IProject, LiveSetVariable<ILaunchConfiguration>> configs = new HashMap<>();
 	private ILaunchConfigurationListener launchConfListener;
 	private Job refreshJob;
 
+	/**
+	 * Creates a tracker for the configurations of the given launch manager, looking them up in
+	 * an index of its own for that launch manager.
+	 */
 	public LaunchConfigurationTracker(String launchTypeId, ILaunchManager launchManager) {
-		this.launchManager = launchManager;
-		this.launchType = launchManager.getLaunchConfigurationType(launchTypeId);
+		this(launchTypeId, launchManager, new LaunchConfigurationIndex(launchManager), true);
+	}
+
+	/**
+	 * Creates a tracker for the configurations of the given launch manager, looking them up in
+	 * the given index of the same launch manager.
+	 */
+	public LaunchConfigurationTracker(String launchTypeId, ILaunchManager launchManager, LaunchConfigurationIndex index) {
+		this(launchTypeId, launchManager, index, false);
 	}
 
 	public LaunchConfigurationTracker(String typeId) {
-		this(typeId, DebugPlugin.getDefault().getLaunchManager());
+		this(typeId, DebugPlugin.getDefault().getLaunchManager(), LaunchConfigurationIndex.getDefault());
+	}
+
+	private LaunchConfigurationTracker(String launchTypeId, ILaunchManager launchManager, LaunchConfigurationIndex index, boolean ownsIndex) {
+		this.launchManager = launchManager;
+		this.launchType = launchManager.getLaunchConfigurationType(launchTypeId);
+		this.index = index;
+		this.ownsIndex = ownsIndex;
 	}
 
 	private void init() {
@@ -163,7 +185,7 @@ public class LaunchConfigurationTracker implements Disposable {
 
 	private ImmutableSet<ILaunchConfiguration> getRelevantConfs() {
 		try {
-			ILaunchConfiguration[] allConfigs = launchManager.getLaunchConfigurations(launchType);
+			ImmutableSet<ILaunchConfiguration> allConfigs = index.getConfigs(launchType.getIdentifier());
 			Builder<ILaunchConfiguration> builder = ImmutableSet.builder();
 			for (ILaunchConfiguration c : allConfigs) {
 				if (isRelevant(c)) {
@@ -179,7 +201,12 @@ public class LaunchConfigurationTracker implements Disposable {
 
 	private boolean isRelevant(ILaunchConfiguration c) {
 		//Note: no need to check the launch conf type as only configs of the right type are passed in here.
-		return !isHiddenFromBootDash(c);
+		try {
+			return !index.getAttribute(c, HIDE_FROM_BOOT_DASH, DEFAULT_HIDE_FROM_BOOT_DASH);
+		} catch (CoreException e) {
+			BootActivator.log(e);
+			return !DEFAULT_HIDE_FROM_BOOT_DASH;
+		}
 	}
 
 	@Override
@@ -188,6 +215,9 @@ public class LaunchConfigurationTracker implements Disposable {
 			launchManager.removeLaunchConfigurationListener(launchConfListener);
 			launchConfListener = null;
 		}
+		if (ownsIndex) {
+			index.dispose();
+		}
 	}
 
 }
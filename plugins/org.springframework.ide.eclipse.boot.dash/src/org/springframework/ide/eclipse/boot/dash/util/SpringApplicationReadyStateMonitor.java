@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 GoPivotal, Inc.
+ * Copyright (c) 2015, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -52,7 +52,7 @@ public class SpringApplicationReadyStateMonitor extends AbstractPollingAppReadyS
 			//Something went wrong asking client for ready state.
 			// most likely process died.
 			if (clientManager != null) {
-				clientManager.disposeClient();
+				clientManager.disposeClient(e);
 			}
 		}
 		return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2018 Pivotal Software, Inc.
+ * Copyright (c) 2014, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,6 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.launch.livebean;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -24,7 +22,6 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
-import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.viewers.ISelection;
@@ -187,22 +184,7 @@ public class OpenLiveBeanGraphHandler extends AbstractHandler implements IHandle
 	 * Collect the listing of {@link ILaunchConfiguration}s that apply to a given project.
 	 */
 	private static List<ILaunchConfiguration> getLaunchConfigs(IProject project) {
-		String ctypeId = JmxBeanSupport.LAUNCH_CONFIG_TYPE_ID;
-		ILaunchConfigurationType ctype = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(ctypeId);
-		List<ILaunchConfiguration> candidateConfigs = Collections.emptyList();
-		try {
-			ILaunchConfiguration[] configs = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations(ctype);
-			candidateConfigs = new ArrayList<ILaunchConfiguration>(configs.length);
-			for (int i = 0; i < configs.length; i++) {
-				ILaunchConfiguration config = configs[i];
-				if (config.getAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, "").equals(project.getName())) { //$NON-NLS-1$
-					candidateConfigs.add(config);
-				}
-			}
-		} catch (CoreException e) {
-			Log.log(e);
-		}
-		return candidateConfigs;
+		return BootLaunchConfigurationDelegate.getLaunchConfigs(project, JmxBeanSupport.LAUNCH_CONFIG_TYPE_ID);
 	}
 
 }
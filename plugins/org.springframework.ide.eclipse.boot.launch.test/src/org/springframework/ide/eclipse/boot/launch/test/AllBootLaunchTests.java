@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal Software, Inc.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,7 +20,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	ProfileHistoryTest.class,
 	BootLaunchConfigurationDelegateTest.class,
 	BootLaunchShortcutTest.class,
-	BootGroovyScriptLaunchConfigurationDelegateTest.class
+	BootGroovyScriptLaunchConfigurationDelegateTest.class,
+	JMXConnectionPoolTest.class,
+	MainTypeIndexTest.class
 })
 public class AllBootLaunchTests {
 
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.launch.util.JMXConnectionPool;
+import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifeCycleClientManager;
+import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecycleClient;
+
+/**
+ * Tests {@link JMXConnectionPool} against an in-process mbean server that plays the role of
+ * a running boot app.
+ */
+public class JMXConnectionPoolTest {
+
+	private static final int PORT = 12345;
+	private static final String ADMIN_OBJECT_NAME = "org.springframework.boot:type=Admin,name=SpringApplication";
+
+	public interface AdminMBean {
+		boolean isReady();
+		String getProperty(String name);
+	}
+
+	public static class Admin implements AdminMBean {
+		volatile boolean ready = false;
+		final Map<String, String> properties = new HashMap<>();
+
+		@Override
+		public boolean isReady() {
+			return ready;
+		}
+
+		@Override
+		public String getProperty(String name) {
+			return properties.get(name);
+		}
+	}
+
+	private Admin admin;
+	private MBeanServer mbeanServer;
+	private JMXConnectorServer connectorServer;
+	private JMXConnectionPool pool;
+	private int connects = 0;
+
+	@Before
+	public void setup() throws Exception {
+		admin = new Admin();
+		admin.properties.put("local.server.port", "8080");
+		mbeanServer = MBeanServerFactory.newMBeanServer();
+		mbeanServer.registerMBean(new StandardMBean(admin, AdminMBean.class), new ObjectName(ADMIN_OBJECT_NAME));
+		startConnectorServer();
+		pool = new JMXConnectionPool(this::connect);
+	}
+
+	@After
+	public void teardown() throws Exception {
+		pool.dispose();
+		if (connectorServer!=null) {
+			connectorServer.stop();
+		}
+		MBeanServerFactory.releaseMBeanServer(mbeanServer);
+	}
+
+	@Test
+	public void clientsShareOneConnection() throws Exception {
+		SpringApplicationLifeCycleClientManager readyChecker = new SpringApplicationLifeCycleClientManager(pool, () -> PORT);
+		SpringApplicationLifeCycleClientManager portChecker = new SpringApplicationLifeCycleClientManager(pool, () -> PORT);
+
+		for (int i = 0; i < 10; i++) {
+			SpringApplicationLifecycleClient client = readyChecker.getLifeCycleClient();
+			assertNotNull(client);
+			assertFalse(client.isReady());
+			readyChecker.disposeClient();
+		}
+		admin.ready = true;
+		assertTrue(readyChecker.getLifeCycleClient().isReady());
+		assertEquals(8080, portChecker.getLifeCycleClient().getProperty("local.server.port", -1));
+		portChecker.disposeClient();
+
+		assertEquals(1, connects);
+	}
+
+	@Test
+	public void reconnectAfterFailure() throws Exception {
+		SpringApplicationLifeCycleClientManager manager = new SpringApplicationLifeCycleClientManager(pool, () -> PORT);
+		assertFalse(manager.getLifeCycleClient().isReady());
+
+		connectorServer.stop();
+		startConnectorServer();
+		try {
+			manager.getLifeCycleClient().isReady();
+			fail("Connection to stopped server should fail");
+		} catch (Exception e) {
+			manager.disposeClient(e);
+		}
+
+		admin.ready = true;
+		assertTrue(manager.getLifeCycleClient().isReady());
+		assertEquals(2, connects);
+	}
+
+	@Test
+	public void noReconnectAfterNonCommunicationFailure() throws Exception {
+		SpringApplicationLifeCycleClientManager manager = new SpringApplicationLifeCycleClientManager(pool, () -> PORT);
+		assertNotNull(manager.getLifeCycleClient());
+		manager.disposeClient(new IllegalStateException("port not (yet) set"));
+		assertNotNull(manager.getLifeCycleClient());
+		assertEquals(1, connects);
+	}
+
+	@Test
+	public void closeDropsConnection() throws Exception {
+		SpringApplicationLifeCycleClientManager manager = new SpringApplicationLifeCycleClientManager(pool, () -> PORT);
+		assertNotNull(manager.getLifeCycleClient());
+		pool.close(PORT);
+		manager.disposeClient();
+		assertNotNull(manager.getLifeCycleClient());
+		assertEquals(2, connects);
+	}
+
+	@Test
+	public void noClientWithoutPort() throws Exception {
+		SpringApplicationLifeCycleClientManager manager = new SpringApplicationLifeCycleClientManager(pool, () -> -1);
+		assertEquals(null, manager.getLifeCycleClient());
+		assertEquals(0, connects);
+	}
+
+	private void startConnectorServer() throws IOException {
+		connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(new JMXServiceURL("service:jmx:rmi://127.0.0.1"), null, mbeanServer);
+		connectorServer.start();
+	}
+
+	private synchronized JMXConnector connect(int port) throws IOException {
+		assertEquals(PORT, port);
+		connects++;
+		return JMXConnectorFactory.connect(connectorServer.getAddress());
+	}
+
+}
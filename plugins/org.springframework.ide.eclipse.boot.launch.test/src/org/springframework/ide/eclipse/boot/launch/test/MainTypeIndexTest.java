@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.launch.util.MainTypeIndex;
+import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
+
+public class MainTypeIndexTest extends BootLaunchTestCase {
+
+	private static final String PROJECT = "empty-boot-project";
+	private static final String MAIN_TYPE = "demo.EmptyBootProjectApplication";
+
+	private File stateFile;
+	private MainTypeIndex index;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		stateFile = File.createTempFile("main-types", ".properties");
+		stateFile.delete();
+		index = new MainTypeIndex(stateFile);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		index.dispose();
+		Files.deleteIfExists(stateFile.toPath());
+		super.tearDown();
+	}
+
+	public void testMainTypesRemembered() throws Exception {
+		IJavaProject project = JavaCore.create(createLaunchReadyProject(PROJECT));
+		IType[] types = index.getMainTypes(project, new NullProgressMonitor());
+		assertTypes(types, MAIN_TYPE);
+		assertEquals(types[0], index.getMainTypes(project, new NullProgressMonitor())[0]);
+	}
+
+	public void testMainTypesSavedAcrossRestart() throws Exception {
+		IJavaProject project = JavaCore.create(createLaunchReadyProject(PROJECT));
+		assertTypes(index.getMainTypes(project, new NullProgressMonitor()), MAIN_TYPE);
+		index.dispose();
+		assertTrue(stateFile.isFile());
+
+		index = new MainTypeIndex(stateFile);
+		assertTypes(index.getMainTypes(project, new NullProgressMonitor()), MAIN_TYPE);
+		//Saved main types are searched again in the background
+		Job.getJobManager().join(index, null);
+		assertTypes(index.getMainTypes(project, new NullProgressMonitor()), MAIN_TYPE);
+	}
+
+	public void testMainTypeDeleted() throws Exception {
+		IJavaProject project = JavaCore.create(createLaunchReadyProject(PROJECT));
+		assertTypes(index.getMainTypes(project, new NullProgressMonitor()), MAIN_TYPE);
+
+		project.findType(MAIN_TYPE).getCompilationUnit().delete(true, new NullProgressMonitor());
+
+		IType[] expected = MainTypeFinder.guessMainTypes(project, new NullProgressMonitor());
+		IType[] actual = index.getMainTypes(project, new NullProgressMonitor());
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i]);
+		}
+		for (IType type : actual) {
+			assertFalse(MAIN_TYPE.equals(type.getFullyQualifiedName()));
+		}
+	}
+
+	private void assertTypes(IType[] actual, String... expected) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i].getFullyQualifiedName());
+		}
+	}
+
+}
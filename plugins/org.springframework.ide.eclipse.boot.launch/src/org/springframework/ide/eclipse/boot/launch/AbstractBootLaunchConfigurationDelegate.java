@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,7 +32,6 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
-import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.model.IDebugTarget;
@@ -41,6 +40,7 @@ import org.eclipse.jdt.launching.JavaLaunchDelegate;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.core.BootPreferences;
 import org.springframework.ide.eclipse.boot.core.SpringBootCore;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchConfigurationIndex;
 import org.springframework.ide.eclipse.boot.util.ProcessListenerAdapter;
 import org.springframework.ide.eclipse.boot.util.ProcessTracker;
 import org.springsource.ide.eclipse.commons.core.util.StringUtil;
@@ -141,20 +141,7 @@ public abstract class AbstractBootLaunchConfigurationDelegate extends JavaLaunch
 
 	public static List<ILaunchConfiguration> getLaunchConfigs(IProject p, String confTypeId) {
 		try {
-			ILaunchManager lm = getLaunchMan();
-			ILaunchConfigurationType type = lm.getLaunchConfigurationType(confTypeId);
-			if (type!=null) {
-				ILaunchConfiguration[] configs = lm.getLaunchConfigurations(type);
-				if (configs!=null && configs.length>0) {
-					ArrayList<ILaunchConfiguration> result = new ArrayList<>();
-					for (ILaunchConfiguration conf : configs) {
-						if (p.equals(getProject(conf))) {
-							result.add(conf);
-						}
-					}
-					return result;
-				}
-			}
+			return new ArrayList<>(LaunchConfigurationIndex.getDefault().getConfigs(confTypeId, p));
 		} catch (Exception e) {
 			Log.log(e);
 		}
@@ -313,7 +300,7 @@ public abstract class AbstractBootLaunchConfigurationDelegate extends JavaLaunch
 
 	public static String getProjectName(ILaunchConfiguration conf)
 			throws CoreException {
-		return conf.getAttribute(ATTR_PROJECT_NAME, "");
+		return LaunchConfigurationIndex.getDefault().getAttribute(conf, ATTR_PROJECT_NAME, "");
 	}
 
 	public static void setProject(ILaunchConfigurationWorkingCopy conf, IProject p) {
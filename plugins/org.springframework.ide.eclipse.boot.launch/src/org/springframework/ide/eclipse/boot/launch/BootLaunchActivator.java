@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,9 @@ import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.springframework.ide.eclipse.boot.launch.util.BootLaunchConfDeleter;
+import org.springframework.ide.eclipse.boot.launch.util.JMXConnectionPool;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchConfigurationIndex;
+import org.springframework.ide.eclipse.boot.launch.util.MainTypeIndex;
 
 /**
  * @author Kris De Volder
@@ -42,6 +45,9 @@ public class BootLaunchActivator extends AbstractUIPlugin {
 		if (workspaceListener!=null) {
 			workspaceListener.dispose();
 		}
+		LaunchConfigurationIndex.disposeDefault();
+		JMXConnectionPool.disposeDefault();
+		MainTypeIndex.disposeDefault();
 		super.stop(context);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2018 Pivotal Software, Inc.
+ * Copyright (c) 2015, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -53,6 +53,7 @@ import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport;
 import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport.Feature;
 import org.springframework.ide.eclipse.boot.launch.process.BootProcessFactory;
 import org.springframework.ide.eclipse.boot.launch.profiles.ProfileHistory;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchConfigurationIndex;
 import org.springframework.ide.eclipse.boot.launch.util.PortFinder;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springsource.ide.eclipse.commons.core.util.OsUtils;
@@ -266,7 +267,7 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 
 	public static boolean isHiddenFromBootDash(ILaunchConfiguration conf) {
 		try {
-			return conf.getAttribute(HIDE_FROM_BOOT_DASH, DEFAULT_HIDE_FROM_BOOT_DASH);
+			return LaunchConfigurationIndex.getDefault().getAttribute(conf, HIDE_FROM_BOOT_DASH, DEFAULT_HIDE_FROM_BOOT_DASH);
 		} catch (CoreException e) {
 			Log.log(e);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012 GoPivotal, Inc.
+ * Copyright (c) 2012, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.launch.devtools;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -104,14 +102,7 @@ public class BootDevtoolsClientLaunchShortcut implements ILaunchShortcut {
 	}
 
 	private List<ILaunchConfiguration> findConfigurations(IProject project) throws CoreException {
-		ILaunchManager lm = getLaunchManager();
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration c : lm.getLaunchConfigurations(getLaunchType())) {
-			if (Objects.equals(BootLaunchConfigurationDelegate.getProject(c), project)) {
-				configs.add(c);
-			}
-		}
-		return configs;
+		return BootLaunchConfigurationDelegate.getLaunchConfigs(project, BootDevtoolsClientLaunchConfigurationDelegate.TYPE_ID);
 	}
 
 	/**
@@ -147,10 +138,6 @@ public class BootDevtoolsClientLaunchShortcut implements ILaunchShortcut {
 		return JDIDebugUIPlugin.getActiveWorkbenchShell();
 	}
 
-	private ILaunchConfigurationType getLaunchType() {
-		return getLaunchManager().getLaunchConfigurationType(BootDevtoolsClientLaunchConfigurationDelegate.TYPE_ID);
-	}
-
 	/**
 	 * Returns the singleton launch manager.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Pivotal, Inc.
+ * Copyright (c) 2017, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,10 +47,20 @@ public class JMXClient implements Disposable {
 		this(connector, connector.getMBeanServerConnection());
 	}
 
+	/**
+	 * Create a client using a connection owned by someone else (e.g. a {@link JMXConnectionPool}).
+	 * Disposing the client doesn't close that connection.
+	 */
+	public JMXClient(MBeanServerConnection connection) {
+		this(null, connection);
+	}
+
 	@Override
 	public void dispose() {
 		try {
-			this.connector.close();
+			if (this.connector!=null) {
+				this.connector.close();
+			}
 		} catch (IOException e) {
 			//Ignore
 		}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServerConnection;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
+
+/**
+ * Keeps one long-lived JMX connection per local JMX port, shared by all the clients talking
+ * to the process listening on that port (lifecycle clients, actuator clients, etc.).
+ * <p>
+ * A connection is established the first time it is needed, and re-established the next
+ * time it is needed after the connector reported a failure, or after a client reported
+ * a communication problem. The default pool closes the connection of a launch when that
+ * launch terminates.
+ *
+ * @since 3.9.12
+ */
+public class JMXConnectionPool {
+
+	@FunctionalInterface
+	public interface ConnectorFactory {
+		JMXConnector connect(int port) throws IOException;
+	}
+
+	private static JMXConnectionPool defaultPool;
+
+	public static synchronized JMXConnectionPool getDefault() {
+		if (defaultPool==null) {
+			defaultPool = new JMXConnectionPool(JMXClient::createLocalJmxConnector);
+			defaultPool.closeOnTermination(DebugPlugin.getDefault().getLaunchManager());
+		}
+		return defaultPool;
+	}
+
+	public static synchronized void disposeDefault() {
+		if (defaultPool!=null) {
+			defaultPool.dispose();
+			defaultPool = null;
+		}
+	}
+
+	/**
+	 * A shared connection to the process listening on a given JMX port.
+	 */
+	public class PooledConnection {
+
+		private final int port;
+		private JMXConnector connector;
+		private MBeanServerConnection connection;
+
+		private final NotificationListener connectorListener = new NotificationListener() {
+			@Override
+			public void handleNotification(Notification notification, Object handback) {
+				String type = notification.getType();
+				if (JMXConnectionNotification.FAILED.equals(type) || JMXConnectionNotification.CLOSED.equals(type)) {
+					reset((JMXConnector) handback);
+				}
+			}
+		};
+
+		private PooledConnection(int port) {
+			this.port = port;
+		}
+
+		public int getPort() {
+			return port;
+		}
+
+		/**
+		 * Get the connection, connecting to the process if needed.
+		 *
+		 * @throws IOException if a connection could not be established.
+		 */
+		public synchronized MBeanServerConnection getConnection() throws IOException {
+			if (connection==null) {
+				JMXConnector connector = connectorFactory.connect(port);
+				if (connector==null) {
+					throw new IOException("Couldn't connect to JMX port "+port);
+				}
+				try {
+					connector.addConnectionNotificationListener(connectorListener, null, connector);
+					this.connection = connector.getMBeanServerConnection();
+					this.connector = connector;
+				} catch (IOException e) {
+					close(connector);
+					throw e;
+				}
+			}
+			return connection;
+		}
+
+		/**
+		 * Report a failed operation on this connection. The connection is closed if the failure
+		 * is a communication problem, so that the next use of the connection reconnects.
+		 */
+		public void failed(Throwable e) {
+			if (ExceptionUtil.getDeepestCause(e) instanceof IOException) {
+				reset();
+			}
+		}
+
+		/**
+		 * Close the current connection (if any). The next use of the connection reconnects.
+		 */
+		public synchronized void reset() {
+			JMXConnector connector = this.connector;
+			this.connector = null;
+			this.connection = null;
+			if (connector!=null) {
+				try {
+					connector.removeConnectionNotificationListener(connectorListener);
+				} catch (Exception e) {
+					//ignore
+				}
+				close(connector);
+			}
+		}
+
+		private synchronized void reset(JMXConnector failed) {
+			if (connector==failed) {
+				reset();
+			}
+		}
+	}
+
+	private final ConnectorFactory connectorFactory;
+	private final Map<Integer, PooledConnection> connections = new HashMap<>();
+
+	private ILaunchManager launchManager;
+	private ILaunchesListener2 launchesListener;
+
+	public JMXConnectionPool(ConnectorFactory connectorFactory) {
+		this.connectorFactory = connectorFactory;
+	}
+
+	/**
+	 * Get the shared connection for a given port. The returned connection isn't necessarily
+	 * connected yet.
+	 */
+	public synchronized PooledConnection get(int port) {
+		PooledConnection connection = connections.get(port);
+		if (connection==null) {
+			connections.put(port, connection = new PooledConnection(port));
+		}
+		return connection;
+	}
+
+	/**
+	 * Close the shared connection for a given port, if there is one.
+	 */
+	public void close(int port) {
+		PooledConnection connection;
+		synchronized (this) {
+			connection = connections.remove(port);
+		}
+		if (connection!=null) {
+			connection.reset();
+		}
+	}
+
+	private synchronized void closeOnTermination(ILaunchManager launchManager) {
+		this.launchManager = launchManager;
+		launchManager.addLaunchListener(launchesListener = new ILaunchesListener2() {
+			@Override
+			public void launchesTerminated(ILaunch[] launches) {
+				close(launches);
+			}
+
+			@Override
+			public void launchesRemoved(ILaunch[] launches) {
+				close(launches);
+			}
+
+			@Override
+			public void launchesAdded(ILaunch[] launches) {
+			}
+
+			@Override
+			public void launchesChanged(ILaunch[] launches) {
+			}
+		});
+	}
+
+	private void close(ILaunch[] launches) {
+		for (ILaunch launch : launches) {
+			int port = BootLaunchConfigurationDelegate.getJMXPortAsInt(launch);
+			if (port>0) {
+				close(port);
+			}
+		}
+	}
+
+	public void dispose() {
+		List<PooledConnection> toClose;
+		synchronized (this) {
+			if (launchManager!=null) {
+				launchManager.removeLaunchListener(launchesListener);
+				launchManager = null;
+				launchesListener = null;
+			}
+			toClose = new ArrayList<>(connections.values());
+			connections.clear();
+		}
+		for (PooledConnection connection : toClose) {
+			connection.reset();
+		}
+	}
+
+	private static void close(JMXConnector connector) {
+		try {
+			connector.close();
+		} catch (Exception e) {
+			//ignore
+		}
+	}
+
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.util;
+
+import static org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.debug.core.ILaunchManager;
+import org.springsource.ide.eclipse.commons.livexp.util.Log;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Live index of the launch configurations in the workspace by type and project.
+ * <p>
+ * The index reads every launch configuration once, and then keeps itself up-to-date
+ * through an {@link ILaunchConfigurationListener}. It also keeps a copy of the attributes
+ * of each configuration, so that callers filtering configurations by their attributes
+ * don't have to go back to the launch manager for every read. Working copies are
+ * never indexed, their attributes are always read from the working copy itself.
+ *
+ * @since 3.9.12
+ */
+public class LaunchConfigurationIndex {
+
+	private static LaunchConfigurationIndex defaultIndex;
+
+	public static synchronized LaunchConfigurationIndex getDefault() {
+		if (defaultIndex==null) {
+			defaultIndex = new LaunchConfigurationIndex(DebugPlugin.getDefault().getLaunchManager());
+		}
+		return defaultIndex;
+	}
+
+	public static synchronized void disposeDefault() {
+		if (defaultIndex!=null) {
+			defaultIndex.dispose();
+			defaultIndex = null;
+		}
+	}
+
+	private static class Entry {
+		final String typeId;
+		final String projectName;
+		final Map<String, Object> attributes;
+
+		Entry(String typeId, Map<String, Object> attributes) {
+			this.typeId = typeId;
+			this.attributes = attributes;
+			Object projectName = attributes.get(ATTR_PROJECT_NAME);
+			this.projectName = projectName instanceof String ? (String) projectName : "";
+		}
+	}
+
+	private final ILaunchManager launchManager;
+	private final Map<ILaunchConfiguration, Entry> entries = new HashMap<>();
+	private final Map<String, ImmutableSet<ILaunchConfiguration>> configsByType = new HashMap<>();
+	private final Map<String, Map<String, ImmutableSet<ILaunchConfiguration>>> configsByTypeAndProject = new HashMap<>();
+	private ILaunchConfigurationListener listener;
+	private boolean initialized = false;
+
+	public LaunchConfigurationIndex(ILaunchManager launchManager) {
+		this.launchManager = launchManager;
+	}
+
+	/**
+	 * @return All launch configurations of the given type.
+	 */
+	public synchronized ImmutableSet<ILaunchConfiguration> getConfigs(String typeId) {
+		init();
+		ImmutableSet<ILaunchConfiguration> configs = configsByType.get(typeId);
+		return configs==null ? ImmutableSet.of() : configs;
+	}
+
+	/**
+	 * @return The launch configurations of the given type associated with the given project.
+	 */
+	public synchronized ImmutableSet<ILaunchConfiguration> getConfigs(String typeId, IProject project) {
+		init();
+		Map<String, ImmutableSet<ILaunchConfiguration>> byProject = configsByTypeAndProject.get(typeId);
+		if (byProject!=null) {
+			ImmutableSet<ILaunchConfiguration> configs = byProject.get(project.getName());
+			if (configs!=null) {
+				return configs;
+			}
+		}
+		return ImmutableSet.of();
+	}
+
+	/**
+	 * @return The attributes of the given configuration (read-only).
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> getAttributes(ILaunchConfiguration conf) throws CoreException {
+		if (!conf.isWorkingCopy()) {
+			synchronized (this) {
+				init();
+				Entry entry = entries.get(conf);
+				if (entry==null && conf.exists()) {
+					//Not notified to the listener yet.
+					entry = add(conf);
+				}
+				if (entry!=null) {
+					return entry.attributes;
+				}
+			}
+		}
+		return Collections.unmodifiableMap(conf.getAttributes());
+	}
+
+	public String getAttribute(ILaunchConfiguration conf, String name, String defaultValue) throws CoreException {
+		Object value = getAttributes(conf).get(name);
+		if (value==null) {
+			return defaultValue;
+		} else if (value instanceof String) {
+			return (String) value;
+		}
+		//Let the configuration report the type mismatch
+		return conf.getAttribute(name, defaultValue);
+	}
+
+	public boolean getAttribute(ILaunchConfiguration conf, String name, boolean defaultValue) throws CoreException {
+		Object value = getAttributes(conf).get(name);
+		if (value==null) {
+			return defaultValue;
+		} else if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		//Let the configuration report the type mismatch
+		return conf.getAttribute(name, defaultValue);
+	}
+
+	private void init() {
+		if (!initialized) {
+			initialized = true;
+			launchManager.addLaunchConfigurationListener(listener = new ILaunchConfigurationListener() {
+				@Override
+				public void launchConfigurationAdded(ILaunchConfiguration conf) {
+					update(conf);
+				}
+
+				@Override
+				public void launchConfigurationChanged(ILaunchConfiguration conf) {
+					update(conf);
+				}
+
+				@Override
+				public void launchConfigurationRemoved(ILaunchConfiguration conf) {
+					//Careful: the type of a deleted config can't be determined anymore,
+					// so it is removed using the type recorded in the index.
+					synchronized (LaunchConfigurationIndex.this) {
+						remove(conf);
+					}
+				}
+			});
+			try {
+				for (ILaunchConfiguration conf : launchManager.getLaunchConfigurations()) {
+					add(conf);
+				}
+			} catch (CoreException e) {
+				Log.log(e);
+			}
+		}
+	}
+
+	private synchronized void update(ILaunchConfiguration conf) {
+		if (conf!=null && !conf.isWorkingCopy()) {
+			remove(conf);
+			if (conf.exists()) {
+				add(conf);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Entry add(ILaunchConfiguration conf) {
+		try {
+			Entry entry = new Entry(conf.getType().getIdentifier(),
+					Collections.unmodifiableMap(new HashMap<>(conf.getAttributes())));
+			entries.put(conf, entry);
+			configsByType.put(entry.typeId, with(configsByType.get(entry.typeId), conf));
+			Map<String, ImmutableSet<ILaunchConfiguration>> byProject = configsByTypeAndProject.get(entry.typeId);
+			if (byProject==null) {
+				configsByTypeAndProject.put(entry.typeId, byProject = new HashMap<>());
+			}
+			byProject.put(entry.projectName, with(byProject.get(entry.projectName), conf));
+			return entry;
+		} catch (CoreException e) {
+			//Happens for configurations of a type that is not installed
+			Log.log(e);
+			return null;
+		}
+	}
+
+	private void remove(ILaunchConfiguration conf) {
+		Entry entry = entries.remove(conf);
+		if (entry!=null) {
+			configsByType.put(entry.typeId, without(configsByType.get(entry.typeId), conf));
+			Map<String, ImmutableSet<ILaunchConfiguration>> byProject = configsByTypeAndProject.get(entry.typeId);
+			if (byProject!=null) {
+				ImmutableSet<ILaunchConfiguration> configs = without(byProject.get(entry.projectName), conf);
+				if (configs.isEmpty()) {
+					byProject.remove(entry.projectName);
+				} else {
+					byProject.put(entry.projectName, configs);
+				}
+			}
+		}
+	}
+
+	private static ImmutableSet<ILaunchConfiguration> with(ImmutableSet<ILaunchConfiguration> configs, ILaunchConfiguration conf) {
+		ImmutableSet.Builder<ILaunchConfiguration> builder = ImmutableSet.builder();
+		if (configs!=null) {
+			builder.addAll(configs);
+		}
+		return builder.add(conf).build();
+	}
+
+	private static ImmutableSet<ILaunchConfiguration> without(ImmutableSet<ILaunchConfiguration> configs, ILaunchConfiguration conf) {
+		ImmutableSet.Builder<ILaunchConfiguration> builder = ImmutableSet.builder();
+		if (configs!=null) {
+			for (ILaunchConfiguration c : configs) {
+				if (!c.equals(conf)) {
+					builder.add(c);
+				}
+			}
+		}
+		return builder.build();
+	}
+
+	public synchronized void dispose() {
+		if (listener!=null) {
+			launchManager.removeLaunchConfigurationListener(listener);
+			listener = null;
+		}
+		entries.clear();
+		configsByType.clear();
+		configsByTypeAndProject.clear();
+		initialized = false;
+	}
+
+}
@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.ide.eclipse.boot.launch.BootLaunchActivator;
+import org.springsource.ide.eclipse.commons.frameworks.core.maintype.MainTypeFinder;
+import org.springsource.ide.eclipse.commons.livexp.util.Log;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+
+/**
+ * Index of the main types of each java project, as guessed by {@link MainTypeFinder}.
+ * <p>
+ * The main types of a project are searched for the first time they are needed, and then
+ * kept until a java element delta shows that they may have changed: a compilation unit
+ * declaring one of them, or declaring a new main method or
+ * <code>@SpringBootApplication</code> class, was changed, or the classpath of the project
+ * changed.
+ * <p>
+ * The index is saved when it is disposed, and the saved main types are used right away
+ * after a restart. As changes made while the workspace was closed may not show up as
+ * deltas, the saved main types of a project are searched for again in the background the
+ * first time they are used.
+ *
+ * @since 3.9.12
+ */
+public class MainTypeIndex {
+
+	private static final String SPRING_BOOT_APPLICATION = "SpringBootApplication";
+	private static final String SPRING_BOOT_APPLICATION_FQ = "org.springframework.boot.autoconfigure.SpringBootApplication";
+
+	private static MainTypeIndex defaultIndex;
+
+	public static synchronized MainTypeIndex getDefault() {
+		if (defaultIndex==null) {
+			BootLaunchActivator plugin = BootLaunchActivator.getInstance();
+			File stateFile = plugin==null ? null : plugin.getStateLocation().append("main-types.properties").toFile();
+			defaultIndex = new MainTypeIndex(stateFile);
+		}
+		return defaultIndex;
+	}
+
+	public static synchronized void disposeDefault() {
+		if (defaultIndex!=null) {
+			defaultIndex.dispose();
+			defaultIndex = null;
+		}
+	}
+
+	private static class Entry {
+		/**
+		 * Handle identifiers of the main types.
+		 */
+		final ImmutableList<String> handles;
+
+		/**
+		 * Whether the main types were searched for in this session (as opposed to read from
+		 * the saved index).
+		 */
+		final boolean verified;
+
+		Entry(ImmutableList<String> handles, boolean verified) {
+			this.handles = handles;
+			this.verified = verified;
+		}
+	}
+
+	private final File stateFile;
+	private final Map<String, Entry> entries = new HashMap<>();
+	private IElementChangedListener listener;
+	private boolean initialized = false;
+
+	/**
+	 * Incremented each time an entry is invalidated, so that a search that ran concurrently
+	 * with the invalidation doesn't store an outdated result.
+	 */
+	private long generation = 0;
+
+	/**
+	 * Projects with a search in progress. Changes to such a project have to invalidate it
+	 * even though it has no entry yet.
+	 */
+	private final Multiset<String> searching = HashMultiset.create();
+
+	/**
+	 * @param stateFile File where the index is saved, or null to not save it.
+	 */
+	public MainTypeIndex(File stateFile) {
+		this.stateFile = stateFile;
+	}
+
+	/**
+	 * @return The main types of the given project, in the same order as
+	 * {@link MainTypeFinder#guessMainTypes(IJavaProject, IProgressMonitor)} returns them.
+	 */
+	public IType[] getMainTypes(IJavaProject project, IProgressMonitor mon) throws CoreException {
+		if (project==null) {
+			return MainTypeFinder.guessMainTypes(project, mon);
+		}
+		String name = project.getElementName();
+		Entry entry;
+		synchronized (this) {
+			init();
+			entry = entries.get(name);
+		}
+		if (entry!=null) {
+			IType[] types = resolve(entry);
+			if (types!=null) {
+				if (!entry.verified) {
+					verifyInBackground(project, entry);
+				}
+				return types;
+			}
+		}
+		return search(project, mon);
+	}
+
+	private IType[] search(IJavaProject project, IProgressMonitor mon) throws CoreException {
+		String name = project.getElementName();
+		long startGeneration;
+		synchronized (this) {
+			startGeneration = generation;
+			searching.add(name);
+		}
+		try {
+			IType[] types = MainTypeFinder.guessMainTypes(project, mon);
+			if (types!=null) {
+				ImmutableList.Builder<String> handles = ImmutableList.builder();
+				for (IType type : types) {
+					handles.add(type.getHandleIdentifier());
+				}
+				synchronized (this) {
+					if (generation==startGeneration) {
+						entries.put(name, new Entry(handles.build(), true));
+					}
+				}
+			}
+			return types;
+		} finally {
+			synchronized (this) {
+				searching.remove(name);
+			}
+		}
+	}
+
+	private void verifyInBackground(IJavaProject project, Entry entry) {
+		synchronized (this) {
+			if (entries.get(project.getElementName())!=entry) {
+				return;
+			}
+			entries.put(project.getElementName(), new Entry(entry.handles, true));
+		}
+		Job job = new Job("Search main types of "+project.getElementName()) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					search(project, monitor);
+				} catch (CoreException e) {
+					Log.log(e);
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family==MainTypeIndex.this;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * @return The types of the entry, or null if any of them doesn't exist anymore.
+	 */
+	private static IType[] resolve(Entry entry) {
+		IType[] types = new IType[entry.handles.size()];
+		for (int i = 0; i < types.length; i++) {
+			IJavaElement element = JavaCore.create(entry.handles.get(i));
+			if (element instanceof IType && element.exists()) {
+				types[i] = (IType) element;
+			} else {
+				return null;
+			}
+		}
+		return types;
+	}
+
+	private void init() {
+		if (!initialized) {
+			initialized = true;
+			load();
+			JavaCore.addElementChangedListener(listener = new IElementChangedListener() {
+				@Override
+				public void elementChanged(ElementChangedEvent event) {
+					visit(event.getDelta());
+				}
+			}, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	private void visit(IJavaElementDelta delta) {
+		IJavaElement el = delta.getElement();
+		int kind = delta.getKind();
+		int flags = delta.getFlags();
+		switch (el.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			visitChildren(delta);
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (kind!=IJavaElementDelta.CHANGED || 0!=(flags & (
+					IJavaElementDelta.F_CLOSED |
+					IJavaElementDelta.F_OPENED |
+					IJavaElementDelta.F_CLASSPATH_CHANGED |
+					IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			))) {
+				invalidate(el.getElementName());
+			} else {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			if (kind!=IJavaElementDelta.CHANGED || 0!=(flags & (
+					IJavaElementDelta.F_ADDED_TO_CLASSPATH |
+					IJavaElementDelta.F_REMOVED_FROM_CLASSPATH |
+					IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			))) {
+				invalidate(el.getJavaProject().getElementName());
+			} else if (!((IPackageFragmentRoot) el).isArchive()) {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			if (kind!=IJavaElementDelta.CHANGED) {
+				invalidate(el.getJavaProject().getElementName());
+			} else {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			ICompilationUnit cu = (ICompilationUnit) el;
+			if (kind!=IJavaElementDelta.CHANGED || 0!=(flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE))) {
+				String project = cu.getJavaProject().getElementName();
+				//Projects that aren't indexed are searched anyway when their main types are requested,
+				// so don't spend time on parsing their compilation units.
+				if (isIndexed(project) && (declaresIndexedType(project, cu) || (kind!=IJavaElementDelta.REMOVED && declaresCandidate(cu)))) {
+					invalidate(project);
+				}
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void visitChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta c : delta.getAffectedChildren()) {
+			visit(c);
+		}
+	}
+
+	private synchronized boolean isIndexed(String project) {
+		return entries.containsKey(project) || searching.contains(project);
+	}
+
+	private synchronized boolean declaresIndexedType(String project, ICompilationUnit cu) {
+		Entry entry = entries.get(project);
+		if (entry!=null) {
+			//Handles of the types in a compilation unit start with the handle of the compilation unit
+			String typeHandlePrefix = cu.getHandleIdentifier() + "[";
+			for (String handle : entry.handles) {
+				if (handle.startsWith(typeHandlePrefix)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean declaresCandidate(ICompilationUnit cu) {
+		try {
+			for (IType type : cu.getAllTypes()) {
+				for (IAnnotation annotation : type.getAnnotations()) {
+					String name = annotation.getElementName();
+					if (SPRING_BOOT_APPLICATION.equals(name) || SPRING_BOOT_APPLICATION_FQ.equals(name)) {
+						return true;
+					}
+				}
+				for (IMethod method : type.getMethods()) {
+					if (method.isMainMethod()) {
+						return true;
+					}
+				}
+			}
+			return false;
+		} catch (JavaModelException e) {
+			//Can't tell, so assume it does
+			return true;
+		}
+	}
+
+	private synchronized void invalidate(String project) {
+		generation++;
+		entries.remove(project);
+	}
+
+	private void load() {
+		if (stateFile!=null && stateFile.isFile()) {
+			Properties props = new Properties();
+			try (InputStream in = new FileInputStream(stateFile)) {
+				props.load(in);
+			} catch (IOException e) {
+				Log.log(e);
+				return;
+			}
+			for (String project : props.stringPropertyNames()) {
+				String handles = props.getProperty(project);
+				ImmutableList<String> list = handles.isEmpty() ? ImmutableList.of() : ImmutableList.copyOf(handles.split("\n"));
+				entries.put(project, new Entry(list, false));
+			}
+		}
+	}
+
+	/**
+	 * Save the index, so that it can be used right away after a restart.
+	 */
+	public synchronized void save() {
+		if (stateFile!=null && initialized) {
+			Properties props = new Properties();
+			for (Map.Entry<String, Entry> e : entries.entrySet()) {
+				props.setProperty(e.getKey(), String.join("\n", e.getValue().handles));
+			}
+			stateFile.getParentFile().mkdirs();
+			try (OutputStream out = new FileOutputStream(stateFile)) {
+				props.store(out, null);
+			} catch (IOException e) {
+				Log.log(e);
+			}
+		}
+	}
+
+	public synchronized void dispose() {
+		save();
+		if (listener!=null) {
+			JavaCore.removeElementChangedListener(listener);
+			listener = null;
+		}
+		entries.clear();
+		initialized = false;
+	}
+
+}
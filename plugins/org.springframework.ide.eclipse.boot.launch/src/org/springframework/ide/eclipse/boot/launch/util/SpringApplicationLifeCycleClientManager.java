@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,17 +10,20 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.launch.util;
 
-import java.io.IOException;
-
 import javax.inject.Provider;
+import javax.management.MBeanServerConnection;
 import javax.management.remote.JMXConnector;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.debug.core.ILaunch;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.util.JMXConnectionPool.PooledConnection;
 
 /**
  * Creates and manages an instance of {@link SpringApplicationLifecycleClient}.
+ * <p>
+ * Managers created for a launch or a port use the shared connection of a {@link JMXConnectionPool},
+ * so any number of managers talking to the same process only ever use a single connection.
  *
  * @author Kris De Volder
  */
@@ -28,42 +31,53 @@ public class SpringApplicationLifeCycleClientManager {
 
 	private Provider<JMXConnector> connectionProvider;
 	private JMXConnector connector;
+
+	private JMXConnectionPool pool;
+	private Provider<Integer> portProvider;
+	private PooledConnection pooledConnection;
+
 	private SpringApplicationLifecycleClient client;
 
+	/**
+	 * Creates a manager that owns a connection obtained from the given provider, rather
+	 * than a pooled connection.
+	 */
 	public SpringApplicationLifeCycleClientManager(Provider<JMXConnector> connectionProvider) {
 		Assert.isNotNull(connectionProvider);
 		this.connectionProvider = connectionProvider;
 	}
 
 	/**
-	 * Convenenience method, use ILaunch as the jmxPort provider.
+	 * Creates a manager that uses the shared connection of the given pool for the port
+	 * returned by a given port provider.
 	 */
-	public SpringApplicationLifeCycleClientManager(ILaunch l) {
-		this(() -> createJMXConnection(BootLaunchConfigurationDelegate.getJMXPortAsInt(l)));
+	public SpringApplicationLifeCycleClientManager(JMXConnectionPool pool, Provider<Integer> portProvider) {
+		Assert.isNotNull(pool);
+		Assert.isNotNull(portProvider);
+		this.pool = pool;
+		this.portProvider = portProvider;
 	}
 
-	private static JMXConnector createJMXConnection(int port) {
-		if (port <=0) {
-			throw new IllegalStateException("JMX port not specified");
-		}
-		try {
-			return JMXClient.createLocalJmxConnector(port);
-		} catch (IOException e) {
-			return null;
-		}
+	/**
+	 * Convenenience method, use ILaunch as the jmxPort provider.
+	 */
+	public SpringApplicationLifeCycleClientManager(ILaunch l) {
+		this(JMXConnectionPool.getDefault(), () -> BootLaunchConfigurationDelegate.getJMXPortAsInt(l));
 	}
 
 	/**
 	 * Convenenience method, use a given fixed port.
 	 */
 	public SpringApplicationLifeCycleClientManager(int resolvedPort) {
-		this(() -> createJMXConnection(resolvedPort));
+		this(JMXConnectionPool.getDefault(), () -> resolvedPort);
 	}
 
 	/**
 	 * Dispose of current client and JMX connection. This does not
 	 * make the manager itself unusable, as an attempt will be made to
 	 * re-establish the connection the next time it is needed.
+	 * <p>
+	 * A pooled connection is left open for other clients of the same process.
 	 */
 	public synchronized void disposeClient() {
 		try {
@@ -75,17 +89,41 @@ public class SpringApplicationLifeCycleClientManager {
 		}
 		client = null;
 		connector = null;
+		pooledConnection = null;
+	}
+
+	/**
+	 * Dispose of the current client after an operation on it failed. If the failure
+	 * is a communication problem, a pooled connection is closed as well so that the next
+	 * client reconnects.
+	 */
+	public synchronized void disposeClient(Throwable failure) {
+		if (pooledConnection!=null) {
+			pooledConnection.failed(failure);
+		}
+		disposeClient();
 	}
 
 	/**
 	 * Try to obtain a client, may return null if a connection could not be established.
 	 */
-	public SpringApplicationLifecycleClient getLifeCycleClient() {
+	public synchronized SpringApplicationLifecycleClient getLifeCycleClient() {
 		try {
 			if (client==null) {
-				connector = connectionProvider.get();
+				MBeanServerConnection connection;
+				if (pool!=null) {
+					Integer port = portProvider.get();
+					if (port==null || port<=0) {
+						throw new IllegalStateException("JMX port not specified");
+					}
+					pooledConnection = pool.get(port);
+					connection = pooledConnection.getConnection();
+				} else {
+					connector = connectionProvider.get();
+					connection = connector.getMBeanServerConnection();
+				}
 				client = new SpringApplicationLifecycleClient(
-						connector.getMBeanServerConnection(),
+						connection,
 						SpringApplicationLifecycleClient.DEFAULT_OBJECT_NAME
 				);
 			}
@@ -94,7 +132,7 @@ public class SpringApplicationLifeCycleClientManager {
 			//e.printStackTrace();
 			//Someting went wrong creating client (most likely process we are trying to connect
 			// doesn't exist yet or has been terminated.
-			disposeClient();
+			disposeClient(e);
 		}
 		return null;
 	}
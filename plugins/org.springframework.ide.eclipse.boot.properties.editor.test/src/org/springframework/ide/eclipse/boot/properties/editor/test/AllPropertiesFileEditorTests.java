@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2015 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	TypeParserTest.class,
 
 	YamlASTTests.class,
+	SchemaBasedYamlASTReconcilerTest.class,
 	DocumentEditsTest.class,
 	YamlStructureParserTest.class,
 	IndexNavigatorTest.class,
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.editor.support.reconcile.IProblemCollector;
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblemImpl;
+import org.springframework.ide.eclipse.editor.support.yaml.ast.YamlFileAST;
+import org.springframework.ide.eclipse.editor.support.yaml.reconcile.SchemaBasedYamlASTReconciler;
+import org.springframework.ide.eclipse.editor.support.yaml.reconcile.YamlSchemaProblems;
+import org.springframework.ide.eclipse.editor.support.yaml.reconcile.YamlSubtreeProblemCache;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YType;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YTypeFactory;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YTypeFactory.YAtomicType;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YTypeFactory.YBeanType;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YTypeUtil;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YamlSchema;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Tests for the reuse of the problems of unchanged subtrees by {@link SchemaBasedYamlASTReconciler}.
+ */
+public class SchemaBasedYamlASTReconcilerTest {
+
+	private final Yaml yaml = new Yaml();
+	private final YamlSubtreeProblemCache cache = new YamlSubtreeProblemCache();
+	private final AtomicInteger parsedNumbers = new AtomicInteger();
+	private final AtomicInteger verifiedConstraints = new AtomicInteger();
+	private YamlSchema schema;
+
+	@Before
+	public void setup() {
+		YTypeFactory f = new YTypeFactory();
+		YAtomicType number = f.yatomic("Number");
+		number.parseWith((String value) -> {
+			parsedNumbers.incrementAndGet();
+			return Integer.parseInt(value);
+		});
+		YBeanType route = f.ybean("Route", f.yprop("route", f.yatomic("String")));
+		route.require((dc, parent, node, type, problems) -> {
+			verifiedConstraints.incrementAndGet();
+			problems.accept(new ReconcileProblemImpl(YamlSchemaProblems.SCHEMA_PROBLEM, "Checked route",
+					node.getStartMark().getIndex(), 1));
+		});
+		YBeanType app = f.ybean("Application",
+				f.yprop("name", f.yatomic("String")),
+				f.yprop("instances", number),
+				f.yprop("routes", f.yseq(route))
+		);
+		YType topLevel = f.ybean("Manifest",
+				f.yprop("domain", f.yatomic("String")),
+				f.yprop("applications", f.yseq(app))
+		);
+		schema = new YamlSchema() {
+			@Override
+			public YType getTopLevelType() {
+				return topLevel;
+			}
+			@Override
+			public YTypeUtil getTypeUtil() {
+				return f.TYPE_UTIL;
+			}
+		};
+	}
+
+	@Test
+	public void problemsRebasedWhenTextInsertedAboveUnchangedSubtree() throws Exception {
+		String text =
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: bad\n";
+		List<ReconcileProblem> problems = reconcile(text);
+		assertProblems(problems, text, "bad");
+		assertEquals(1, parsedNumbers.get());
+
+		text =
+				"domain: example.com\n" +
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: bad\n";
+		problems = reconcile(text);
+		assertProblems(problems, text, "bad");
+		assertEquals(1, parsedNumbers.get());
+	}
+
+	@Test
+	public void editedSubtreeCheckedAgain() throws Exception {
+		List<ReconcileProblem> problems = reconcile(
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: bad\n"
+		);
+		assertEquals(1, problems.size());
+		assertEquals(1, parsedNumbers.get());
+
+		problems = reconcile(
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: 2\n"
+		);
+		assertEquals(0, problems.size());
+		assertEquals(2, parsedNumbers.get());
+	}
+
+	@Test
+	public void constraintsInUnchangedSubtreeVerifiedAgain() throws Exception {
+		String text =
+				"applications:\n" +
+				"- name: foo\n" +
+				"  routes:\n" +
+				"  - route: foo.example.com\n";
+		assertEquals(1, reconcile(text).size());
+		assertEquals(1, verifiedConstraints.get());
+
+		assertEquals(1, reconcile(text).size());
+		assertEquals(2, verifiedConstraints.get());
+	}
+
+	@Test
+	public void subtreesKeyedByParsedTextWhenDocumentChangedAfterParsing() throws Exception {
+		reconcile(
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: bad\n"
+		);
+		assertEquals(1, parsedNumbers.get());
+
+		String parsed =
+				"domain: example.com\n" +
+				"applications:\n" +
+				"- name: foo\n" +
+				"  instances: bad\n";
+		IDocument doc = new Document(parsed);
+		YamlFileAST ast = parse(doc);
+		doc.replace(0, 0, "# edited after parsing\n");
+		List<ReconcileProblem> problems = reconcile(ast);
+		assertProblems(problems, parsed, "bad");
+		assertEquals(1, parsedNumbers.get());
+	}
+
+	private void assertProblems(List<ReconcileProblem> problems, String text, String problemText) {
+		assertEquals(1, problems.size());
+		assertEquals(text.indexOf(problemText), problems.get(0).getOffset());
+		assertEquals(problemText.length(), problems.get(0).getLength());
+	}
+
+	private YamlFileAST parse(IDocument doc) {
+		String text = doc.get();
+		return new YamlFileAST(doc, text, yaml.composeAll(new StringReader(text)));
+	}
+
+	private List<ReconcileProblem> reconcile(String text) {
+		return reconcile(parse(new Document(text)));
+	}
+
+	private List<ReconcileProblem> reconcile(YamlFileAST ast) {
+		List<ReconcileProblem> problems = new ArrayList<>();
+		IProblemCollector collector = new IProblemCollector() {
+			@Override
+			public void beginCollecting() {
+				problems.clear();
+			}
+			@Override
+			public void endCollecting() {
+			}
+			@Override
+			public void accept(ReconcileProblem problem) {
+				problems.add(problem);
+			}
+		};
+		collector.beginCollecting();
+		new SchemaBasedYamlASTReconciler(collector, schema, cache).reconcile(ast, new NullProgressMonitor());
+		collector.endCollecting();
+		return problems;
+	}
+
+}
@@ -14,6 +14,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		NewSpringBootWizardModelTest.class,
 		NewSpringBootWizardTest.class,
 		InitializrDependencySpecTest.class,
+		InitializrMetadataCacheTest.class,
 		SpringBootValidationTest.class,
 		GSGWizardModelTest.class,
 		InitializrFactoryModelTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,6 +47,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -59,6 +60,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -83,6 +85,7 @@ import org.springframework.ide.eclipse.boot.core.initializr.InitializrService;
 import org.springframework.ide.eclipse.boot.core.initializr.InitializrServiceSpec;
 import org.springframework.ide.eclipse.boot.core.initializr.InitializrServiceSpec.Dependency;
 import org.springframework.ide.eclipse.boot.test.util.TestBracketter;
+import org.springframework.ide.eclipse.boot.util.DependencyDelta;
 import org.springframework.ide.eclipse.boot.wizard.CheckBoxesSection.CheckBoxModel;
 import org.springframework.ide.eclipse.boot.wizard.EditStartersModel;
 import org.springframework.ide.eclipse.boot.wizard.NewSpringBootWizardModel;
@@ -440,6 +443,35 @@ public class EditStartersModelTest {
 		assertEquals(null, getScope(depEl));
 	}
 
+	@Test
+	public void unchangedStartersLeavePomAlone() throws Exception {
+		IProject project = harness.createBootProject("unchangedStarters", withStarters("web"));
+		IFile pom = project.getFile("pom.xml");
+		long stamp = pom.getModificationStamp();
+
+		EditStartersModel wizard = createWizard(project);
+		wizard.addDependency("actuator");
+		wizard.removeDependency("actuator");
+		performOk(wizard);
+
+		assertEquals(stamp, pom.getModificationStamp());
+	}
+
+	@Test
+	public void declaredDependenciesLeavePomAlone() throws Exception {
+		IProject project = harness.createBootProject("declaredDependencies", withStarters("web"));
+		ISpringBootProject bootProject = springBootCore.project(project);
+		IFile pom = project.getFile("pom.xml");
+		long stamp = pom.getModificationStamp();
+
+		Map<MavenId, Optional<String>> added = new HashMap<>();
+		added.put(new MavenId("org.springframework.boot", "spring-boot-starter-web"), Optional.empty());
+		bootProject.modifyDependencies(new DependencyDelta(Collections.emptySet(), added, Collections.emptySet(), Collections.emptySet()));
+		bootProject.removeMavenDependency(new MavenId("org.springframework.boot", "spring-boot-starter-actuator"));
+
+		assertEquals(stamp, pom.getModificationStamp());
+	}
+
 	@Test
 	public void addStarterWithTestScope() throws Exception {
 		IProject project = harness.createBootProject("addStarterWithTestScope", withStarters("web"));
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.core.initializr.HttpRedirectionException;
+import org.springframework.ide.eclipse.boot.core.initializr.InitializrMetadataCache;
+import org.springsource.ide.eclipse.commons.frameworks.core.downloadmanager.URLConnectionFactory;
+
+public class InitializrMetadataCacheTest {
+
+	private static final String ACCEPT = "application/json";
+
+	/**
+	 * Stub for the initializr service that serves a given content with a given ETag, and
+	 * counts the requests it receives.
+	 */
+	private static class StubService extends URLConnectionFactory {
+		String content = "{}";
+		String etag = "\"1\"";
+		String redirectedTo = null;
+		boolean offline = false;
+		int requests = 0;
+		int notModified = 0;
+
+		@Override
+		public URLConnection createConnection(URL url) throws IOException {
+			if (offline) {
+				throw new IOException("Offline");
+			}
+			requests++;
+			return new HttpURLConnection(url) {
+				@Override
+				public void connect() throws IOException {
+				}
+
+				@Override
+				public int getResponseCode() throws IOException {
+					if (redirectedTo!=null) {
+						return HTTP_MOVED_PERM;
+					} else if (etag.equals(getRequestProperty("If-None-Match"))) {
+						notModified++;
+						return HTTP_NOT_MODIFIED;
+					}
+					return HTTP_OK;
+				}
+
+				@Override
+				public String getHeaderField(String name) {
+					if ("ETag".equals(name)) {
+						return etag;
+					} else if ("Location".equals(name)) {
+						return redirectedTo;
+					}
+					return null;
+				}
+
+				@Override
+				public InputStream getInputStream() throws IOException {
+					return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+				}
+
+				@Override
+				public void disconnect() {
+				}
+
+				@Override
+				public boolean usingProxy() {
+					return false;
+				}
+			};
+		}
+	}
+
+	private File cacheDir;
+	private URL url;
+	private StubService service;
+
+	@Before
+	public void setup() throws Exception {
+		cacheDir = Files.createTempDirectory("initializr-cache").toFile();
+		url = new URL("https://start.example.com/");
+		service = new StubService();
+	}
+
+	@After
+	public void teardown() throws Exception {
+		try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void cachedCopyUsedWhileOffline() throws Exception {
+		service.content = "{\"version\":1}";
+		assertContent("{\"version\":1}", new InitializrMetadataCache(cacheDir));
+		assertEquals(1, service.requests);
+
+		service.offline = true;
+		InitializrMetadataCache restarted = new InitializrMetadataCache(cacheDir);
+		assertContent("{\"version\":1}", restarted);
+		Job.getJobManager().join(restarted, null);
+		assertContent("{\"version\":1}", restarted);
+	}
+
+	@Test
+	public void cachedCopyRevalidatedInBackground() throws Exception {
+		InitializrMetadataCache cache = new InitializrMetadataCache(cacheDir);
+		assertContent("{}", cache);
+
+		InitializrMetadataCache restarted = new InitializrMetadataCache(cacheDir);
+		assertContent("{}", restarted);
+		Job.getJobManager().join(restarted, null);
+		assertEquals(1, service.notModified);
+
+		service.content = "{\"version\":2}";
+		service.etag = "\"2\"";
+		restarted = new InitializrMetadataCache(cacheDir);
+		//The cached copy is returned right away...
+		assertContent("{}", restarted);
+		Job.getJobManager().join(restarted, null);
+		//... and replaced once the new version has been downloaded
+		assertContent("{\"version\":2}", restarted);
+		assertContent("{\"version\":2}", new InitializrMetadataCache(cacheDir));
+	}
+
+	@Test
+	public void redirection() throws Exception {
+		service.redirectedTo = "https://other.example.com/";
+		try {
+			new InitializrMetadataCache(cacheDir).getContent(service, url, ACCEPT);
+			fail("Expected a redirection");
+		} catch (HttpRedirectionException e) {
+			assertEquals("https://other.example.com/", e.redirectedTo);
+		}
+	}
+
+	private void assertContent(String expected, InitializrMetadataCache cache) throws Exception {
+		assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), cache.getContent(service, url, ACCEPT));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Spring IDE Developers
+ * Copyright (c) 2017, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,49 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.validation.framework;
 
+import java.util.Arrays;
+import java.util.Set;
+
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
 
+/**
+ * A rule checked by the {@link SpringBootProjectBuilder}.
+ * <p>
+ * Rules declare the inputs their results depend on so that the builder only runs them when one of these inputs
+ * changed: the results of a rule for a resource are reused as long as the content of the resource and the
+ * {@link #getProjectState project state} of the rule stay the same. Rules may be validated concurrently for different
+ * elements.
+ */
 public interface IValidationRule {
 	boolean supports(IModelElement element);
 	void validate(IModelElement cu, IValidationContext context, IProgressMonitor mon);
 	String getId();
+
+	/**
+	 * Returns the extensions of the files this rule validates, or <code>null</code> if the rule has to be asked for
+	 * every resource.
+	 */
+	default Set<String> getFileExtensions() {
+		return null;
+	}
+
+	/**
+	 * Returns the fully qualified names of the annotation types at least one of which has to be used in a file for
+	 * this rule to report a problem, or <code>null</code> if the rule doesn't depend on annotations.
+	 */
+	default Set<String> getAnnotationTypes() {
+		return null;
+	}
+
+	/**
+	 * Returns a value capturing everything about the given project the results of this rule depend on. The rule is
+	 * validated again for all resources of the project when this value changes. By default this is the resolved
+	 * classpath of the project.
+	 * @param classpath the resolved classpath of the project, or <code>null</code> if it is not known
+	 */
+	default Object getProjectState(IJavaProject project, IClasspathEntry[] classpath) {
+		return classpath != null ? Arrays.asList(classpath) : null;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012,2015 Spring IDE Developers
+ * Copyright (c) 2012, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,22 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.validation.framework;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -27,9 +38,15 @@ import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
 import org.springframework.ide.eclipse.boot.core.BootPropertyTester;
+import org.springframework.ide.eclipse.boot.util.Log;
 import org.springframework.ide.eclipse.boot.validation.BootValidationActivator;
+import org.springframework.ide.eclipse.boot.validation.framework.ValidationResultCache.RecordedProblem;
 import org.springframework.ide.eclipse.boot.validation.rules.ValidationRuleDefinitions;
 import org.springframework.ide.eclipse.editor.support.preferences.EditorType;
 import org.springframework.ide.eclipse.editor.support.preferences.PreferencesBasedSeverityProvider;
@@ -42,6 +59,14 @@ import org.springsource.ide.eclipse.commons.frameworks.core.workspace.ClasspathL
 import com.google.common.collect.ImmutableMap;
 
 /**
+ * Builder that checks the {@link ValidationRuleDefinitions validation rules} for the changed resources of a project.
+ * <p>
+ * A rule is only validated again for a resource if the content of the resource or the
+ * {@link IValidationRule#getProjectState project state} of the rule changed; otherwise its problems are taken from
+ * the {@link ValidationResultCache}. A project state change, e.g. caused by a classpath change, revalidates all
+ * resources of the project, but only for the rules whose state changed. Files are validated concurrently; markers
+ * are created by the build thread.
+ *
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @author Martin Lippert
@@ -53,9 +78,16 @@ public class SpringBootProjectBuilder extends IncrementalProjectBuilder {
 
 	public SpringBootProjectBuilder() {}
 		
+	private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
 	private static Map<String, Object> classpathChanged = new ConcurrentHashMap<String, Object>();
 	private static ClasspathListenerManager classpathListener;
 
+	/**
+	 * The project states of the rules by project name, as of the last build of the project
+	 */
+	private static Map<String, Map<String, Object>> projectStates = new ConcurrentHashMap<>();
+
 	/**
 	 * indicate that the classpath changed for the given project since the last build
 	 * This mirrors the same behavior as the JavaBuilder, which keeps a state between
@@ -80,36 +112,175 @@ public class SpringBootProjectBuilder extends IncrementalProjectBuilder {
 		ensureClasspathListener();
 		final IProject project = getProject();
 		final IResourceDelta delta = getDelta(project);
+		List<IValidationRule> rules = ValidationRuleDefinitions.getRuleDefinitions();
 
-		// check for classpath changes (that require a full build)
+		// check for project state changes (that require a full build for the affected rules)
 		Object removed = classpathChanged.remove(project.getName());
-		final int buildKind = removed != null ? IncrementalProjectBuilder.FULL_BUILD : kind;
-		
+		Map<String, Object> states = getProjectStates(project, rules);
+		Map<String, Object> previousStates = projectStates.get(project.getName());
+		boolean stateChanged = previousStates != null ? !previousStates.equals(states) : removed != null;
+		final int buildKind = stateChanged ? IncrementalProjectBuilder.FULL_BUILD : kind;
+
 		Set<IResource> affectedResources = getAffectedResources(project, buildKind, delta);
-		List<IValidationRule> rules = ValidationRuleDefinitions.getRuleDefinitions();
 		if (!affectedResources.isEmpty() && !rules.isEmpty()) {
-			monitor.beginTask("Validation of Boot Validation Rules", affectedResources.size() * rules.size());
-			try {
-				for (IResource rsrc : affectedResources) {
-					IModelElement element = CompilationUnitElement.create(rsrc);
-					MarkerUtils.deleteAllMarkers(rsrc, MARKER_ID);
-					if (element!=null) {
-						for (IValidationRule rule : rules) {
-							if (rule.supports(element)) {
-								rule.validate(element, validationContext(rsrc, rule), new SubProgressMonitor(monitor, 1));
-							} else {
-								monitor.worked(1);
-							}
+			validate(affectedResources, rules, states, monitor);
+		}
+		projectStates.put(project.getName(), states);
+		return null;
+	}
+
+	private Map<String, Object> getProjectStates(IProject project, List<IValidationRule> rules) {
+		IJavaProject javaProject = JavaCore.create(project);
+		IClasspathEntry[] classpath = null;
+		try {
+			if (javaProject != null && javaProject.exists()) {
+				classpath = javaProject.getResolvedClasspath(false);
+			}
+		} catch (Exception e) {
+			//silently ignore problems resolving classpath, see CompilationUnitElement.getClasspath()
+		}
+		Map<String, Object> states = new HashMap<>();
+		for (IValidationRule rule : rules) {
+			states.put(rule.getId(), rule.getProjectState(javaProject, classpath));
+		}
+		return states;
+	}
+
+	private void validate(Set<IResource> affectedResources, List<IValidationRule> rules, Map<String, Object> states,
+			IProgressMonitor monitor) throws CoreException {
+		monitor.beginTask("Validation of Boot Validation Rules", affectedResources.size());
+		ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+		try {
+			Map<IResource, Future<Map<IValidationRule, List<RecordedProblem>>>> results = new LinkedHashMap<>();
+			for (IResource rsrc : affectedResources) {
+				List<IValidationRule> fileRules = getRules(rsrc, rules);
+				if (rsrc.getType() == IResource.FILE && !rsrc.exists()) {
+					ValidationResultCache.remove(rsrc);
+				} else if (!fileRules.isEmpty()) {
+					results.put(rsrc, executor.submit(() -> validateFile((IFile) rsrc, fileRules, states)));
+				}
+			}
+
+			for (IResource rsrc : affectedResources) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				MarkerUtils.deleteAllMarkers(rsrc, MARKER_ID);
+				Future<Map<IValidationRule, List<RecordedProblem>>> result = results.get(rsrc);
+				if (result != null) {
+					for (Map.Entry<IValidationRule, List<RecordedProblem>> problems : getProblems(result).entrySet()) {
+						IValidationContext context = validationContext(rsrc, problems.getKey());
+						for (RecordedProblem problem : problems.getValue()) {
+							problem.replay(rsrc, context);
 						}
 					}
 				}
-			} finally {
-				monitor.done();
+				monitor.worked(1);
 			}
+		} finally {
+			executor.shutdownNow();
+			monitor.done();
 		}
-		return null;
 	}
-	
+
+	/**
+	 * Returns the rules that have to be asked for the given resource.
+	 */
+	private List<IValidationRule> getRules(IResource rsrc, List<IValidationRule> rules) {
+		if (rsrc.getType() != IResource.FILE) {
+			return Collections.emptyList();
+		}
+		List<IValidationRule> fileRules = new ArrayList<>();
+		for (IValidationRule rule : rules) {
+			Set<String> extensions = rule.getFileExtensions();
+			if (extensions == null || extensions.contains(rsrc.getFileExtension())) {
+				fileRules.add(rule);
+			}
+		}
+		return fileRules;
+	}
+
+	private Map<IValidationRule, List<RecordedProblem>> getProblems(Future<Map<IValidationRule, List<RecordedProblem>>> result) {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Log.log(e.getCause());
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Validates the given rules for the given file, reusing cached results where possible. Called by the worker
+	 * threads; markers are not created here.
+	 */
+	private Map<IValidationRule, List<RecordedProblem>> validateFile(IFile file, List<IValidationRule> rules,
+			Map<String, Object> states) throws CoreException, IOException {
+		byte[] content = getContent(file);
+		byte[] contentHash = ValidationResultCache.hash(content);
+		String text = null;
+		IModelElement element = null;
+		Map<IValidationRule, List<RecordedProblem>> results = new LinkedHashMap<>();
+		for (IValidationRule rule : rules) {
+			Object state = states.get(rule.getId());
+			List<RecordedProblem> problems = ValidationResultCache.get(rule, file, contentHash, state);
+			if (problems == null) {
+				Set<String> annotationTypes = rule.getAnnotationTypes();
+				if (annotationTypes != null && text == null) {
+					text = new String(content, file.getCharset());
+				}
+				if (annotationTypes == null || mentionsAny(text, annotationTypes)) {
+					if (element == null) {
+						element = CompilationUnitElement.create(file);
+					}
+					problems = validateRule(rule, element);
+				} else {
+					problems = Collections.emptyList();
+				}
+				ValidationResultCache.put(rule, file, contentHash, state, problems);
+			}
+			results.put(rule, problems);
+		}
+		return results;
+	}
+
+	private List<RecordedProblem> validateRule(IValidationRule rule, IModelElement element) {
+		if (element == null || !rule.supports(element)) {
+			return Collections.emptyList();
+		}
+		List<RecordedProblem> problems = new ArrayList<>();
+		rule.validate(element, (IResource cu, ProblemType problemId, String msg, int offset, int end) -> {
+			problems.add(new RecordedProblem(problemId, msg, offset, end));
+		}, new NullProgressMonitor());
+		return problems;
+	}
+
+	/**
+	 * Returns <code>true</code> if the simple name of one of the given types occurs in the given source text. A
+	 * source that doesn't contain the simple name of an annotation type can't be annotated with it.
+	 */
+	private static boolean mentionsAny(String text, Set<String> typeNames) {
+		for (String typeName : typeNames) {
+			if (text.contains(typeName.substring(typeName.lastIndexOf('.') + 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static byte[] getContent(IFile file) throws CoreException, IOException {
+		try (InputStream in = file.getContents(true)) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) >= 0) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
 	private IValidationContext validationContext(IResource rsrc, IValidationRule rule) {
 		SeverityProvider severityProvider = new PreferencesBasedSeverityProvider(rsrc.getProject(), BootValidationActivator.PLUGIN_ID, EditorType.JAVA);
 		return (IResource cu, ProblemType problemId, String msg, int offset, int end) -> {
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.validation.framework;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.springframework.ide.eclipse.editor.support.reconcile.ProblemType;
+
+/**
+ * The problems found by each validation rule in each resource, kept between builds.
+ * <p>
+ * A cached result is only reused if the content of the resource and the project state of the rule are still the same
+ * as when the rule was validated.
+ *
+ * @since 3.9.12
+ */
+public class ValidationResultCache {
+
+	private static final Map<String, Map<String, Result>> RESULTS = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the cached problems of the given rule in the given resource, or <code>null</code> if the rule has to be
+	 * validated again.
+	 */
+	public static List<RecordedProblem> get(IValidationRule rule, IResource rsrc, byte[] contentHash, Object projectState) {
+		Map<String, Result> results = RESULTS.get(getKey(rsrc));
+		Result result = results != null ? results.get(rule.getId()) : null;
+		if (result != null && Arrays.equals(result.contentHash, contentHash)
+				&& Objects.equals(result.projectState, projectState)) {
+			return result.problems;
+		}
+		return null;
+	}
+
+	public static void put(IValidationRule rule, IResource rsrc, byte[] contentHash, Object projectState,
+			List<RecordedProblem> problems) {
+		RESULTS.computeIfAbsent(getKey(rsrc), (key) -> new ConcurrentHashMap<>())
+				.put(rule.getId(), new Result(contentHash, projectState, problems));
+	}
+
+	public static void remove(IResource rsrc) {
+		RESULTS.remove(getKey(rsrc));
+	}
+
+	public static void clear() {
+		RESULTS.clear();
+	}
+
+	/**
+	 * Computes the hash of the given content that results are cached for.
+	 */
+	public static byte[] hash(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-1").digest(content);
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String getKey(IResource rsrc) {
+		return rsrc.getFullPath().toString();
+	}
+
+	private static class Result {
+
+		final byte[] contentHash;
+		final Object projectState;
+		final List<RecordedProblem> problems;
+
+		Result(byte[] contentHash, Object projectState, List<RecordedProblem> problems) {
+			this.contentHash = contentHash;
+			this.projectState = projectState;
+			this.problems = Collections.unmodifiableList(problems);
+		}
+	}
+
+	/**
+	 * A problem reported by a rule through its {@link IValidationContext}, before the severity preferences were
+	 * applied.
+	 */
+	public static class RecordedProblem {
+
+		private final ProblemType problemId;
+		private final String msg;
+		private final int offset;
+		private final int end;
+
+		public RecordedProblem(ProblemType problemId, String msg, int offset, int end) {
+			this.problemId = problemId;
+			this.msg = msg;
+			this.offset = offset;
+			this.end = end;
+		}
+
+		/**
+		 * Reports this problem to the given context.
+		 */
+		public void replay(IResource rsrc, IValidationContext context) {
+			context.problem(rsrc, problemId, msg, offset, end);
+		}
+	}
+
+}
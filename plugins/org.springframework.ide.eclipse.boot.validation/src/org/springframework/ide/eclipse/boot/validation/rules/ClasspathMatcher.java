@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 GoPivotal, Inc.
+ * Copyright (c) 2015, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -68,7 +68,7 @@ public abstract class ClasspathMatcher {
 	}
 
 
-	public final boolean match(IClasspathEntry[] classpathMaybe) {
+	public final synchronized boolean match(IClasspathEntry[] classpathMaybe) {
 		if (isCached && cachedFor==classpathMaybe) {
 			return cachedValue;
 		} else {
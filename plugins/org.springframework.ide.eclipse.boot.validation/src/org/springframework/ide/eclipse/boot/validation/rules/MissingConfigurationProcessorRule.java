@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 GoPivotal, Inc.
+ * Copyright (c) 2015, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,13 +13,17 @@ package org.springframework.ide.eclipse.boot.validation.rules;
 import static org.springframework.ide.eclipse.boot.validation.framework.BootMarkerUtils.getProject;
 import static org.springframework.ide.eclipse.boot.validation.quickfix.GeneratorComposition.NO_RESOLUTIONS;
 
+import java.util.Set;
+
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
@@ -39,6 +43,8 @@ import org.springframework.ide.eclipse.boot.validation.quickfix.MarkerResolution
 import org.springframework.ide.eclipse.editor.support.reconcile.ProblemSeverity;
 import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
 
+import com.google.common.collect.ImmutableSet;
+
 /**
  * Validation rule that checks
  *
@@ -53,6 +59,7 @@ import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
 public class MissingConfigurationProcessorRule extends BootValidationRule {
 
 	private static final String SPRING_BOOT_CONFIGURATION_PROCESSOR = "spring-boot-configuration-processor";
+	private static final String CONFIGURATION_PROPERTIES = "org.springframework.boot.context.properties.ConfigurationProperties";
 	public static final BootValidationProblemType PROBLEM_ID = new BootValidationProblemType("MISSING_CONFIGURATION_PROCESSOR", ProblemSeverity.WARNING, 
 			"Missing Configuration Processor",
 			"When using @ConfigurationProperties, it is recommended to add the Spring Boot Configuration Processor to a project's classpath"
@@ -181,7 +188,7 @@ public class MissingConfigurationProcessorRule extends BootValidationRule {
 					for (IAnnotation a : all) {
 						String name = a.getElementName();
 						//name could be fully qualified or simple, so check for both
-						if ("org.springframework.boot.context.properties.ConfigurationProperties".equals(name)
+						if (CONFIGURATION_PROPERTIES.equals(name)
 						|| "ConfigurationProperties".equals(name)
 						) {
 							return a;
@@ -263,4 +270,28 @@ public class MissingConfigurationProcessorRule extends BootValidationRule {
 		return PROBLEM_ID.getId();
 	}
 
+	@Override
+	public Set<String> getFileExtensions() {
+		return ImmutableSet.of("java");
+	}
+
+	@Override
+	public Set<String> getAnnotationTypes() {
+		return ImmutableSet.of(CONFIGURATION_PROPERTIES);
+	}
+
+	@Override
+	public Object getProjectState(IJavaProject project, IClasspathEntry[] classpath) {
+		try {
+			if (project != null && project.getProject().hasNature(BUILDSHIP_NATURE)) {
+				//Rule is skipped for buildship projects, see validate
+				return BUILDSHIP_NATURE;
+			}
+		} catch (CoreException e) {
+			//Closed or missing project, nothing to validate
+		}
+		//Only whether the configuration processor is on the classpath matters
+		return CLASSPATH_MATCHER.match(classpath);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -127,7 +127,12 @@ public class EditStartersModel implements OkButtonHandler {
 							selectedStarters.add(starter);
 						}
 					}
-					project.modifyDependencies(getDelta());
+					if (new HashSet<>(selected).equals(new HashSet<>(initialDependencies))) {
+						//Nothing to change, so don't touch the pom
+						debug("Starters unchanged");
+					} else {
+						project.modifyDependencies(getDelta());
+					}
 					for (Dependency s : selected) {
 						if (!initialDependencies.contains(s)) {
 							popularities.incrementUsageCount(s);
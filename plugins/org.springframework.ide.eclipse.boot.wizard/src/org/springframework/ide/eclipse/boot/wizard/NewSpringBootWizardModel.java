@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2017 Pivotal, Inc.
+ * Copyright (c) 2013, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.wizard;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
@@ -333,10 +334,18 @@ public class NewSpringBootWizardModel {
 
 	protected void importProject(IProgressMonitor mon) throws InvocationTargetException, InterruptedException {
 		DownloadManager downloader = null;
+		File cacheDir = null;
 		try {
-			downloader = new DownloadManager(urlConnectionFactory).allowUIThread(allowUIThread);
+			URL zipUrl = newURL(downloadUrl.getValue());
+			cacheDir = zipUrl==null ? null : StarterZipCache.getCacheDir(zipUrl);
+			if (cacheDir!=null) {
+				//Keep the zip, so that a project with the same parameters can be created again without downloading it.
+				downloader = new DownloadManager(urlConnectionFactory, cacheDir).allowUIThread(allowUIThread);
+			} else {
+				downloader = new DownloadManager(urlConnectionFactory).allowUIThread(allowUIThread);
+			}
 
-			DownloadableItem zip = new DownloadableItem(newURL(downloadUrl .getValue()), downloader);
+			DownloadableItem zip = new DownloadableItem(zipUrl, downloader);
 			String projectNameValue = projectName.getValue();
 			CodeSet cs = CodeSet.fromZip(projectNameValue, zip, new Path("/"));
 
@@ -357,7 +366,7 @@ public class NewSpringBootWizardModel {
 		} catch (IOException e) {
 			throw new InvocationTargetException(e);
 		} finally {
-			if (downloader!=null) {
+			if (downloader!=null && cacheDir==null) {
 				downloader.dispose();
 			}
 			mon.done();
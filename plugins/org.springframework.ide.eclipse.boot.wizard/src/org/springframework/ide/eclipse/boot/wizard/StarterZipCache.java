@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.wizard;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Keeps the project zips generated by the initializr service for recent requests, so that
+ * creating another project with the same parameters doesn't download the zip again.
+ * <p>
+ * Each request url (which contains all the parameters of the request) gets its own
+ * {@link org.springsource.ide.eclipse.commons.frameworks.core.downloadmanager.DownloadManager}
+ * cache directory. Only the most recently used directories are kept, and only for a limited time.
+ *
+ * @since 3.9.12
+ */
+public class StarterZipCache {
+
+	private static final int MAX_ENTRIES = 10;
+	private static final long MAX_AGE = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * @return The cache directory for a given download url, or null if downloads from
+	 *         that url should not be cached.
+	 */
+	public static synchronized File getCacheDir(URL downloadUrl) {
+		BootWizardActivator plugin = BootWizardActivator.getDefault();
+		String protocol = downloadUrl.getProtocol();
+		if (plugin==null || !("http".equals(protocol) || "https".equals(protocol))) {
+			return null;
+		}
+		try {
+			File root = plugin.getStateLocation().append("starter-zips").toFile();
+			evict(root);
+			File dir = new File(root, hash(downloadUrl.toString()));
+			dir.mkdirs();
+			dir.setLastModified(System.currentTimeMillis());
+			return dir;
+		} catch (Exception e) {
+			BootWizardActivator.log(e);
+			return null;
+		}
+	}
+
+	private static void evict(File root) {
+		File[] dirs = root.listFiles(File::isDirectory);
+		if (dirs!=null) {
+			Arrays.sort(dirs, Comparator.comparingLong(File::lastModified).reversed());
+			long now = System.currentTimeMillis();
+			for (int i = 0; i < dirs.length; i++) {
+				if (i >= MAX_ENTRIES || now - dirs[i].lastModified() > MAX_AGE) {
+					FileUtils.deleteQuietly(dirs[i]);
+				}
+			}
+		}
+	}
+
+	private static String hash(String url) throws Exception {
+		byte[] hash = MessageDigest.getInstance("SHA-1").digest(url.getBytes(StandardCharsets.UTF_8));
+		StringBuilder hex = new StringBuilder();
+		for (byte b : hash) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.core.initializr;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.net.URLConnection;
 import java.util.Map;
 
 import org.springframework.ide.eclipse.boot.util.Log;
@@ -225,22 +225,8 @@ public class InitializrDependencySpec {
 	}
 
 	public static InitializrDependencySpec parseFrom(URLConnectionFactory urlConnectionFactory, URL url) throws Exception {
-		URLConnection conn = null;
-		InputStream input = null;
-		try {
-			conn = urlConnectionFactory.createConnection(url);
-			conn.addRequestProperty("Accept", JSON_CONTENT_TYPE_HEADER);
-			conn.connect();
-			input = conn.getInputStream();
-			return parseFrom(input);
-		} finally {
-			if (input!=null) {
-				try {
-					input.close();
-				} catch (IOException e) {
-				}
-			}
-		}
+		byte[] content = InitializrMetadataCache.getDefault().getContent(urlConnectionFactory, url, JSON_CONTENT_TYPE_HEADER);
+		return parseFrom(new ByteArrayInputStream(content));
 	}
 
 	public static InitializrDependencySpec parseFrom(URLConnectionFactory urlConnectionFactory, String url) throws Exception {
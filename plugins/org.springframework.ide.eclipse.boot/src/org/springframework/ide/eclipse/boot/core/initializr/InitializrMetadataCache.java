@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.core.initializr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.springframework.ide.eclipse.boot.core.BootActivator;
+import org.springframework.ide.eclipse.boot.util.Log;
+import org.springsource.ide.eclipse.commons.core.util.StringUtil;
+import org.springsource.ide.eclipse.commons.frameworks.core.downloadmanager.URLConnectionFactory;
+
+/**
+ * Local cache of the json metadata served by the initializr service.
+ * <p>
+ * Metadata downloaded over http is kept in memory and on disk. A cached copy is returned
+ * immediately, and revalidated once per session in the background with a conditional request
+ * using the 'ETag' and 'Last-Modified' headers of the cached response. When the service can't
+ * be reached the cached copy keeps being used, so the wizards also work offline once the
+ * metadata has been downloaded.
+ * <p>
+ * Other urls (i.e. local files used by tests) are always read directly.
+ *
+ * @since 3.9.12
+ */
+public class InitializrMetadataCache {
+
+	/**
+	 * Version of the format of the cache files. Files written with another version are ignored.
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	private static final String CONTENT_FILE = ".json";
+	private static final String INFO_FILE = ".properties";
+
+	private static InitializrMetadataCache defaultCache;
+
+	public static synchronized InitializrMetadataCache getDefault() {
+		if (defaultCache==null) {
+			BootActivator plugin = BootActivator.getDefault();
+			File dir = plugin==null ? null : plugin.getStateLocation().append("initializr").toFile();
+			defaultCache = new InitializrMetadataCache(dir);
+		}
+		return defaultCache;
+	}
+
+	private static class Entry {
+		final byte[] content;
+		final String etag;
+		final String lastModified;
+
+		Entry(byte[] content, String etag, String lastModified) {
+			this.content = content;
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+	}
+
+	private final File dir;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<String> revalidated = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param dir Directory where the metadata is stored, or null to only cache metadata in memory.
+	 */
+	public InitializrMetadataCache(File dir) {
+		this.dir = dir;
+	}
+
+	/**
+	 * Get the content served at a given url for a given 'Accept' header. A cached copy is
+	 * returned if there is one.
+	 *
+	 * @throws HttpRedirectionException if the service redirects to another url.
+	 */
+	public byte[] getContent(URLConnectionFactory urlConnectionFactory, URL url, String accept) throws Exception {
+		if (!isHttp(url)) {
+			return download(urlConnectionFactory, url, accept, null).content;
+		}
+		String key = key(url, accept);
+		Entry cached = get(key);
+		if (cached!=null) {
+			if (revalidated.add(key)) {
+				revalidate(urlConnectionFactory, url, accept, key, cached);
+			}
+			return cached.content;
+		}
+		Entry downloaded = download(urlConnectionFactory, url, accept, null);
+		put(key, downloaded);
+		revalidated.add(key);
+		return downloaded.content;
+	}
+
+	private void revalidate(URLConnectionFactory urlConnectionFactory, URL url, String accept, String key, Entry cached) {
+		Job job = new Job("Refresh initializr metadata from "+url) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					Entry downloaded = download(urlConnectionFactory, url, accept, cached);
+					if (downloaded!=cached) {
+						put(key, downloaded);
+					}
+				} catch (HttpRedirectionException e) {
+					//The service moved. Drop the cached copy so that the next request reports the redirection.
+					remove(key);
+				} catch (Exception e) {
+					//Service can't be reached. Keep the cached copy and try again next time.
+					revalidated.remove(key);
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family==InitializrMetadataCache.this;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Downloads the content at a given url. If a cached entry is given, the request is
+	 * made conditional, and the cached entry itself is returned if it is still valid.
+	 */
+	private static Entry download(URLConnectionFactory urlConnectionFactory, URL url, String accept, Entry cached) throws Exception {
+		URLConnection conn = urlConnectionFactory.createConnection(url);
+		conn.addRequestProperty("Accept", accept);
+		if (cached!=null) {
+			if (cached.etag!=null) {
+				conn.addRequestProperty("If-None-Match", cached.etag);
+			}
+			if (cached.lastModified!=null) {
+				conn.addRequestProperty("If-Modified-Since", cached.lastModified);
+			}
+		}
+		conn.connect();
+		if (conn instanceof HttpURLConnection) {
+			int status = ((HttpURLConnection) conn).getResponseCode();
+			if (status==HttpURLConnection.HTTP_NOT_MODIFIED && cached!=null) {
+				return cached;
+			}
+			if (status == HttpURLConnection.HTTP_MOVED_TEMP ||
+				status == HttpURLConnection.HTTP_MOVED_PERM ||
+				status == HttpURLConnection.HTTP_SEE_OTHER
+			) {
+				String redirectedTo = conn.getHeaderField("Location");
+				if (StringUtil.hasText(redirectedTo)) {
+					throw new HttpRedirectionException(redirectedTo);
+				}
+			}
+		}
+		try (InputStream input = conn.getInputStream()) {
+			return new Entry(readBytes(input), conn.getHeaderField("ETag"), conn.getHeaderField("Last-Modified"));
+		}
+	}
+
+	private Entry get(String key) {
+		Entry entry = entries.get(key);
+		if (entry==null && dir!=null) {
+			entry = read(key);
+			if (entry!=null) {
+				entries.put(key, entry);
+			}
+		}
+		return entry;
+	}
+
+	private void put(String key, Entry entry) {
+		entries.put(key, entry);
+		if (dir!=null) {
+			try {
+				write(key, entry);
+			} catch (IOException e) {
+				Log.log(e);
+			}
+		}
+	}
+
+	private void remove(String key) {
+		entries.remove(key);
+		revalidated.remove(key);
+		if (dir!=null) {
+			new File(dir, key+INFO_FILE).delete();
+			new File(dir, key+CONTENT_FILE).delete();
+		}
+	}
+
+	private Entry read(String key) {
+		File infoFile = new File(dir, key+INFO_FILE);
+		File contentFile = new File(dir, key+CONTENT_FILE);
+		if (infoFile.isFile() && contentFile.isFile()) {
+			try {
+				Properties info = new Properties();
+				try (InputStream input = Files.newInputStream(infoFile.toPath())) {
+					info.load(input);
+				}
+				if (FORMAT_VERSION.equals(info.getProperty("version"))) {
+					return new Entry(Files.readAllBytes(contentFile.toPath()),
+							info.getProperty("etag"), info.getProperty("lastModified"));
+				}
+			} catch (IOException e) {
+				Log.log(e);
+			}
+		}
+		return null;
+	}
+
+	private void write(String key, Entry entry) throws IOException {
+		dir.mkdirs();
+		Properties info = new Properties();
+		info.setProperty("version", FORMAT_VERSION);
+		if (entry.etag!=null) {
+			info.setProperty("etag", entry.etag);
+		}
+		if (entry.lastModified!=null) {
+			info.setProperty("lastModified", entry.lastModified);
+		}
+		//A content file without an info file is ignored, so the info file is written last.
+		new File(dir, key+INFO_FILE).delete();
+		File tmp = File.createTempFile(key, ".tmp", dir);
+		Files.write(tmp.toPath(), entry.content);
+		Files.move(tmp.toPath(), new File(dir, key+CONTENT_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING);
+		tmp = File.createTempFile(key, ".tmp", dir);
+		try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+			info.store(out, null);
+		}
+		Files.move(tmp.toPath(), new File(dir, key+INFO_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static boolean isHttp(URL url) {
+		String protocol = url.getProtocol();
+		return "http".equals(protocol) || "https".equals(protocol);
+	}
+
+	private static String key(URL url, String accept) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-1");
+		byte[] hash = digest.digest((accept+" "+url).getBytes(StandardCharsets.UTF_8));
+		StringBuilder key = new StringBuilder();
+		for (byte b : hash) {
+			key.append(String.format("%02x", b));
+		}
+		return key.toString();
+	}
+
+	private static byte[] readBytes(InputStream input) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = input.read(buffer))>=0) {
+			bytes.write(buffer, 0, read);
+		}
+		return bytes.toByteArray();
+	}
+
+}
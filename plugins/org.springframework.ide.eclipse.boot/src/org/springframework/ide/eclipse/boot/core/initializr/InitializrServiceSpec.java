@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 GoPivotal, Inc.
+ * Copyright (c) 2014, 2026 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.core.initializr;
 
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URL;
-import java.net.URLConnection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -31,7 +29,6 @@ import org.json.JSONTokener;
 import org.osgi.framework.Version;
 import org.osgi.framework.VersionRange;
 import org.springframework.ide.eclipse.boot.util.Log;
-import org.springsource.ide.eclipse.commons.core.util.StringUtil;
 import org.springsource.ide.eclipse.commons.frameworks.core.downloadmanager.URLConnectionFactory;
 import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
 
@@ -63,42 +60,8 @@ public class InitializrServiceSpec {
 	}
 
 	public static InitializrServiceSpec parseFrom(URLConnectionFactory urlConnectionFactory, URL url) throws HttpRedirectionException, Exception {
-		URLConnection conn = null;
-		InputStream input = null;
-		try {
-			conn = urlConnectionFactory.createConnection(url);
-			conn.addRequestProperty("Accept", JSON_CONTENT_TYPE_HEADER);
-			conn.connect();
-			String redirectedTo = getRedirected(conn);
-			if (StringUtil.hasText(redirectedTo)) {
-				throw new HttpRedirectionException(redirectedTo);
-			}
-			input = conn.getInputStream();
-			return parseFrom(input);
-		} finally {
-			if (input!=null) {
-				try {
-					input.close();
-				} catch (IOException e) {
-				}
-			}
-		}
-	}
-
-	private static String getRedirected(URLConnection _conn) throws IOException {
-		if (_conn instanceof HttpURLConnection) {
-			HttpURLConnection conn = (HttpURLConnection) _conn;
-			int status = conn.getResponseCode();
-			if (status != HttpURLConnection.HTTP_OK) {
-				if (status == HttpURLConnection.HTTP_MOVED_TEMP ||
-					status == HttpURLConnection.HTTP_MOVED_PERM ||
-					status == HttpURLConnection.HTTP_SEE_OTHER
-				) {
-					return conn.getHeaderField("Location");
-				}
-			}
-		}
-		return null;
+		byte[] content = InitializrMetadataCache.getDefault().getContent(urlConnectionFactory, url, JSON_CONTENT_TYPE_HEADER);
+		return parseFrom(new ByteArrayInputStream(content));
 	}
 
 	public static InitializrServiceSpec parseFrom(InputStream input) throws Exception {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2016 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,15 +36,19 @@ import static org.eclipse.m2e.core.ui.internal.editing.PomEdits.performOnDOMDocu
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -56,7 +60,9 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -122,6 +128,20 @@ public class MavenSpringBootProject extends SpringBootProject {
 
 	private static final String ENABLED = "enabled";
 
+	/**
+	 * Project configuration updates that are scheduled but not started yet. A new request for
+	 * a project that already has one is served by that update.
+	 */
+	private static final Map<IProject, Job> pendingUpdates = new HashMap<>();
+
+	/**
+	 * The dependencies and boms declared in a pom.
+	 */
+	private static class Declared {
+		final Set<MavenId> dependencies = new HashSet<>();
+		final Set<MavenId> boms = new HashSet<>();
+	}
+
 	public MavenSpringBootProject(IProject project, InitializrService initializr) {
 		super(project, initializr);
 	}
@@ -149,6 +169,49 @@ public class MavenSpringBootProject extends SpringBootProject {
 		return project.getFile(new Path("pom.xml"));
 	}
 
+	/**
+	 * Determine the dependencies and boms declared in the pom from the model m2e keeps for
+	 * the project, rather than parsing the pom again.
+	 *
+	 * @return The declared dependencies and boms, or null if m2e's model of the project
+	 *         isn't available or isn't up-to-date with the pom.
+	 */
+	private Declared getDeclared() {
+		IMavenProjectFacade mpf = getMavenProjectFacade();
+		if (mpf!=null && !mpf.isStale()) {
+			MavenProject mp = mpf.getMavenProject();
+			Model model = mp==null ? null : mp.getOriginalModel();
+			if (model!=null) {
+				Declared declared = new Declared();
+				for (Dependency d : model.getDependencies()) {
+					if (d.getGroupId()!=null && d.getArtifactId()!=null) {
+						declared.dependencies.add(new MavenId(d.getGroupId(), d.getArtifactId()));
+					}
+				}
+				DependencyManagement depMan = model.getDependencyManagement();
+				if (depMan!=null) {
+					for (Dependency d : depMan.getDependencies()) {
+						if ("import".equals(d.getScope()) && "pom".equals(d.getType()) && d.getGroupId()!=null && d.getArtifactId()!=null) {
+							declared.boms.add(new MavenId(d.getGroupId(), d.getArtifactId()));
+						}
+					}
+				}
+				return declared;
+			}
+		}
+		return null;
+	}
+
+	private boolean isDeclared(MavenId id) {
+		Declared declared = getDeclared();
+		return declared!=null && declared.dependencies.contains(id);
+	}
+
+	private boolean isNotDeclared(MavenId id) {
+		Declared declared = getDeclared();
+		return declared!=null && !declared.dependencies.contains(id);
+	}
+
 	@Override
 	public List<IMavenCoordinates> getDependencies() throws CoreException {
 		MavenProject mp = getMavenProject();
@@ -210,6 +273,10 @@ public class MavenSpringBootProject extends SpringBootProject {
 			final IMavenCoordinates dep,
 			final boolean preferManagedVersion, final boolean optional
 	) throws CoreException {
+		if (isDeclared(new MavenId(dep.getGroupId(), dep.getArtifactId()))) {
+			debug("Already declared in pom: "+dep);
+			return;
+		}
 		try {
 			IFile file = getPomFile();
 			performOnDOMDocument(new OperationTuple(file, new Operation() {
@@ -248,7 +315,15 @@ public class MavenSpringBootProject extends SpringBootProject {
 	}
 
 	@Override
-	public void modifyDependencies(DependencyDelta delta) throws CoreException {
+	public void modifyDependencies(DependencyDelta requestedDelta) throws CoreException {
+		//Only touch the pom for changes that aren't already applied, so that m2e doesn't
+		// refresh the project for nothing.
+		Declared declared = getDeclared();
+		DependencyDelta delta = declared==null ? requestedDelta : requestedDelta.effectiveFor(declared.dependencies, declared.boms);
+		if (delta.isEmpty()) {
+			debug("Dependencies already up-to-date: "+requestedDelta);
+			return;
+		}
 		try {
 			IFile file = getPomFile();
 			SpringBootStarters knownStarters = getStarterInfos();
@@ -275,7 +350,13 @@ public class MavenSpringBootProject extends SpringBootProject {
 						MavenId mid = added.getKey();
 						String scope = added.getValue().orElse(null);
 						SpringBootStarter starter = knownStarters.getStarter(mid);
-						createDependency(depsEl, new MavenCoordinates(mid.getGroupId(), mid.getArtifactId()), scope);
+						Element existing = findChild(depsEl, DEPENDENCY,
+								childEquals(GROUP_ID, mid.getGroupId()),
+								childEquals(ARTIFACT_ID, mid.getArtifactId())
+						);
+						if (existing==null) {
+							createDependency(depsEl, new MavenCoordinates(mid.getGroupId(), mid.getArtifactId()), scope);
+						}
 						if (starter!=null) {
 							createBomIfNeeded(pom, starter.getBom());
 							createRepoIfNeeded(pom, starter.getRepo());
@@ -285,7 +366,7 @@ public class MavenSpringBootProject extends SpringBootProject {
 					//Add boms delta says should be added
 					try {
 						for (MavenId bomMavenId : delta.addedBoms) {
-							Bom bom = getStarterInfos().getBom(bomMavenId);
+							Bom bom = knownStarters.getBom(bomMavenId);
 							if (bom!=null) {
 								createBomIfNeeded(pom, bom);
 							}
@@ -305,6 +386,10 @@ public class MavenSpringBootProject extends SpringBootProject {
 
 	@Override
 	public void removeMavenDependency(final MavenId mavenId) {
+		if (isNotDeclared(mavenId)) {
+			debug("Not declared in pom: "+mavenId);
+			return;
+		}
 		IFile file = getPomFile();
 		try {
 			performOnDOMDocument(new OperationTuple(file, new Operation() {
@@ -330,11 +415,39 @@ public class MavenSpringBootProject extends SpringBootProject {
 
 	@Override
 	public Job updateProjectConfiguration() {
-		Job job = new UpdateMavenProjectJob(new IProject[] {
-				getProject()
-		});
-		job.schedule();
-		return job;
+		IProject project = getProject();
+		synchronized (pendingUpdates) {
+			Job pending = pendingUpdates.get(project);
+			if (pending!=null && pending.getState()!=Job.RUNNING && pending.getState()!=Job.NONE) {
+				//Not started yet, so it will pick up the changes made since it was requested.
+				return pending;
+			}
+			Job job = new UpdateMavenProjectJob(new IProject[] {
+					project
+			});
+			job.addJobChangeListener(new JobChangeAdapter() {
+				@Override
+				public void running(IJobChangeEvent event) {
+					forget();
+				}
+
+				@Override
+				public void done(IJobChangeEvent event) {
+					forget();
+				}
+
+				private void forget() {
+					synchronized (pendingUpdates) {
+						if (pendingUpdates.get(project)==job) {
+							pendingUpdates.remove(project);
+						}
+					}
+				}
+			});
+			pendingUpdates.put(project, job);
+			job.schedule();
+			return job;
+		}
  	}
 
 	@Override
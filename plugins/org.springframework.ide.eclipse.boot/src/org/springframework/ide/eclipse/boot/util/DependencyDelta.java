@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Pivotal, Inc.
+ * Copyright (c) 2018, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -142,6 +142,44 @@ public class DependencyDelta {
 		return removed.contains(id);
 	}
 
+	public boolean isEmpty() {
+		return removed.isEmpty() && added.isEmpty() && removedBoms.isEmpty() && addedBoms.isEmpty();
+	}
+
+	/**
+	 * Drops the changes that are already applied to a pom that declares the given dependencies
+	 * and boms: removing dependencies that aren't declared, or adding dependencies that are.
+	 *
+	 * @return A delta with only the changes that still need to be applied to the pom.
+	 */
+	public DependencyDelta effectiveFor(Set<MavenId> declaredDeps, Set<MavenId> declaredBoms) {
+		Set<MavenId> effectiveRemoved = new HashSet<>();
+		for (MavenId id : removed) {
+			if (declaredDeps.contains(id)) {
+				effectiveRemoved.add(id);
+			}
+		}
+		Map<MavenId, Optional<String>> effectiveAdded = new LinkedHashMap<>();
+		for (Entry<MavenId, Optional<String>> e : added.entrySet()) {
+			if (!declaredDeps.contains(e.getKey())) {
+				effectiveAdded.put(e.getKey(), e.getValue());
+			}
+		}
+		ImmutableSet.Builder<MavenId> effectiveRemovedBoms = ImmutableSet.builder();
+		for (MavenId id : removedBoms) {
+			if (declaredBoms.contains(id)) {
+				effectiveRemovedBoms.add(id);
+			}
+		}
+		ImmutableSet.Builder<MavenId> effectiveAddedBoms = ImmutableSet.builder();
+		for (MavenId id : addedBoms) {
+			if (!declaredBoms.contains(id)) {
+				effectiveAddedBoms.add(id);
+			}
+		}
+		return new DependencyDelta(effectiveRemoved, effectiveAdded, effectiveRemovedBoms.build(), effectiveAddedBoms.build());
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder("DependencyDelta(");
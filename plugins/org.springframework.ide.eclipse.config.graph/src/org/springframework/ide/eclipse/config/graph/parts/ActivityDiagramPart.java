@@ -56,6 +56,8 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 
 	private boolean isLayoutReset;
 
+	private final GraphLayoutCache layoutCache = new GraphLayoutCache();
+
 	private final IPreferenceStore prefStore;
 
 	CommandStackListener stackListener = new CommandStackListener() {
@@ -172,6 +174,10 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 		return direction;
 	}
 
+	GraphLayoutCache getLayoutCache() {
+		return layoutCache;
+	}
+
 	private void handleLayoutChange(PropertyChangeEvent event) {
 		getFigure().setLayoutManager(delegatingLayoutManager);
 	}
@@ -179,6 +185,7 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 	private void handleLayoutReset(PropertyChangeEvent event) {
 		isLayoutReset = true;
 		isFirstManualLayout = true;
+		layoutCache.clear();
 		diagram.doResetCoordinates();
 		handleLayoutChange(event);
 	}
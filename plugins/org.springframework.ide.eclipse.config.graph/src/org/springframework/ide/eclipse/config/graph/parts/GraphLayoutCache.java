@@ -0,0 +1,189 @@
+/*******************************************************************************
+ *  Copyright (c) 2012 VMware, Inc.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *      VMware, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.config.graph.parts;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.graph.CompoundDirectedGraph;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
+import org.eclipse.draw2d.graph.Subgraph;
+
+/**
+ * Remembers the results of previous {@link CompoundDirectedGraph} layouts
+ * against a structural hash of the graph that was laid out. The hash only
+ * takes into account the order, nesting and size of the nodes and the end
+ * points of the edges, so a graph that is rebuilt from unchanged edit parts
+ * can be given its previous layout without running the layout algorithm
+ * again.
+ */
+class GraphLayoutCache {
+
+	private static final int MAX_ENTRIES = 8;
+
+	private final Map<Long, LayoutResult> results = new LinkedHashMap<Long, LayoutResult>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, LayoutResult> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Computes a hash of the structure of the given graph. Must be called
+	 * before the graph is laid out, since the layout algorithm adds virtual
+	 * nodes and edges to the graph.
+	 */
+	static long structuralHash(CompoundDirectedGraph graph) {
+		Map<Node, Integer> indexes = indexNodes(graph.nodes);
+		long hash = graph.getDirection();
+		hash = 31 * hash + graph.nodes.size();
+		hash = 31 * hash + graph.edges.size();
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			Node node = graph.nodes.getNode(i);
+			hash = 31 * hash + indexOf(indexes, node.getParent());
+			hash = 31 * hash + node.width;
+			hash = 31 * hash + node.height;
+			hash = 31 * hash + node.incomingOffset;
+			hash = 31 * hash + node.outgoingOffset;
+			if (node instanceof Subgraph) {
+				Subgraph subgraph = (Subgraph) node;
+				hash = 31 * hash + subgraph.insets.hashCode();
+				hash = 31 * hash + (subgraph.innerPadding != null ? subgraph.innerPadding.hashCode() : 0);
+			}
+		}
+		for (int i = 0; i < graph.edges.size(); i++) {
+			Edge edge = graph.edges.getEdge(i);
+			hash = 31 * hash + indexOf(indexes, edge.source);
+			hash = 31 * hash + indexOf(indexes, edge.target);
+			hash = 31 * hash + edge.weight;
+		}
+		return hash;
+	}
+
+	private static Map<Node, Integer> indexNodes(NodeList nodes) {
+		Map<Node, Integer> indexes = new IdentityHashMap<Node, Integer>();
+		for (int i = 0; i < nodes.size(); i++) {
+			indexes.put(nodes.getNode(i), i);
+		}
+		return indexes;
+	}
+
+	private static int indexOf(Map<Node, Integer> indexes, Node node) {
+		Integer index = indexes.get(node);
+		return index != null ? index : -1;
+	}
+
+	synchronized void clear() {
+		results.clear();
+	}
+
+	/**
+	 * Copies the cached layout for the given hash onto the nodes and edges of
+	 * the graph.
+	 * @return <code>false</code> if there is no usable cached layout
+	 */
+	synchronized boolean apply(long hash, List<Node> nodes, List<Edge> edges) {
+		LayoutResult result = results.get(hash);
+		if (result == null || result.nodes.length != nodes.size() || result.edges.size() != edges.size()) {
+			return false;
+		}
+		for (int i = 0; i < nodes.size(); i++) {
+			Node node = nodes.get(i);
+			int[] bounds = result.nodes[i];
+			node.x = bounds[0];
+			node.y = bounds[1];
+			node.width = bounds[2];
+			node.height = bounds[3];
+		}
+		for (int i = 0; i < edges.size(); i++) {
+			int[] bends = result.edges.get(i);
+			if (bends == null) {
+				edges.get(i).vNodes = null;
+			}
+			else {
+				NodeList vNodes = new NodeList();
+				for (int j = 0; j < bends.length; j += 3) {
+					Node vn = new Node();
+					vn.x = bends[j];
+					vn.y = bends[j + 1];
+					vn.height = bends[j + 2];
+					vNodes.add(vn);
+				}
+				edges.get(i).vNodes = vNodes;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Records the layout of the given nodes and edges, which must be the
+	 * nodes and edges of the graph before it was laid out.
+	 */
+	synchronized void put(long hash, List<Node> nodes, List<Edge> edges) {
+		int[][] nodeResults = new int[nodes.size()][];
+		for (int i = 0; i < nodes.size(); i++) {
+			Node node = nodes.get(i);
+			nodeResults[i] = new int[] { node.x, node.y, node.width, node.height };
+		}
+		List<int[]> edgeResults = new ArrayList<int[]>(edges.size());
+		for (Edge edge : edges) {
+			NodeList vNodes = edge.vNodes;
+			if (vNodes == null) {
+				edgeResults.add(null);
+			}
+			else {
+				int[] bends = new int[vNodes.size() * 3];
+				for (int j = 0; j < vNodes.size(); j++) {
+					Node vn = vNodes.getNode(j);
+					// Bend points of feedback edges are read bottom-up, which
+					// is the same as a top-down read of a flipped node.
+					if (edge.isFeedback()) {
+						bends[j * 3] = vn.x;
+						bends[j * 3 + 1] = vn.y + vn.height;
+						bends[j * 3 + 2] = -vn.height;
+					}
+					else {
+						bends[j * 3] = vn.x;
+						bends[j * 3 + 1] = vn.y;
+						bends[j * 3 + 2] = vn.height;
+					}
+				}
+				edgeResults.add(bends);
+			}
+		}
+		results.put(hash, new LayoutResult(nodeResults, edgeResults));
+	}
+
+	synchronized boolean contains(long hash) {
+		return results.containsKey(hash);
+	}
+
+	private static class LayoutResult {
+
+		private final int[][] nodes;
+
+		private final List<int[]> edges;
+
+		LayoutResult(int[][] nodes, List<int[]> edges) {
+			this.nodes = nodes;
+			this.edges = edges;
+		}
+
+	}
+
+}
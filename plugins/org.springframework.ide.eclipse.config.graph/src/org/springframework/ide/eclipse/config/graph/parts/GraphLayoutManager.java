@@ -10,10 +10,15 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.config.graph.parts;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.draw2d.AbstractLayout;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
@@ -21,7 +26,10 @@ import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.CompoundDirectedGraph;
 import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * @author Leo Dos Santos
@@ -29,10 +37,22 @@ import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
  */
 class GraphLayoutManager extends AbstractLayout {
 
+	/**
+	 * Graphs with at least this many nodes are laid out in a background job
+	 * rather than on the UI thread.
+	 */
+	static final int ASYNC_LAYOUT_THRESHOLD = 200;
+
+	private static final int NEW_NODE_SPACING = 20;
+
 	private final ActivityDiagramPart diagram;
 
 	private final int direction;
 
+	private Job layoutJob;
+
+	private long pendingHash;
+
 	GraphLayoutManager(ActivityDiagramPart diagram, int direction) {
 		this.diagram = diagram;
 		this.direction = direction;
@@ -63,9 +83,101 @@ class GraphLayoutManager extends AbstractLayout {
 		Map<AbstractGraphicalEditPart, Object> partsToNodes = new HashMap<AbstractGraphicalEditPart, Object>();
 		diagram.contributeNodesToGraph(graph, null, partsToNodes);
 		diagram.contributeEdgesToGraph(graph, partsToNodes);
-		new CompoundDirectedGraphLayout().visit(graph);
+
+		// The layout adds virtual nodes and edges to the graph, so keep hold
+		// of the original ones for caching
+		List<Node> nodes = new ArrayList<Node>(graph.nodes);
+		List<Edge> edges = new ArrayList<Edge>(graph.edges);
+		long hash = GraphLayoutCache.structuralHash(graph);
+		GraphLayoutCache cache = diagram.getLayoutCache();
+		if (!cache.apply(hash, nodes, edges)) {
+			if (nodes.size() >= ASYNC_LAYOUT_THRESHOLD) {
+				scheduleLayout(container, graph, hash, nodes, edges);
+				placeNewNodes(partsToNodes);
+				return;
+			}
+			new CompoundDirectedGraphLayout().visit(graph);
+			cache.put(hash, nodes, edges);
+		}
 		diagram.applyGraphResults(graph, partsToNodes);
 		diagram.setBoundsOnModel();
 	}
 
+	/**
+	 * Keeps the nodes that have already been laid out where they are while a
+	 * background layout is running, and stacks nodes that have not been laid
+	 * out yet below them.
+	 */
+	private void placeNewNodes(Map<AbstractGraphicalEditPart, Object> partsToNodes) {
+		Rectangle laidOut = null;
+		List<ActivityPart> newParts = new ArrayList<ActivityPart>();
+		for (AbstractGraphicalEditPart part : partsToNodes.keySet()) {
+			if (part instanceof ActivityPart) {
+				Rectangle bounds = part.getFigure().getBounds();
+				if (bounds.isEmpty()) {
+					newParts.add((ActivityPart) part);
+				}
+				else if (laidOut == null) {
+					laidOut = bounds.getCopy();
+				}
+				else {
+					laidOut.union(bounds);
+				}
+			}
+		}
+		int x = laidOut != null ? laidOut.x : 0;
+		int y = laidOut != null ? laidOut.bottom() + NEW_NODE_SPACING : 0;
+		for (ActivityPart part : newParts) {
+			Node n = (Node) partsToNodes.get(part);
+			part.getFigure().setBounds(new Rectangle(x, y, n.width, n.height));
+			y += n.height + NEW_NODE_SPACING;
+		}
+	}
+
+	private synchronized void scheduleLayout(final IFigure container, final CompoundDirectedGraph graph,
+			final long hash, final List<Node> nodes, final List<Edge> edges) {
+		if (layoutJob != null) {
+			if (pendingHash == hash) {
+				return;
+			}
+			layoutJob.cancel();
+		}
+		pendingHash = hash;
+		layoutJob = new Job("Laying out diagram") {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask("Laying out " + nodes.size() + " nodes", IProgressMonitor.UNKNOWN);
+				try {
+					new CompoundDirectedGraphLayout().visit(graph);
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					diagram.getLayoutCache().put(hash, nodes, edges);
+				}
+				finally {
+					monitor.done();
+					layoutFinished(this);
+				}
+				Display.getDefault().asyncExec(new Runnable() {
+					public void run() {
+						if (diagram.isActive()) {
+							container.revalidate();
+						}
+					}
+				});
+				return Status.OK_STATUS;
+			}
+
+		};
+		layoutJob.setPriority(Job.SHORT);
+		layoutJob.schedule();
+	}
+
+	private synchronized void layoutFinished(Job job) {
+		if (layoutJob == job) {
+			layoutJob = null;
+		}
+	}
+
 }
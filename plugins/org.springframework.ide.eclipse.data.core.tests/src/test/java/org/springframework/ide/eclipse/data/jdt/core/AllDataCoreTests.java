@@ -21,7 +21,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ KeywordProviderSupportUnitTests.class, //
 		QueryMethodCandidateUnitTests.class, //
 		QueryMethodPartUnitTests.class, //
-		RepositoryInformationTest.class //
+		RepositoryInformationTest.class, //
+		RepositoryIndexTest.class //
 })
 public class AllDataCoreTests {
 	// goofy junit4, no class body needed
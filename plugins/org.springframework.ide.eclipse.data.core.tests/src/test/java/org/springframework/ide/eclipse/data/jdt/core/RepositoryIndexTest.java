@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.jdt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityType;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * @since 3.9.12
+ */
+public class RepositoryIndexTest {
+
+	private IProject project;
+	private IJavaProject javaProject;
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("spring-data-testdata", "org.springframework.ide.eclipse.data.core.tests");
+		javaProject = JdtUtils.getJavaProject(project);
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void resolvesDomainTypeThroughRepositoryInterfaces() throws Exception {
+		EntityType domainType = RepositoryIndex.getDefault().getDomainType(javaProject.findType("org.PersonRepository"));
+		assertNotNull(domainType);
+		assertEquals("org.Person", domainType.getFullyQualifiedName());
+	}
+
+	@Test
+	public void noDomainTypeForNonRepository() throws Exception {
+		assertNull(RepositoryIndex.getDefault().getDomainType(javaProject.findType("org.Address")));
+	}
+
+	@Test
+	public void resolvesNestedPropertyPaths() throws Exception {
+		EntityType domainType = RepositoryIndex.getDefault().getDomainType(javaProject.findType("org.PersonRepository"));
+
+		QueryMethodPart part = new QueryMethodPart("AddressCityLike", domainType);
+		assertTrue(part.isCompletePathMatch());
+		assertEquals("Like", part.getKeyword());
+
+		part = new QueryMethodPart("PreviousAddressesCi", domainType);
+		assertFalse(part.isCompletePathMatch());
+		assertFalse(part.isRoot());
+		assertEquals("ci", part.getSeed());
+		assertEquals("org.Address", part.getIndexedLeafType().getFullyQualifiedName());
+
+		part = new QueryMethodPart("Fi", domainType);
+		assertTrue(part.isRoot());
+		assertEquals("fi", part.getSeed());
+	}
+
+	@Test
+	public void indexesGetterProperties() throws Exception {
+		EntityType domainType = RepositoryIndex.getDefault().getEntityType(javaProject, "org.Person");
+		assertNotNull(domainType);
+		assertEquals(3, domainType.getGetterProperties().size());
+		assertEquals("java.lang.String", domainType.getProperty("firstname").getTypeName());
+		assertEquals("org.Address", domainType.getProperty("previousAddresses").getActualTypeName());
+	}
+
+}
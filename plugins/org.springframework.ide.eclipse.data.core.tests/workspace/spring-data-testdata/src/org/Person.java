@@ -0,0 +1,25 @@
+package org;
+
+import java.util.List;
+
+public class Person {
+
+	private String firstname;
+
+	private Address address;
+
+	private List<Address> previousAddresses;
+
+	public String getFirstname() {
+		return firstname;
+	}
+
+	public Address getAddress() {
+		return address;
+	}
+
+	public List<Address> getPreviousAddresses() {
+		return previousAddresses;
+	}
+
+}
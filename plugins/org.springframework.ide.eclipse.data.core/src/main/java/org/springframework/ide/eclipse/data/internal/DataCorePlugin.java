@@ -14,6 +14,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.osgi.framework.BundleContext;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex;
 
 /**
  * Central access point for the Spring Data Support plug-in (id
@@ -40,6 +42,18 @@ public class DataCorePlugin extends AbstractUIPlugin {
 		plugin = this;
 	}
 
+	@Override
+	public void start(BundleContext context) throws Exception {
+		super.start(context);
+		RepositoryIndex.getDefault().start();
+	}
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		RepositoryIndex.getDefault().stop();
+		super.stop(context);
+	}
+
 	/**
 	 * Returns the shared instance.
 	 */
@@ -33,6 +33,7 @@ import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.swt.graphics.Image;
 import org.springframework.ide.eclipse.data.internal.DataCoreImages;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityType;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
@@ -94,8 +95,9 @@ public class EntityPropertyCompletionProposals extends JavaCompletionProposalCom
 	private List<ICompletionProposal> computeCompletionProposals(SourceMethod element,
 			JavaContentAssistInvocationContext javaContext) throws JavaModelException {
 
-		RepositoryInformation information = RepositoryInformation.create(element);
-		if (information == null) {
+		IType repository = element.getDeclaringType();
+		EntityType domainType = getDomainType(repository);
+		if (domainType == null) {
 			return Collections.emptyList();
 		}
 		
@@ -104,14 +106,15 @@ public class EntityPropertyCompletionProposals extends JavaCompletionProposalCom
 		int replacementLength = element.getNameRange().getLength() - positionInMethodName;
 		String elementName = element.getElementName();
 
-		return computeCompletionProposals(javaContext, information, positionInMethodName, replacementLength, elementName);
+		return computeCompletionProposals(javaContext, repository, domainType, positionInMethodName, replacementLength,
+				elementName);
 	}
 
 	private List<ICompletionProposal> computeCompletionProposals(IType type,
 			JavaContentAssistInvocationContext javaContext) throws JavaModelException {
 
-		RepositoryInformation information = RepositoryInformation.create(type);
-		if (information == null) {
+		EntityType domainType = getDomainType(type);
+		if (domainType == null) {
 			return Collections.emptyList();
 		}
 
@@ -128,28 +131,34 @@ public class EntityPropertyCompletionProposals extends JavaCompletionProposalCom
 		int offset = javaContext.getCoreContext().getOffset();
 		int positionInMethodName = offset - javaContext.getCoreContext().getTokenStart();
 
-		return computeCompletionProposals(javaContext, information, positionInMethodName, 0, elementName);
+		return computeCompletionProposals(javaContext, type, domainType, positionInMethodName, 0, elementName);
+	}
+
+	/**
+	 * Returns the indexed domain type of the given repository interface without loading any classes.
+	 * 
+	 * @param repository can be {@literal null}.
+	 * @return the domain type or {@literal null} if the given type is not a repository interface.
+	 */
+	private static EntityType getDomainType(IType repository) throws JavaModelException {
+		if (repository == null || !repository.exists() || !repository.isInterface()) {
+			return null;
+		}
+		return RepositoryIndex.getDefault().getDomainType(repository);
 	}
 
 	private List<ICompletionProposal> computeCompletionProposals(
-			JavaContentAssistInvocationContext javaContext,
-			RepositoryInformation information, int positionInMethodName, int replacementLength,
+			JavaContentAssistInvocationContext javaContext, IType repository,
+			EntityType domainType, int positionInMethodName, int replacementLength,
 			String elementName) throws JavaModelException {
 
 		IJavaProject project = javaContext.getProject();
 
-		Class<?> managedDomainClass = information.getManagedDomainClass();
-		if (managedDomainClass == null) {
-			return Collections.emptyList();
-		}
-
-		IType domainType = project.findType(managedDomainClass.getName());
-
 		int offset = javaContext.getCoreContext().getOffset();
 
-		KeywordProvider keywordProvider = information.getKeywordProvider(project);
-		QueryMethodCandidate candidate = new QueryMethodCandidate(elementName,
-				information.getManagedDomainClass());
+		KeywordProvider keywordProvider = RepositoryInformation.getKeywordProvider(project,
+				repository.getFullyQualifiedName());
+		QueryMethodCandidate candidate = new QueryMethodCandidate(elementName, domainType);
 		QueryMethodPart part = candidate.getPartAtPosition(positionInMethodName);
 
 		if (part == null) {
@@ -158,12 +167,14 @@ public class EntityPropertyCompletionProposals extends JavaCompletionProposalCom
 
 		KeywordProposalsProvider keywordProposalsProvider = new KeywordProposalsProvider(keywordProvider);
 
-		IType type = part.isRoot() ? domainType : project.findType(part.getPathLeaf().getType().getName());
+		EntityType entityType = part.isRoot() ? domainType : part.getIndexedLeafType();
 
-		if (type == null) {
+		if (entityType == null) {
 			return Collections.emptyList();
 		}
 
+		IType type = entityType.getType();
+
 		List<ICompletionProposal> proposals = new ArrayList<ICompletionProposal>();
 		proposals.addAll(getProposalsFor(type, part, offset, replacementLength));
 		proposals.addAll(keywordProposalsProvider.getProposalsFor(type, offset, replacementLength, part));
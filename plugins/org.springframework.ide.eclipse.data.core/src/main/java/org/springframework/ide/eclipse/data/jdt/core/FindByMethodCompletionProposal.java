@@ -18,6 +18,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
@@ -49,17 +50,17 @@ import org.springsource.ide.eclipse.commons.core.StatusHandler;
 public class FindByMethodCompletionProposal implements IJavaCompletionProposal, ICompletionProposalExtension2 {
 
 	private final String propertyName;
-	private final Class<?> propertyClass;
-	private final Class<?> domainClass;
+	private final String propertyTypeName;
+	private final String domainTypeName;
 	private final int startOffset;
 	private IRegion selectedRegion;
 	private final ICompilationUnit cu;
 
-	public FindByMethodCompletionProposal(String propertyName, Class<?> propertyClass, Class<?> domainClass,
+	public FindByMethodCompletionProposal(String propertyName, String propertyTypeName, String domainTypeName,
 			int startOffset, int endOffset, JavaContentAssistInvocationContext javaContext) {
 		this.propertyName = propertyName;
-		this.propertyClass = propertyClass;
-		this.domainClass = domainClass;
+		this.propertyTypeName = propertyTypeName;
+		this.domainTypeName = domainTypeName;
 		this.startOffset = startOffset;
 
 		this.selectedRegion = new Region(startOffset, endOffset);
@@ -75,12 +76,12 @@ public class FindByMethodCompletionProposal implements IJavaCompletionProposal,
 
 		str.append(getMethodName(propertyName));
 		str.append("(");
-		str.append(propertyClass.getSimpleName());
+		str.append(Signature.getSimpleName(propertyTypeName));
 		str.append(" ");
 		str.append(propertyName.toLowerCase());
 		str.append(") : ");
 		str.append("List<");
-		str.append(domainClass.getSimpleName());
+		str.append(Signature.getSimpleName(domainTypeName));
 		str.append(">");
 
 		return str.toString();
@@ -134,12 +135,12 @@ public class FindByMethodCompletionProposal implements IJavaCompletionProposal,
 
 			int oldImportPos = getLastImportEndPosition();
 
-			if (cu.getImport(propertyClass.getCanonicalName()) != null) {
-				cu.createImport(propertyClass.getCanonicalName(), null, null);
+			if (cu.getImport(propertyTypeName) != null) {
+				cu.createImport(propertyTypeName, null, null);
 			}
 
-			if (cu.getImport(domainClass.getCanonicalName()) != null) {
-				cu.createImport(domainClass.getCanonicalName(), null, null);
+			if (cu.getImport(domainTypeName) != null) {
+				cu.createImport(domainTypeName, null, null);
 			}
 
 			if (cu.getImport("java.util.List") != null) {
@@ -158,7 +159,7 @@ public class FindByMethodCompletionProposal implements IJavaCompletionProposal,
 			group = new LinkedPositionGroup();
 			startPos = startOffset + importOffset + methodStr.length();
 			methodStr.append("List<");
-			methodStr.append(domainClass.getSimpleName());
+			methodStr.append(Signature.getSimpleName(domainTypeName));
 			methodStr.append(">");
 			length = methodStr.length();
 			group.addPosition(new LinkedPosition(document, startPos, length));
@@ -178,7 +179,7 @@ public class FindByMethodCompletionProposal implements IJavaCompletionProposal,
 
 			group = new LinkedPositionGroup();
 			startPos = startOffset + importOffset + methodStr.length();
-			String paramTypeName = propertyClass.getSimpleName();
+			String paramTypeName = Signature.getSimpleName(propertyTypeName);
 			length = paramTypeName.length();
 			methodStr.append(paramTypeName);
 			group.addPosition(new LinkedPosition(document, startPos, length));
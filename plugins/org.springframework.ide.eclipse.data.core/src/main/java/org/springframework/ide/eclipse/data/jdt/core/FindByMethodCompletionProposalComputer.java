@@ -1,6 +1,5 @@
 package org.springframework.ide.eclipse.data.jdt.core;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -21,7 +20,8 @@ import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.source.ISourceViewer;
 import org.springframework.ide.eclipse.data.internal.DataCorePlugin;
-import org.springframework.ide.eclipse.data.jdt.core.RepositoryInformation;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityProperty;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityType;
 import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
 import org.springsource.ide.eclipse.commons.core.StatusHandler;
 
@@ -101,35 +101,28 @@ public class FindByMethodCompletionProposalComputer extends JavaCompletionPropos
 
 			List<ICompletionProposal> proposals = new ArrayList<ICompletionProposal>();
 
-			RepositoryInformation repositoryInfo = new RepositoryInformation(expectedType);
-			Class<?> domainClass = repositoryInfo.getManagedDomainClass();
-			if (domainClass != null) {
-				Method[] methods = domainClass.getMethods();
+			EntityType domainType = expectedType.isInterface()
+					? RepositoryIndex.getDefault().getDomainType(expectedType)
+					: null;
+			if (domainType != null) {
+				long deadline = System.currentTimeMillis() + RepositoryIndex.RESOLUTION_BUDGET;
 
-				for (Method method : methods) {
-					Class<?> returnType = method.getReturnType();
-					if ("void".equals(returnType.getName())) {
-						continue;
+				for (EntityProperty property : domainType.getGetterProperties()) {
+					if (System.currentTimeMillis() > deadline) {
+						break;
 					}
-					if (method.getParameterTypes().length > 0) {
+					String propertyName = property.getName();
+					if ("Class".equals(propertyName)) {
 						continue;
 					}
+					String proposalMethodName = FindByMethodCompletionProposal.getMethodName(propertyName);
+					if (!containsMethodName(proposalMethodName, expectedType)) {
 
-					String methodName = method.getName();
-					if (methodName.startsWith("get")) {
-						String propertyName = methodName.substring(3, methodName.length());
-						if ("Class".equals(propertyName)) {
-							continue;
-						}
-						String proposalMethodName = FindByMethodCompletionProposal.getMethodName(propertyName);
-						if (!containsMethodName(proposalMethodName, expectedType)) {
-
-							if (prefix != null && prefix.length() > 0
-									&& proposalMethodName.toLowerCase().startsWith(prefix.toLowerCase())) {
+						if (prefix != null && prefix.length() > 0
+								&& proposalMethodName.toLowerCase().startsWith(prefix.toLowerCase())) {
 
-								proposals.add(new FindByMethodCompletionProposal(propertyName, returnType, domainClass,
-										start, end, javaContext));
-							}
+							proposals.add(new FindByMethodCompletionProposal(propertyName, property.getTypeName(),
+									domainType.getFullyQualifiedName(), start, end, javaContext));
 						}
 					}
 				}
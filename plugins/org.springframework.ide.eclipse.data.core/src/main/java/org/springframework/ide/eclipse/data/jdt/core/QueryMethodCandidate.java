@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.data.jdt.core;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityType;
 import org.springframework.util.Assert;
 
 /**
@@ -29,6 +30,7 @@ class QueryMethodCandidate {
 	private final String name;
 	private final int prefixLength;
 	private final Class<?> entityClass;
+	private final EntityType entityType;
 
 	/**
 	 * Creates a new {@link QueryMethodCandidate} with the given name based on the given entity type.
@@ -47,6 +49,27 @@ class QueryMethodCandidate {
 		this.prefixLength = prefixFound ? matcher.end() : 0;
 		this.name = prefixFound ? name.substring(matcher.end()) : name;
 		this.entityClass = entityType;
+		this.entityType = null;
+	}
+
+	/**
+	 * Creates a new {@link QueryMethodCandidate} with the given name based on the given indexed entity type.
+	 * 
+	 * @param name must not be {@literal null}. or empty.
+	 * @param entityType must not be {@literal null}.
+	 */
+	public QueryMethodCandidate(String name, EntityType entityType) {
+
+		Assert.hasText(name, "Method name must not be null or empty!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+
+		Matcher matcher = pattern.matcher(name);
+		boolean prefixFound = matcher.find();
+
+		this.prefixLength = prefixFound ? matcher.end() : 0;
+		this.name = prefixFound ? name.substring(matcher.end()) : name;
+		this.entityClass = null;
+		this.entityType = entityType;
 	}
 
 	/**
@@ -74,6 +97,6 @@ class QueryMethodCandidate {
 		}
 
 		String subName = startIndex >= name.length() ? "" : name.substring(startIndex, endIndex);
-		return new QueryMethodPart(subName, entityClass);
+		return entityType != null ? new QueryMethodPart(subName, entityType) : new QueryMethodPart(subName, entityClass);
 	}
 }
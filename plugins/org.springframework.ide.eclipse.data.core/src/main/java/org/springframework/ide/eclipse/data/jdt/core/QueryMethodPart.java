@@ -10,12 +10,21 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.data.jdt.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.eclipse.jdt.core.IField;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityProperty;
+import org.springframework.ide.eclipse.data.jdt.core.RepositoryIndex.EntityType;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * A part of a Spring Data query method, i.e. exactly the part between the last concatenator ({@literal And},
@@ -25,8 +34,13 @@ import org.springframework.util.Assert;
  */
 class QueryMethodPart {
 
+	private static final Pattern IGNORE_CASE = Pattern.compile("Ignor(ing|e)Case$");
+	private static final Pattern LAST_WORD = Pattern.compile("\\p{Lu}+\\p{Ll}*$");
+
 	private final String source;
 	private PropertyPath path;
+	private List<EntityProperty> indexedPath;
+	private EntityType indexedLeafType;
 	private String seed;
 	private Type type;
 
@@ -54,13 +68,99 @@ class QueryMethodPart {
 		}
 	}
 
+	/**
+	 * Creates a new {@link QueryMethodPart} from the given source and indexed entity type. Resolves property paths the
+	 * same way Spring Data does, but against the {@link RepositoryIndex} instead of loaded classes.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 */
+	public QueryMethodPart(String source, EntityType domainType) {
+
+		this.source = source;
+
+		if (source != null && source.length() > 0) {
+			Type partType = Type.fromProperty(IGNORE_CASE.matcher(source).replaceFirst(""));
+			String property = partType.extractProperty(IGNORE_CASE.matcher(source).replaceFirst(""));
+			long deadline = System.currentTimeMillis() + RepositoryIndex.RESOLUTION_BUDGET;
+
+			Resolution resolution = new Resolution(domainType, Collections.<EntityProperty> emptyList(), null);
+			for (String segment : property.split("_")) {
+				if (!StringUtils.hasText(segment)) {
+					continue;
+				}
+				resolution = resolve(segment, resolution.type, "", resolution.path, deadline);
+				if (resolution.unresolved != null) {
+					break;
+				}
+			}
+
+			this.indexedPath = resolution.path.isEmpty() ? null : resolution.path;
+			this.indexedLeafType = resolution.type;
+			this.seed = resolution.unresolved;
+			this.type = resolution.unresolved == null ? partType : null;
+		}
+	}
+
+	/**
+	 * Resolves the given source against the given type, trying the source as a whole first and then splitting off camel
+	 * case words from the right, the way {@link PropertyPath#from(String, Class)} does.
+	 */
+	private static Resolution resolve(String source, EntityType type, String tail, List<EntityProperty> base,
+			long deadline) {
+
+		EntityProperty property = getProperty(type, source);
+		if (property != null) {
+			List<EntityProperty> path = new ArrayList<EntityProperty>(base);
+			path.add(property);
+			EntityType propertyType = type.getPropertyType(property);
+			if (StringUtils.hasText(tail)) {
+				return resolve(tail, propertyType, "", path, deadline);
+			}
+			return new Resolution(propertyType, path, null);
+		}
+
+		Resolution failure = new Resolution(type, base, StringUtils.uncapitalize(source));
+		Matcher matcher = LAST_WORD.matcher(source);
+		if (matcher.find() && matcher.start() != 0 && System.currentTimeMillis() < deadline) {
+			int position = matcher.start();
+			Resolution resolution = resolve(source.substring(0, position), type, source.substring(position) + tail,
+					base, deadline);
+			if (resolution.unresolved == null || resolution.path.size() > failure.path.size()) {
+				return resolution;
+			}
+		}
+		return failure;
+	}
+
+	private static EntityProperty getProperty(EntityType type, String name) {
+		if (type == null) {
+			return null;
+		}
+		EntityProperty property = type.getProperty(StringUtils.uncapitalize(name));
+		return property != null ? property : type.getProperty(name);
+	}
+
+	private static class Resolution {
+
+		private final EntityType type;
+		private final List<EntityProperty> path;
+		private final String unresolved;
+
+		Resolution(EntityType type, List<EntityProperty> path, String unresolved) {
+			this.type = type;
+			this.path = path;
+			this.unresolved = unresolved;
+		}
+	}
+
 	/**
 	 * Returns whether the part is a complete match, i.e. the part can be resolved into a {@link Part} entirely.
 	 * 
 	 * @return
 	 */
 	public boolean isCompletePathMatch() {
-		return path != null && seed == null;
+		return !isRoot() && seed == null;
 	}
 
 	/**
@@ -70,7 +170,7 @@ class QueryMethodPart {
 	 * @return
 	 */
 	public boolean isRoot() {
-		return path == null;
+		return path == null && indexedPath == null;
 	}
 
 	/**
@@ -107,6 +207,16 @@ class QueryMethodPart {
 		return this.path == null ? null : this.path.getLeafProperty();
 	}
 
+	/**
+	 * Returns the indexed type of the leaf property of a query method part created from an indexed entity type.
+	 * 
+	 * @return the type of the leaf property, the domain type if the part is a root part or {@literal null} if the type
+	 *         is not known to the index.
+	 */
+	public EntityType getIndexedLeafType() {
+		return indexedLeafType;
+	}
+
 	/**
 	 * Returns the seed to hint into the next property or keyword.
 	 * 
@@ -127,12 +237,20 @@ class QueryMethodPart {
 			return null;
 		}
 
-		PropertyPath current = path;
-		int index = path.getSegment().length();
+		int index = 0;
 
-		while (current.hasNext()) {
-			current = current.next();
-			index += current.getSegment().length();
+		if (indexedPath != null) {
+			for (EntityProperty property : indexedPath) {
+				index += property.getName().length();
+			}
+		} else {
+			PropertyPath current = path;
+			index = path.getSegment().length();
+
+			while (current.hasNext()) {
+				current = current.next();
+				index += current.getSegment().length();
+			}
 		}
 
 		return source.length() == index ? null : source.substring(index);
@@ -0,0 +1,583 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.jdt.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMemberValuePair;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.springframework.ide.eclipse.data.internal.DataCorePlugin;
+import org.springframework.util.StringUtils;
+
+/**
+ * Per-project index of the domain types of Spring Data repositories and the properties of those types, built from
+ * the JDT model only. Unlike {@link RepositoryInformation#getManagedDomainClass()} this never loads any classes, so it
+ * is cheap enough for content assist and keeps working while the project has compile errors.
+ * <p>
+ * Entries remember the compilation units they were computed from and are dropped when one of those changes. Classpath
+ * changes and added or removed compilation units drop the whole index of a project.
+ *
+ * @since 3.9.12
+ */
+public class RepositoryIndex {
+
+	/**
+	 * The time in milliseconds the resolution of a single query method part may take before the best partial result
+	 * found so far is used.
+	 */
+	public static final long RESOLUTION_BUDGET = Long.getLong("org.springframework.ide.eclipse.data.resolutionBudget",
+			200);
+
+	private static final String OBJECT = "java.lang.Object";
+
+	private static final String REPOSITORY = "org.springframework.data.repository.Repository";
+
+	private static final String REPOSITORY_DEFINITION = "org.springframework.data.repository.RepositoryDefinition";
+
+	private static final Set<String> COLLECTION_TYPES = new HashSet<String>(Arrays.asList("java.lang.Iterable",
+			"java.util.Collection", "java.util.List", "java.util.Set", "java.util.SortedSet", "java.util.NavigableSet",
+			"java.util.Queue", "java.util.Deque", "java.util.ArrayList", "java.util.LinkedList", "java.util.HashSet",
+			"java.util.LinkedHashSet", "java.util.TreeSet"));
+
+	private static final Set<String> MAP_TYPES = new HashSet<String>(Arrays.asList("java.util.Map",
+			"java.util.SortedMap", "java.util.NavigableMap", "java.util.HashMap", "java.util.LinkedHashMap",
+			"java.util.TreeMap"));
+
+	private static final RepositoryIndex INSTANCE = new RepositoryIndex();
+
+	private final Map<String, ProjectIndex> projects = new ConcurrentHashMap<String, ProjectIndex>();
+
+	private final IElementChangedListener listener = new IElementChangedListener() {
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+	};
+
+	public static RepositoryIndex getDefault() {
+		return INSTANCE;
+	}
+
+	public void start() {
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public void stop() {
+		JavaCore.removeElementChangedListener(listener);
+		projects.clear();
+	}
+
+	/**
+	 * Returns the domain type managed by the given repository interface.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @return the domain type or {@literal null} if the given type is not a Spring Data repository or its domain type
+	 * can't be resolved.
+	 */
+	public EntityType getDomainType(IType repository) {
+		IJavaProject project = repository.getJavaProject();
+		ProjectIndex index = getProjectIndex(project);
+		String repositoryName = repository.getFullyQualifiedName();
+
+		DomainTypeEntry entry = index.domainTypes.get(repositoryName);
+		if (entry == null) {
+			Set<IPath> sources = new HashSet<IPath>();
+			String domainTypeName = null;
+			try {
+				domainTypeName = findDomainTypeName(project, repository, sources);
+			}
+			catch (JavaModelException e) {
+				DataCorePlugin.log(e);
+			}
+			entry = new DomainTypeEntry(domainTypeName, sources);
+			index.domainTypes.put(repositoryName, entry);
+		}
+		return entry.domainTypeName != null ? getEntityType(project, entry.domainTypeName) : null;
+	}
+
+	/**
+	 * Returns the indexed information of the type with the given name.
+	 *
+	 * @return the type or {@literal null} if there is no such type on the classpath of the project.
+	 */
+	public EntityType getEntityType(IJavaProject project, String fullyQualifiedName) {
+		if (fullyQualifiedName == null || OBJECT.equals(fullyQualifiedName)) {
+			return null;
+		}
+		ProjectIndex index = getProjectIndex(project);
+		EntityType entityType = index.entityTypes.get(fullyQualifiedName);
+		if (entityType == null) {
+			try {
+				IType type = project.findType(fullyQualifiedName);
+				if (type == null) {
+					return null;
+				}
+				entityType = new EntityType(project, type);
+				index.entityTypes.put(fullyQualifiedName, entityType);
+			}
+			catch (JavaModelException e) {
+				DataCorePlugin.log(e);
+				return null;
+			}
+		}
+		return entityType;
+	}
+
+	private ProjectIndex getProjectIndex(IJavaProject project) {
+		String name = project.getElementName();
+		ProjectIndex index = projects.get(name);
+		if (index == null) {
+			index = new ProjectIndex();
+			projects.put(name, index);
+		}
+		return index;
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			processChildren(delta);
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_OPENED)) != 0) {
+				projects.remove(element.getElementName());
+			}
+			else {
+				processChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+							| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+				projects.remove(element.getJavaProject().getElementName());
+			}
+			else {
+				processChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			processChildren(delta);
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED) {
+				// an added or removed type may change how names resolve anywhere in the project
+				projects.remove(element.getJavaProject().getElementName());
+			}
+			// types are also indexed by the projects depending on the one the unit belongs to
+			for (ProjectIndex index : projects.values()) {
+				index.invalidate(element.getPath());
+			}
+			break;
+		default:
+			projects.remove(element.getJavaProject().getElementName());
+			break;
+		}
+	}
+
+	private void processChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private static String findDomainTypeName(IJavaProject project, IType repository, Set<IPath> sources)
+			throws JavaModelException {
+		for (IAnnotation annotation : repository.getAnnotations()) {
+			if (REPOSITORY_DEFINITION.equals(annotation.getElementName())
+					|| "RepositoryDefinition".equals(annotation.getElementName())) {
+				addSource(sources, repository);
+				for (IMemberValuePair pair : annotation.getMemberValuePairs()) {
+					if ("domainClass".equals(pair.getMemberName()) && pair.getValueKind() == IMemberValuePair.K_CLASS
+							&& pair.getValue() instanceof String) {
+						return resolveTypeName(repository,
+								Signature.createTypeSignature((String) pair.getValue(), repository.isBinary()));
+					}
+				}
+			}
+		}
+		return findRepositoryTypeArgument(project, repository, Collections.<String, String> emptyMap(),
+				new HashSet<String>(), sources);
+	}
+
+	/**
+	 * Walks the super interfaces of the given type up to {@code Repository}, substituting type arguments for type
+	 * variables on the way, and returns the first type argument of {@code Repository}.
+	 */
+	private static String findRepositoryTypeArgument(IJavaProject project, IType type, Map<String, String> bindings,
+			Set<String> visited, Set<IPath> sources) throws JavaModelException {
+		if (!visited.add(type.getFullyQualifiedName())) {
+			return null;
+		}
+		addSource(sources, type);
+
+		for (String signature : type.getSuperInterfaceTypeSignatures()) {
+			String erasure = resolveTypeName(type, signature);
+			String[] arguments = getTypeArguments(signature);
+			String[] resolvedArguments = new String[arguments.length];
+			for (int i = 0; i < arguments.length; i++) {
+				resolvedArguments[i] = resolveTypeArgument(type, arguments[i], bindings);
+			}
+
+			if (REPOSITORY.equals(erasure)) {
+				return resolvedArguments.length > 0 ? resolvedArguments[0] : null;
+			}
+
+			IType superInterface = project.findType(erasure);
+			if (superInterface != null) {
+				Map<String, String> superBindings = new HashMap<String, String>();
+				ITypeParameter[] parameters = superInterface.getTypeParameters();
+				for (int i = 0; i < parameters.length && i < resolvedArguments.length; i++) {
+					superBindings.put(parameters[i].getElementName(), resolvedArguments[i]);
+				}
+				String result = findRepositoryTypeArgument(project, superInterface, superBindings, visited, sources);
+				if (result != null) {
+					return result;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String resolveTypeArgument(IType type, String argument, Map<String, String> bindings)
+			throws JavaModelException {
+		String signature = stripWildcard(argument);
+		if (signature == null) {
+			return null;
+		}
+		String erasure = Signature.getTypeErasure(signature);
+		if (Signature.getTypeSignatureKind(erasure) == Signature.TYPE_VARIABLE_SIGNATURE
+				|| erasure.charAt(0) == Signature.C_UNRESOLVED) {
+			String name = Signature.toString(erasure);
+			if (bindings.containsKey(name)) {
+				return bindings.get(name);
+			}
+			if (isTypeParameter(type, name)) {
+				return null;
+			}
+		}
+		return resolveTypeName(type, signature);
+	}
+
+	/**
+	 * Resolves the given (possibly unresolved source) type signature in the context of the given type and returns the
+	 * fully qualified name of its erasure. Primitive types are returned as their keyword, type variables as
+	 * {@code java.lang.Object}.
+	 */
+	static String resolveTypeName(IType context, String signature) throws JavaModelException {
+		String stripped = stripWildcard(signature);
+		if (stripped == null) {
+			return OBJECT;
+		}
+		String erasure = Signature.getTypeErasure(stripped);
+		switch (Signature.getTypeSignatureKind(erasure)) {
+		case Signature.BASE_TYPE_SIGNATURE:
+			return Signature.toString(erasure);
+		case Signature.ARRAY_TYPE_SIGNATURE:
+			return resolveTypeName(context, Signature.getElementType(erasure)) + "[]";
+		case Signature.TYPE_VARIABLE_SIGNATURE:
+			return OBJECT;
+		default:
+			break;
+		}
+
+		String name = Signature.toString(erasure);
+		if (erasure.charAt(0) == Signature.C_RESOLVED) {
+			return name.replace('$', '.');
+		}
+		if (isTypeParameter(context, name)) {
+			return OBJECT;
+		}
+		String[][] resolved = context.resolveType(name);
+		if (resolved != null && resolved.length > 0) {
+			return resolved[0][0].length() == 0 ? resolved[0][1] : resolved[0][0] + "." + resolved[0][1];
+		}
+		return name;
+	}
+
+	/**
+	 * Returns the type the given property type signature refers to for the purpose of property paths, i.e. the element
+	 * type of arrays and collections and the value type of maps.
+	 */
+	static String resolveActualTypeName(IType context, String signature) throws JavaModelException {
+		String stripped = stripWildcard(signature);
+		if (stripped == null) {
+			return OBJECT;
+		}
+		if (Signature.getTypeSignatureKind(stripped) == Signature.ARRAY_TYPE_SIGNATURE) {
+			return resolveTypeName(context, Signature.getElementType(stripped));
+		}
+		String erasure = resolveTypeName(context, stripped);
+		String[] arguments = getTypeArguments(stripped);
+		if (COLLECTION_TYPES.contains(erasure) && arguments.length == 1) {
+			return resolveTypeName(context, arguments[0]);
+		}
+		if (MAP_TYPES.contains(erasure) && arguments.length == 2) {
+			return resolveTypeName(context, arguments[1]);
+		}
+		return erasure;
+	}
+
+	private static String[] getTypeArguments(String signature) {
+		int kind = Signature.getTypeSignatureKind(signature);
+		if (kind != Signature.CLASS_TYPE_SIGNATURE) {
+			return new String[0];
+		}
+		try {
+			return Signature.getTypeArguments(signature);
+		}
+		catch (IllegalArgumentException e) {
+			return new String[0];
+		}
+	}
+
+	private static String stripWildcard(String signature) {
+		if (signature.length() == 0 || signature.charAt(0) == Signature.C_STAR) {
+			return null;
+		}
+		if (signature.charAt(0) == Signature.C_EXTENDS || signature.charAt(0) == Signature.C_SUPER) {
+			return signature.substring(1);
+		}
+		return signature;
+	}
+
+	private static boolean isTypeParameter(IType type, String name) throws JavaModelException {
+		for (ITypeParameter parameter : type.getTypeParameters()) {
+			if (parameter.getElementName().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addSource(Set<IPath> sources, IType type) {
+		ICompilationUnit cu = type.getCompilationUnit();
+		if (cu != null) {
+			sources.add(cu.getPath());
+		}
+	}
+
+	/**
+	 * The indexed information of a single type: its properties as resolved by Spring Data property paths and the
+	 * properties exposed through public getters.
+	 */
+	public static class EntityType {
+
+		private final IJavaProject project;
+
+		private final IType type;
+
+		private final Map<String, EntityProperty> properties = new LinkedHashMap<String, EntityProperty>();
+
+		private final Map<String, EntityProperty> getterProperties = new LinkedHashMap<String, EntityProperty>();
+
+		private final Set<IPath> sources = new HashSet<IPath>();
+
+		EntityType(IJavaProject project, IType type) throws JavaModelException {
+			this.project = project;
+			this.type = type;
+
+			Set<String> visited = new HashSet<String>();
+			Deque<IType> queue = new ArrayDeque<IType>();
+			queue.add(type);
+			while (!queue.isEmpty()) {
+				IType current = queue.poll();
+				if (OBJECT.equals(current.getFullyQualifiedName()) || !visited.add(current.getFullyQualifiedName())) {
+					continue;
+				}
+				addSource(sources, current);
+				indexMembers(current);
+
+				String superclass = current.getSuperclassTypeSignature();
+				if (superclass != null) {
+					addType(queue, resolveTypeName(current, superclass));
+				}
+				for (String superInterface : current.getSuperInterfaceTypeSignatures()) {
+					addType(queue, resolveTypeName(current, superInterface));
+				}
+			}
+		}
+
+		private void addType(Deque<IType> queue, String name) throws JavaModelException {
+			if (!OBJECT.equals(name)) {
+				IType superType = project.findType(name);
+				if (superType != null) {
+					queue.add(superType);
+				}
+			}
+		}
+
+		private void indexMembers(IType current) throws JavaModelException {
+			boolean isInterface = current.isInterface();
+			if (!isInterface) {
+				for (IField field : current.getFields()) {
+					if (!Flags.isStatic(field.getFlags()) && !properties.containsKey(field.getElementName())) {
+						properties.put(field.getElementName(), new EntityProperty(field.getElementName(),
+								resolveTypeName(current, field.getTypeSignature()),
+								resolveActualTypeName(current, field.getTypeSignature())));
+					}
+				}
+			}
+			for (IMethod method : current.getMethods()) {
+				String name = method.getElementName();
+				int flags = method.getFlags();
+				if (name.length() > 3 && name.startsWith("get") && method.getNumberOfParameters() == 0
+						&& !Flags.isStatic(flags) && (isInterface || Flags.isPublic(flags))
+						&& !Signature.SIG_VOID.equals(method.getReturnType())) {
+					String propertyName = name.substring(3);
+					if (!getterProperties.containsKey(propertyName)) {
+						EntityProperty property = new EntityProperty(propertyName,
+								resolveTypeName(current, method.getReturnType()),
+								resolveActualTypeName(current, method.getReturnType()));
+						getterProperties.put(propertyName, property);
+						String uncapitalized = StringUtils.uncapitalize(propertyName);
+						if (!properties.containsKey(uncapitalized)) {
+							properties.put(uncapitalized, new EntityProperty(uncapitalized, property.getTypeName(),
+									property.getActualTypeName()));
+						}
+					}
+				}
+			}
+		}
+
+		public IType getType() {
+			return type;
+		}
+
+		public String getFullyQualifiedName() {
+			return type.getFullyQualifiedName('.');
+		}
+
+		/**
+		 * Returns the property with the given name, declared as a field or a getter on this type or any of its super
+		 * types.
+		 */
+		public EntityProperty getProperty(String name) {
+			return properties.get(name);
+		}
+
+		/**
+		 * Returns the properties exposed through public getters, keyed by the capitalized property name.
+		 */
+		public Collection<EntityProperty> getGetterProperties() {
+			return getterProperties.values();
+		}
+
+		/**
+		 * Returns the type property paths continue with after the given property.
+		 */
+		public EntityType getPropertyType(EntityProperty property) {
+			return INSTANCE.getEntityType(project, property.getActualTypeName());
+		}
+
+	}
+
+	/**
+	 * A property of an {@link EntityType}.
+	 */
+	public static class EntityProperty {
+
+		private final String name;
+
+		private final String typeName;
+
+		private final String actualTypeName;
+
+		EntityProperty(String name, String typeName, String actualTypeName) {
+			this.name = name;
+			this.typeName = typeName;
+			this.actualTypeName = actualTypeName;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the fully qualified name of the erasure of the declared type of the property.
+		 */
+		public String getTypeName() {
+			return typeName;
+		}
+
+		/**
+		 * Returns the fully qualified name of the element type for arrays and collections, the value type for maps
+		 * and the declared type otherwise.
+		 */
+		public String getActualTypeName() {
+			return actualTypeName;
+		}
+
+	}
+
+	private static class DomainTypeEntry {
+
+		private final String domainTypeName;
+
+		private final Set<IPath> sources;
+
+		DomainTypeEntry(String domainTypeName, Set<IPath> sources) {
+			this.domainTypeName = domainTypeName;
+			this.sources = sources;
+		}
+
+	}
+
+	private static class ProjectIndex {
+
+		private final Map<String, DomainTypeEntry> domainTypes = new ConcurrentHashMap<String, DomainTypeEntry>();
+
+		private final Map<String, EntityType> entityTypes = new ConcurrentHashMap<String, EntityType>();
+
+		void invalidate(IPath source) {
+			for (Map.Entry<String, DomainTypeEntry> entry : domainTypes.entrySet()) {
+				if (entry.getValue().sources.contains(source)) {
+					domainTypes.remove(entry.getKey());
+				}
+			}
+			for (Map.Entry<String, EntityType> entry : entityTypes.entrySet()) {
+				if (entry.getValue().sources.contains(source)) {
+					entityTypes.remove(entry.getKey());
+				}
+			}
+		}
+
+	}
+
+}
@@ -207,9 +207,21 @@ public class RepositoryInformation {
 	 * @return
 	 */
 	public KeywordProvider getKeywordProvider(IJavaProject project) {
+		return getKeywordProvider(project, repositoryInterface.getName());
+	}
+
+	/**
+	 * Returns the {@link KeywordProvider} to be used for the repository interface with the given name. Does not require
+	 * the repository interface to be loaded.
+	 * 
+	 * @param project
+	 * @param repositoryInterfaceName
+	 * @return
+	 */
+	public static KeywordProvider getKeywordProvider(IJavaProject project, String repositoryInterfaceName) {
 
 		TypePredicates predicates = new DefaultTypePredicates(project);
-		IBean repositoryBean = SpringDataUtils.getRepositoryBean(project.getProject(), repositoryInterface.getName());
+		IBean repositoryBean = SpringDataUtils.getRepositoryBean(project.getProject(), repositoryInterfaceName);
 		Module module = Module.getModuleOf(repositoryBean);
 
 		switch (module) {
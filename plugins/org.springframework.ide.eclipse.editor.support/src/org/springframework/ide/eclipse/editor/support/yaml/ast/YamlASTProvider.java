@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -78,7 +78,8 @@ public class YamlASTProvider {
 				cachedFor.removeDocumentListener(listener);
 			}
 			doc.addDocumentListener(listener);
-			cached = new YamlFileAST(doc, yaml.composeAll(new StringReader(doc.get())));
+			String text = doc.get();
+			cached = new YamlFileAST(doc, text, yaml.composeAll(new StringReader(text)));
 			cachedFor = doc;
 		}
 		return cached;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,17 +36,35 @@ import org.yaml.snakeyaml.nodes.SequenceNode;
 public class YamlFileAST {
 
 	private final IDocument doc;
+	private final String text;
 	private static final List<NodeRef<?>> NO_CHILDREN = Collections.emptyList();
 	private List<Node> nodes;
 
 	public YamlFileAST(IDocument doc, Iterable<Node> iter) {
+		this(doc, null, iter);
+	}
+
+	/**
+	 * @param text The text the nodes were parsed from.
+	 */
+	public YamlFileAST(IDocument doc, String text, Iterable<Node> iter) {
 		this.doc = doc;
+		this.text = text;
 		nodes = new ArrayList<>();
 		for (Node node : iter) {
 			nodes.add(node);
 		}
 	}
 
+	/**
+	 * @return The text the nodes of this AST were parsed from, or null if not known. Unlike the
+	 *         contents of the document, it doesn't change when the document is edited after
+	 *         parsing, so the start and end marks of the nodes always index into it.
+	 */
+	public String getText() {
+		return text;
+	}
+
 	public List<NodeRef<?>> findPath(int offset) {
 		Collector<NodeRef<?>> path = new Collector<>();
 		findPath(offset, path);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.springframework.ide.eclipse.editor.support.reconcile.IProblemCollecto
 import org.springframework.ide.eclipse.editor.support.reconcile.ProblemType;
 import org.springframework.ide.eclipse.editor.support.reconcile.ProblemTypeProvider;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileException;
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblemImpl;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReplacementQuickfix;
 import org.springframework.ide.eclipse.editor.support.util.DocumentRegion;
@@ -48,11 +49,23 @@ import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 
+import com.google.common.collect.ImmutableList;
+
 public class SchemaBasedYamlASTReconciler implements YamlASTReconciler {
 
 	private final IProblemCollector problems;
 	private final YamlSchema schema;
 	private final YTypeUtil typeUtil;
+	private final YamlSubtreeProblemCache cache;
+
+	/**
+	 * Problems found in the subtrees that are being checked, to be stored in the cache.
+	 */
+	private final List<Recording> recordings = new ArrayList<>();
+	/**
+	 * The text the reconciled AST was parsed from, or null if the cache isn't used.
+	 */
+	private String documentText;
 
 	private List<Runnable> delayedConstraints = new ArrayList<>();
 	// keeps track of dynamic constraints discovered during reconciler walk
@@ -60,10 +73,50 @@ public class SchemaBasedYamlASTReconciler implements YamlASTReconciler {
 	// This facilitates constraints that depend on, for example, the contents of the ast type cache being
 	// populated prior to checking.
 
+	private static class Recording {
+		final int start;
+		final int end;
+		final int constraints;
+		final ImmutableList.Builder<ReconcileProblem> problems = ImmutableList.builder();
+		boolean cacheable = true;
+
+		Recording(int start, int end, int constraints) {
+			this.start = start;
+			this.end = end;
+			this.constraints = constraints;
+		}
+	}
+
 	public SchemaBasedYamlASTReconciler(IProblemCollector problems, YamlSchema schema) {
-		this.problems = new DuplicateFilterProblemCollector(problems);
+		this(problems, schema, null);
+	}
+
+	/**
+	 * @param cache Problems of the subtrees checked by a previous reconcile, or null. Subtrees
+	 *            whose problems are in the cache are not checked again, except for the
+	 *            constraints attached to their type. The cache is only used for ASTs that
+	 *            know the text they were parsed from (see {@link YamlFileAST#getText()}).
+	 */
+	public SchemaBasedYamlASTReconciler(IProblemCollector problems, YamlSchema schema, YamlSubtreeProblemCache cache) {
+		DuplicateFilterProblemCollector filtered = new DuplicateFilterProblemCollector(problems);
+		this.problems = new IProblemCollector() {
+			@Override
+			public void beginCollecting() {
+				filtered.beginCollecting();
+			}
+			@Override
+			public void endCollecting() {
+				filtered.endCollecting();
+			}
+			@Override
+			public void accept(ReconcileProblem problem) {
+				record(problem);
+				filtered.accept(problem);
+			}
+		};
 		this.schema = schema;
 		this.typeUtil = schema.getTypeUtil();
+		this.cache = cache;
 	}
 
 	@Override
@@ -71,6 +124,10 @@ public class SchemaBasedYamlASTReconciler implements YamlASTReconciler {
 		List<Node> nodes = ast.getNodes();
 		if (nodes!=null && !nodes.isEmpty()) {
 			mon.beginTask("Reconcile", nodes.size());
+			documentText = cache!=null ? ast.getText() : null;
+			if (documentText!=null) {
+				cache.beginReconcile();
+			}
 			try {
 				if (nodes!=null && !nodes.isEmpty()) {
 					for (int i = 0; i < nodes.size(); i++) {
@@ -81,6 +138,10 @@ public class SchemaBasedYamlASTReconciler implements YamlASTReconciler {
 				}
 			} finally {
 				verifyDelayedConstraints();
+				if (documentText!=null) {
+					cache.endReconcile();
+					documentText = null;
+				}
 				mon.done();
 			}
 		}
@@ -94,77 +155,139 @@ public class SchemaBasedYamlASTReconciler implements YamlASTReconciler {
 //				typeCollector.accept(node, type);
 //			}
 			checkConstraints(parent, node, type, schemaContext);
-			switch (node.getNodeId()) {
-			case mapping:
-				MappingNode map = (MappingNode) node;
-				if (typeUtil.isMap(type)) {
-					for (NodeTuple entry : map.getValue()) {
-						String key = NodeUtil.asScalar(entry.getKeyNode());
-						reconcile(ast, keyAt(path, key), map, entry.getKeyNode(), typeUtil.getKeyType(type));
-						reconcile(ast, valueAt(path, key), map, entry.getValueNode(), typeUtil.getDomainType(type));
-					}
-				} else if (typeUtil.isBean(type)) {
-					Map<String, YTypedProperty> beanProperties = typeUtil.getPropertiesMap(type);
-					for (NodeTuple entry : map.getValue()) {
-						Node keyNode = entry.getKeyNode();
-						String key = NodeUtil.asScalar(keyNode);
-						if (key==null) {
-							expectScalar(node);
+			checkWithinRecordings(node.getStartMark().getIndex(), node.getEndMark().getIndex());
+			if (documentText!=null && (node instanceof MappingNode || node instanceof SequenceNode)) {
+				reconcileCached(ast, path, node, type);
+			} else {
+				checkStructure(ast, path, node, type);
+			}
+		}
+	}
+
+	/**
+	 * Reuses the problems of the subtree if it is unchanged since a previous reconcile, or
+	 * checks it and remembers its problems otherwise. A subtree is only remembered when all
+	 * its problems are within its text, and when none of its descendants has constraints
+	 * (as those are verified against the whole document, they have to be verified each time).
+	 */
+	private void reconcileCached(YamlFileAST ast, YamlPath path, Node node, YType type) {
+		int start = node.getStartMark().getIndex();
+		int end = node.getEndMark().getIndex();
+		String text = documentText.substring(start, end);
+		ImmutableList<ReconcileProblem> cached = cache.get(type, text);
+		if (cached!=null) {
+			for (ReconcileProblem p : cached) {
+				problems.accept(new ReconcileProblemImpl(p.getType(), p.getMessage(), start + p.getOffset(), p.getLength()));
+			}
+		} else {
+			Recording recording = new Recording(start, end, delayedConstraints.size());
+			recordings.add(recording);
+			try {
+				checkStructure(ast, path, node, type);
+			} finally {
+				recordings.remove(recordings.size()-1);
+			}
+			if (recording.cacheable && recording.constraints==delayedConstraints.size()) {
+				cache.put(type, text, recording.problems.build());
+			}
+		}
+	}
+
+	/**
+	 * A node outside the text of a subtree (e.g. reached via an alias) makes the subtree's
+	 * problems depend on more than its text.
+	 */
+	private void checkWithinRecordings(int start, int end) {
+		for (Recording r : recordings) {
+			if (start < r.start || end > r.end) {
+				r.cacheable = false;
+			}
+		}
+	}
+
+	private void record(ReconcileProblem problem) {
+		for (Recording r : recordings) {
+			int start = problem.getOffset();
+			int end = start + problem.getLength();
+			if (problem.getClass()!=ReconcileProblemImpl.class || start < r.start || end > r.end) {
+				r.cacheable = false;
+			} else if (r.cacheable) {
+				r.problems.add(new ReconcileProblemImpl(problem.getType(), problem.getMessage(), start - r.start, problem.getLength()));
+			}
+		}
+	}
+
+	private void checkStructure(YamlFileAST ast, YamlPath path, Node node, YType type) {
+		switch (node.getNodeId()) {
+		case mapping:
+			MappingNode map = (MappingNode) node;
+			if (typeUtil.isMap(type)) {
+				for (NodeTuple entry : map.getValue()) {
+					String key = NodeUtil.asScalar(entry.getKeyNode());
+					reconcile(ast, keyAt(path, key), map, entry.getKeyNode(), typeUtil.getKeyType(type));
+					reconcile(ast, valueAt(path, key), map, entry.getValueNode(), typeUtil.getDomainType(type));
+				}
+			} else if (typeUtil.isBean(type)) {
+				Map<String, YTypedProperty> beanProperties = typeUtil.getPropertiesMap(type);
+				for (NodeTuple entry : map.getValue()) {
+					Node keyNode = entry.getKeyNode();
+					String key = NodeUtil.asScalar(keyNode);
+					if (key==null) {
+						expectScalar(node);
+					} else {
+						YTypedProperty prop = beanProperties.get(key);
+						if (prop==null) {
+							unknownBeanProperty(keyNode, type, key);
 						} else {
-							YTypedProperty prop = beanProperties.get(key);
-							if (prop==null) {
-								unknownBeanProperty(keyNode, type, key);
-							} else {
-								if (prop.isDeprecated()) {
-									String msg = prop.getDeprecationMessage();
-									if (StringUtil.hasText(msg)) {
-										problems.accept(YamlSchemaProblems.deprecatedProperty(msg, keyNode));
-									} else {
-										problems.accept(YamlSchemaProblems.deprecatedProperty(keyNode, type, prop));
-									}
+							if (prop.isDeprecated()) {
+								String msg = prop.getDeprecationMessage();
+								if (StringUtil.hasText(msg)) {
+									problems.accept(YamlSchemaProblems.deprecatedProperty(msg, keyNode));
+								} else {
+									problems.accept(YamlSchemaProblems.deprecatedProperty(keyNode, type, prop));
 								}
-								reconcile(ast, valueAt(path, key), map, entry.getValueNode(), prop.getType());
 							}
+							reconcile(ast, valueAt(path, key), map, entry.getValueNode(), prop.getType());
 						}
 					}
-				} else {
-					expectTypeButFoundMap(type, node);
 				}
-				break;
-			case sequence:
-				SequenceNode seq = (SequenceNode) node;
-				if (typeUtil.isSequencable(type)) {
-					for (int i = 0; i < seq.getValue().size(); i++) {
-						Node el = seq.getValue().get(i);
-						reconcile(ast, valueAt(path, i), seq, el, typeUtil.getDomainType(type));
-					}
-				} else {
-					expectTypeButFoundSequence(type, node);
+			} else {
+				expectTypeButFoundMap(type, node);
+			}
+			break;
+		case sequence:
+			SequenceNode seq = (SequenceNode) node;
+			if (typeUtil.isSequencable(type)) {
+				for (int i = 0; i < seq.getValue().size(); i++) {
+					Node el = seq.getValue().get(i);
+					reconcile(ast, valueAt(path, i), seq, el, typeUtil.getDomainType(type));
 				}
-				break;
-			case scalar:
-				if (typeUtil.isAtomic(type)) {
-					ValueParser parser = typeUtil.getValueParser(type);
-					if (parser!=null) {
-						try {
-							String value = NodeUtil.asScalar(node);
-							if (value!=null) {
-								parser.parse(value);
-							}
-						} catch (Exception e) {
-							ProblemType problemType = getProblemType(e);
-							DocumentRegion region = getRegion(e, ast.getDocument(), node);
-							String msg = getMessage(e);
-							valueParseError(type, region, msg, problemType, getValueReplacement(e));
+			} else {
+				expectTypeButFoundSequence(type, node);
+			}
+			break;
+		case scalar:
+			if (typeUtil.isAtomic(type)) {
+				ValueParser parser = typeUtil.getValueParser(type);
+				if (parser!=null) {
+					try {
+						String value = NodeUtil.asScalar(node);
+						if (value!=null) {
+							parser.parse(value);
 						}
+					} catch (Exception e) {
+						ProblemType problemType = getProblemType(e);
+						DocumentRegion region = getRegion(e, ast.getDocument(), node);
+						String msg = getMessage(e);
+						valueParseError(type, region, msg, problemType, getValueReplacement(e));
 					}
-				} else {
-					expectTypeButFoundScalar(type, node);
 				}
-				break;
-			default:
-				// other stuff we don't check
+			} else {
+				expectTypeButFoundScalar(type, node);
 			}
+			break;
+		default:
+			// other stuff we don't check
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Pivotal, Inc.
+ * Copyright (c) 2016, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ import org.springframework.ide.eclipse.editor.support.yaml.schema.YamlSchema;
  */
 public final class YamlSchemaBasedReconcileEngine extends YamlReconcileEngine {
 	private final YamlSchema schema;
+	private final YamlSubtreeProblemCache cache = new YamlSubtreeProblemCache();
 
 	public YamlSchemaBasedReconcileEngine(YamlASTProvider parser, YamlSchema schema) {
 		super(parser);
@@ -40,6 +41,6 @@ public final class YamlSchemaBasedReconcileEngine extends YamlReconcileEngine {
 
 	@Override
 	protected YamlASTReconciler getASTReconciler(IDocument doc, IProblemCollector problems) {
-		return new SchemaBasedYamlASTReconciler(problems, schema);
+		return new SchemaBasedYamlASTReconciler(problems, schema, cache);
 	}
 }
\ No newline at end of file
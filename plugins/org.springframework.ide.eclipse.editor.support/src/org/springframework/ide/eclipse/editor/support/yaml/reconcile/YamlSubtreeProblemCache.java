@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.editor.support.yaml.reconcile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
+import org.springframework.ide.eclipse.editor.support.yaml.schema.YType;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Remembers the schema problems {@link SchemaBasedYamlASTReconciler} found in the subtrees
+ * of a yaml document, so that subtrees which didn't change since the previous reconcile
+ * don't have to be checked against the schema again.
+ * <p>
+ * A subtree is identified by the type it was checked against and by its text. The offsets
+ * of its problems are kept relative to the start of the subtree, so they remain valid when
+ * text before the subtree is edited. Only the entries used by the last reconcile are kept.
+ *
+ * @since 3.9.12
+ */
+public class YamlSubtreeProblemCache {
+
+	private static final class Key {
+		private final YType type;
+		private final String text;
+
+		Key(YType type, String text) {
+			this.type = type;
+			this.text = text;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(type) + text.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return type == other.type && text.equals(other.text);
+		}
+	}
+
+	/**
+	 * Entries used by the previous reconcile.
+	 */
+	private Map<Key, ImmutableList<ReconcileProblem>> previous = new HashMap<>();
+
+	/**
+	 * Entries used by the ongoing reconcile.
+	 */
+	private Map<Key, ImmutableList<ReconcileProblem>> current = new HashMap<>();
+
+	synchronized void beginReconcile() {
+		current = new HashMap<>();
+	}
+
+	synchronized void endReconcile() {
+		previous = current;
+		current = new HashMap<>();
+	}
+
+	/**
+	 * @return The problems of a subtree with the given type and text, relative to the start
+	 *         of the subtree, or null if not known.
+	 */
+	synchronized ImmutableList<ReconcileProblem> get(YType type, String text) {
+		Key key = new Key(type, text);
+		ImmutableList<ReconcileProblem> problems = current.get(key);
+		if (problems == null) {
+			problems = previous.get(key);
+			if (problems != null) {
+				current.put(key, problems);
+			}
+		}
+		return problems;
+	}
+
+	synchronized void put(YType type, String text, ImmutableList<ReconcileProblem> problems) {
+		current.put(new Key(type, text), problems);
+	}
+
+}
@@ -57,6 +57,7 @@ public class Activator extends AbstractUIPlugin {
 	 */
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		BeansEditorValidationContexts.getInstance().dispose();
 		plugin = null;
 		super.stop(context);
 	}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Pivotal, Inc.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *      Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.quickfix;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansValidationContext;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
+import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
+import org.springframework.ide.eclipse.beans.core.model.IBeansModel;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
+import org.springframework.ide.eclipse.core.model.IResourceModelElement;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+
+/**
+ * Caches the information the {@link BeansEditorValidator} needs on every
+ * keystroke: the config sets and importing configs a config belongs to, and
+ * fully initialized {@link BeansValidationContext}s whose registries can be
+ * shared by the short-lived contexts used to validate single attributes.
+ * <p>
+ * Both caches are cleared whenever the beans model changes, as the
+ * registries are built from the model and not from the editor contents. The
+ * warm contexts are also cleared whenever a Java element or classpath changes,
+ * as their class readers and classloaders would otherwise keep answering with
+ * the classes of the previous build. At most {@link #MAX_WARM_CONTEXTS} warm
+ * contexts are kept, evicting the least recently used one.
+ * @since 3.9.12
+ */
+public class BeansEditorValidationContexts {
+
+	public static final int MAX_WARM_CONTEXTS = 16;
+
+	private static final BeansEditorValidationContexts INSTANCE = new BeansEditorValidationContexts();
+
+	private final Map<IBeansConfig, Set<IResourceModelElement>> contextElements = new ConcurrentHashMap<IBeansConfig, Set<IResourceModelElement>>();
+
+	private final Map<ContextKey, BeansValidationContext> warmContexts = new LinkedHashMap<ContextKey, BeansValidationContext>(
+			16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ContextKey, BeansValidationContext> eldest) {
+			return size() > MAX_WARM_CONTEXTS;
+		}
+	};
+
+	private final IModelChangeListener modelChangeListener = new IModelChangeListener() {
+		public void elementChanged(ModelChangeEvent event) {
+			clear();
+		}
+	};
+
+	private final IElementChangedListener javaChangeListener = new IElementChangedListener() {
+		public void elementChanged(ElementChangedEvent event) {
+			clearWarmContexts();
+		}
+	};
+
+	private boolean listening = false;
+
+	public static BeansEditorValidationContexts getInstance() {
+		return INSTANCE;
+	}
+
+	private synchronized void ensureListening() {
+		if (!listening) {
+			BeansCorePlugin.getModel().addChangeListener(modelChangeListener);
+			JavaCore.addElementChangedListener(javaChangeListener, ElementChangedEvent.POST_CHANGE);
+			listening = true;
+		}
+	}
+
+	public void clear() {
+		contextElements.clear();
+		clearWarmContexts();
+	}
+
+	private void clearWarmContexts() {
+		synchronized (warmContexts) {
+			warmContexts.clear();
+		}
+	}
+
+	public synchronized void dispose() {
+		if (listening) {
+			BeansCorePlugin.getModel().removeChangeListener(modelChangeListener);
+			JavaCore.removeElementChangedListener(javaChangeListener);
+			listening = false;
+		}
+		clear();
+	}
+
+	/**
+	 * Returns the config sets the given config belongs to and the configs
+	 * importing it, or the config itself if there are none.
+	 */
+	public Set<IResourceModelElement> getContextElements(IBeansConfig config) {
+		ensureListening();
+		Set<IResourceModelElement> elements = contextElements.get(config);
+		if (elements == null) {
+			elements = new LinkedHashSet<IResourceModelElement>();
+			BeansCorePlugin.getModel().accept(new ContextElementVisitor(config.getElementResource(), elements),
+					new NullProgressMonitor());
+			if (elements.isEmpty()) {
+				elements.add(config);
+			}
+			elements = Collections.unmodifiableSet(elements);
+			contextElements.put(config, elements);
+		}
+		return elements;
+	}
+
+	/**
+	 * Returns an initialized validation context for the given config and
+	 * context element, creating it on first access.
+	 */
+	public BeansValidationContext getWarmContext(IBeansConfig config, IResourceModelElement contextElement) {
+		ensureListening();
+		ContextKey key = new ContextKey(config, contextElement);
+		synchronized (warmContexts) {
+			BeansValidationContext context = warmContexts.get(key);
+			if (context == null) {
+				context = new BeansValidationContext(config, contextElement);
+				warmContexts.put(key, context);
+			}
+			return context;
+		}
+	}
+
+	private static class ContextKey {
+
+		private final IBeansConfig config;
+
+		private final IResourceModelElement contextElement;
+
+		ContextKey(IBeansConfig config, IResourceModelElement contextElement) {
+			this.config = config;
+			this.contextElement = contextElement;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ContextKey)) {
+				return false;
+			}
+			ContextKey other = (ContextKey) obj;
+			return config.equals(other.config)
+					&& (contextElement == null ? other.contextElement == null : contextElement
+							.equals(other.contextElement));
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * config.hashCode() + (contextElement != null ? contextElement.hashCode() : 0);
+		}
+
+	}
+
+	private static class ContextElementVisitor implements IModelElementVisitor {
+
+		private final Set<IResourceModelElement> contextElements;
+
+		private final IResource resource;
+
+		private IBeansConfig currentConfig = null;
+
+		public ContextElementVisitor(IResource resource, Set<IResourceModelElement> contextElements) {
+			this.resource = resource;
+			this.contextElements = contextElements;
+		}
+
+		public boolean visit(IModelElement element, IProgressMonitor monitor) {
+			if (element instanceof IBeansModel) {
+				return true;
+			}
+			else if (element instanceof IBeansProject) {
+				return true;
+			}
+			else if (element instanceof IImportedBeansConfig) {
+				if (resource.equals(((IImportedBeansConfig) element).getElementResource())) {
+					contextElements.add(currentConfig);
+				}
+				return true;
+			}
+			else if (element instanceof IBeansConfig) {
+				this.currentConfig = (IBeansConfig) element;
+				return true;
+			}
+			else if (element instanceof IBeansImport) {
+				for (IImportedBeansConfig config : ((IBeansImport) element).getImportedBeansConfigs()) {
+					config.accept(this, monitor);
+				}
+				return false;
+			}
+			else if (element instanceof IBeansConfigSet) {
+				for (IBeansConfig config : ((IBeansConfigSet) element).getConfigs()) {
+					if (resource.equals(config.getElementResource())) {
+						contextElements.add((IBeansConfigSet) element);
+						break;
+					}
+				}
+				return false;
+			}
+			return false;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2015 VMware, Inc.
+ *  Copyright (c) 2012, 2026 VMware, Inc.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -10,8 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.quickfix;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -22,12 +26,14 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DefaultPositionUpdater;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.quickassist.IQuickAssistProcessor;
 import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
@@ -50,17 +56,12 @@ import org.eclipse.wst.xml.core.internal.provisional.document.IDOMText;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.BeansCoreUtils;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
-import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
-import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
 import org.springframework.ide.eclipse.beans.core.model.IBeansModel;
-import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
-import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
-import org.springframework.ide.eclipse.core.model.IModelElement;
-import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
 import org.springframework.ide.eclipse.quickfix.processors.BeanQuickAssistProcessor;
 import org.springframework.ide.eclipse.quickfix.processors.QuickfixProcessorFactory;
+import org.springframework.ide.eclipse.quickfix.validator.BeanValidator;
 import org.springframework.ide.eclipse.quickfix.validator.BeanValidatorVisitor;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -76,53 +77,39 @@ import org.w3c.dom.NodeList;
  */
 public class BeansEditorValidator implements ISourceValidator, IValidator {
 
-	private static class ContextElementVisitor implements IModelElementVisitor {
+	/**
+	 * Time in milliseconds that as-you-type validation may spend on the
+	 * expensive validators (see {@link BeanValidator#isExpensive()}) for a
+	 * dirty region, counted from the end of the cheap checks. Nodes whose
+	 * expensive checks don't fit into the budget keep the messages these
+	 * checks reported before, see {@link #keptMessages}.
+	 */
+	private static final long EXPENSIVE_VALIDATION_BUDGET = Long.getLong(
+			"org.springframework.ide.eclipse.quickfix.validationBudget", 150);
 
-		private final Set<IResourceModelElement> contextElements;
+	private static final String KEPT_MESSAGES_CATEGORY = BeansEditorValidator.class.getName() + ".keptMessages";
 
-		private final IResource resource;
+	/**
+	 * Message reported by an expensive validator, tracked as a document
+	 * position so that it follows later edits.
+	 */
+	private static class KeptMessage extends Position {
 
-		private IBeansConfig currentConfig = null;
+		private final int severity;
 
-		public ContextElementVisitor(IResource resource, Set<IResourceModelElement> contextElements) {
-			this.resource = resource;
-			this.contextElements = contextElements;
+		private final String text;
+
+		KeptMessage(IMessage message) {
+			super(message.getOffset(), message.getLength());
+			this.severity = message.getSeverity();
+			this.text = message.getText();
 		}
 
-		public boolean visit(IModelElement element, IProgressMonitor monitor) {
-			if (element instanceof IBeansModel) {
-				return true;
-			}
-			else if (element instanceof IBeansProject) {
-				return true;
-			}
-			else if (element instanceof IImportedBeansConfig) {
-				if (resource.equals(((IImportedBeansConfig) element).getElementResource())) {
-					contextElements.add(currentConfig);
-				}
-				return true;
-			}
-			else if (element instanceof IBeansConfig) {
-				this.currentConfig = (IBeansConfig) element;
-				return true;
-			}
-			else if (element instanceof IBeansImport) {
-				for (IImportedBeansConfig config : ((IBeansImport) element).getImportedBeansConfigs()) {
-					config.accept(this, monitor);
-				}
-				return false;
-			}
-			else if (element instanceof IBeansConfigSet) {
-				for (IBeansConfig config : ((IBeansConfigSet) element).getConfigs()) {
-					if (resource.equals(config.getElementResource())) {
-						contextElements.add((IBeansConfigSet) element);
-						break;
-					}
-				}
-				return false;
-			}
-			return false;
+		boolean matches(IMessage message) {
+			return getOffset() == message.getOffset() && getLength() == message.getLength()
+					&& text.equals(message.getText());
 		}
+
 	}
 
 	protected class LocalizedMessage extends Message {
@@ -195,6 +182,15 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 
 	private IProject project;
 
+	/**
+	 * Messages reported by the expensive validators, reported again for nodes
+	 * whose expensive checks are skipped or cut short by the budget, so that
+	 * their problems don't disappear until the checks complete again.
+	 */
+	private final List<KeptMessage> keptMessages = new ArrayList<KeptMessage>();
+
+	private IPositionUpdater keptMessagesUpdater = null;
+
 	// add node and all children node to checked nodes
 	private void addCheckedNodes(IDOMNode node, Set<IDOMNode> checkedNodes) {
 		checkedNodes.add(node);
@@ -214,6 +210,11 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 
 	public void connect(IDocument document) {
 		this.document = document;
+		if (keptMessagesUpdater == null) {
+			keptMessagesUpdater = new DefaultPositionUpdater(KEPT_MESSAGES_CATEGORY);
+			document.addPositionCategory(KEPT_MESSAGES_CATEGORY);
+			document.addPositionUpdater(keptMessagesUpdater);
+		}
 		if (model == null) {
 			model = StructuredModelManager.getModelManager().getExistingModelForRead(document);
 		}
@@ -389,20 +390,18 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 			model.releaseFromRead();
 			model = null;
 		}
-		this.document = null;
-	}
-
-	private final Set<IResourceModelElement> getContextElements(IBeansConfig config) {
-		Set<IResourceModelElement> contextElements = new LinkedHashSet<IResourceModelElement>();
-
-		BeansCorePlugin.getModel().accept(new ContextElementVisitor(config.getElementResource(), contextElements),
-				new NullProgressMonitor());
-
-		if (contextElements.isEmpty()) {
-			contextElements.add(config);
+		if (this.document != null && keptMessagesUpdater != null) {
+			this.document.removePositionUpdater(keptMessagesUpdater);
+			try {
+				this.document.removePositionCategory(KEPT_MESSAGES_CATEGORY);
+			}
+			catch (BadPositionCategoryException e) {
+				// already removed
+			}
+			keptMessagesUpdater = null;
 		}
-		return contextElements;
-
+		keptMessages.clear();
+		this.document = null;
 	}
 
 	public IFile getFile() {
@@ -457,38 +456,122 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 				dirtyRegion.getOffset(), dirtyRegion.getLength());
 
 		Set<IDOMNode> checkedNodes = new HashSet<IDOMNode>();
-
-		// long start = System.currentTimeMillis();
+		List<IDOMNode> dirtyNodes = new ArrayList<IDOMNode>();
 
 		for (IStructuredDocumentRegion region : regions) {
 			IDOMNode node = getNodeAt(region.getStartOffset(), region.getLength());
 			if (node != null && !checkedNodes.contains(node)) {
-				validateNode(node, reporter);
+				dirtyNodes.add(node);
 				addCheckedNodes(node, checkedNodes);
 			}
 		}
-		// System.out.println(String.format("%s, reconiling region %s:%s on %s",
-		// (System.currentTimeMillis() - start),
-		// dirtyRegion.getOffset(), dirtyRegion.getLength(),
-		// file.getFullPath().toString()));
+
+		// cheap checks first so that they are never starved by the expensive ones
+		for (IDOMNode node : dirtyNodes) {
+			validateNode(node, reporter, true, false, Long.MAX_VALUE);
+		}
+		long deadline = System.currentTimeMillis() + EXPENSIVE_VALIDATION_BUDGET;
+		for (IDOMNode node : dirtyNodes) {
+			Set<Object> previousMessages = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+			previousMessages.addAll(reporter.getMessages());
+			boolean complete = System.currentTimeMillis() <= deadline
+					&& validateNode(node, reporter, false, true, deadline);
+			List<IMessage> newMessages = new ArrayList<IMessage>();
+			for (Object message : reporter.getMessages()) {
+				if (message instanceof LocalizedMessage && !previousMessages.contains(message)
+						&& ((IMessage) message).getSeverity() != IMessage.ALL_MESSAGES) {
+					newMessages.add((IMessage) message);
+				}
+			}
+			updateKeptMessages(node, newMessages, complete, reporter);
+		}
+	}
+
+	/**
+	 * Remembers the messages the expensive validators reported for the given
+	 * node. If the expensive checks of the node didn't complete, the messages
+	 * remembered from earlier checks are reported again instead of being
+	 * forgotten.
+	 */
+	private void updateKeptMessages(IDOMNode node, List<IMessage> newMessages, boolean complete, IReporter reporter) {
+		int start = node.getStartOffset();
+		int end = node.getEndOffset();
+		Iterator<KeptMessage> iter = keptMessages.iterator();
+		while (iter.hasNext()) {
+			KeptMessage kept = iter.next();
+			if (kept.isDeleted() || (complete && kept.getOffset() >= start && kept.getOffset() < end)) {
+				iter.remove();
+				removeKeptPosition(kept);
+			}
+			else if (!complete && kept.getOffset() >= start && kept.getOffset() < end) {
+				boolean reported = false;
+				for (Iterator<IMessage> newIter = newMessages.iterator(); newIter.hasNext() && !reported;) {
+					if (kept.matches(newIter.next())) {
+						newIter.remove();
+						reported = true;
+					}
+				}
+				if (!reported) {
+					IMessage message = new LocalizedMessage(kept.severity, kept.text);
+					message.setOffset(kept.getOffset());
+					message.setLength(kept.getLength());
+					try {
+						message.setLineNo(document.getLineOfOffset(kept.getOffset()) + 1);
+					}
+					catch (BadLocationException e) {
+						message.setLineNo(-1);
+					}
+					reporter.addMessage(this, message);
+				}
+			}
+		}
+		for (IMessage message : newMessages) {
+			KeptMessage kept = new KeptMessage(message);
+			try {
+				document.addPosition(KEPT_MESSAGES_CATEGORY, kept);
+				keptMessages.add(kept);
+			}
+			catch (BadLocationException e) {
+				// message outside of the document, nothing to keep
+			}
+			catch (BadPositionCategoryException e) {
+				// not connected, nothing to keep
+			}
+		}
+	}
+
+	private void removeKeptPosition(KeptMessage kept) {
+		try {
+			document.removePosition(KEPT_MESSAGES_CATEGORY, kept);
+		}
+		catch (BadPositionCategoryException e) {
+			// not connected, nothing to remove
+		}
 	}
 
 	public void validate(IValidationContext helper, IReporter reporter) throws ValidationException {
 	}
 
-	private void validateNode(IDOMNode node, IReporter reporter) {
+	/**
+	 * @return <code>false</code> if the deadline passed before the node was
+	 * validated completely
+	 */
+	private boolean validateNode(IDOMNode node, IReporter reporter, boolean includeCheap, boolean includeExpensive,
+			long deadline) {
 		IBeansModel model = BeansCorePlugin.getModel();
 		Set<IBeansConfig> configs = model.getConfigs(file, true);
 		for (IBeansConfig config : configs) {
-			Set<IResourceModelElement> contextElements = getContextElements(config);
+			Set<IResourceModelElement> contextElements = BeansEditorValidationContexts.getInstance()
+					.getContextElements(config);
 			for (IResourceModelElement contextElement : contextElements) {
-				BeanValidatorVisitor visitor = new BeanValidatorVisitor(config, contextElement, reporter, this);
-				if (visitor.visitNode(node, true, true)) {
-					return;
+				BeanValidatorVisitor visitor = new BeanValidatorVisitor(config, contextElement, reporter, this,
+						includeCheap, includeExpensive, deadline);
+				if (visitor.visitNode(node, true, true) || visitor.isDeadlineExceeded()) {
+					return !visitor.isDeadlineExceeded();
 				}
 			}
 		}
-
+		return true;
 	}
 
 }
@@ -519,9 +519,19 @@ public class QuickfixUtils {
 	public static boolean validateAttribute(IBeansConfig config, IResourceModelElement contextElement,
 			AttrImpl attrImpl, IDOMNode parent, IReporter reporter, boolean reportError,
 			BeansEditorValidator editorValidator) {
+		return validateAttribute(config, contextElement, attrImpl, parent, reporter, reportError, editorValidator,
+				true, true);
+	}
+
+	public static boolean validateAttribute(IBeansConfig config, IResourceModelElement contextElement,
+			AttrImpl attrImpl, IDOMNode parent, IReporter reporter, boolean reportError,
+			BeansEditorValidator editorValidator, boolean includeCheap, boolean includeExpensive) {
 		Set<BeanValidator> beanValidators = getValidators(parent, attrImpl);
 		boolean errorFound = false;
 		for (BeanValidator beanValidator : beanValidators) {
+			if (beanValidator.isExpensive() ? !includeExpensive : !includeCheap) {
+				continue;
+			}
 			errorFound |= beanValidator.validateAttributeWithConfig(config, contextElement, attrImpl, parent, reporter,
 					reportError, editorValidator);
 		}
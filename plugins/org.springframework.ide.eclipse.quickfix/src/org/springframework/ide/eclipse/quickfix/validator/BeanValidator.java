@@ -131,6 +131,16 @@ public class BeanValidator {
 		return null;
 	}
 
+	/**
+	 * Returns <code>true</code> if this validator needs to resolve Java types
+	 * or members, which makes it too slow to run for every attribute on every
+	 * keystroke. As-you-type validation runs these validators last and only
+	 * within its latency budget.
+	 */
+	public boolean isExpensive() {
+		return false;
+	}
+
 	public void setAttributeName(String attributeName) {
 		this.attributeName = attributeName;
 	}
@@ -35,13 +35,35 @@ public class BeanValidatorVisitor {
 
 	private final BeansEditorValidator editorValidator;
 
+	private final boolean includeCheap;
+
+	private final boolean includeExpensive;
+
+	private final long deadline;
+
 	public BeanValidatorVisitor(IBeansConfig config, IResourceModelElement contextElement, IReporter reporter,
 			BeansEditorValidator editorValidator) {
+		this(config, contextElement, reporter, editorValidator, true, true, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a visitor that only runs the cheap and/or the expensive
+	 * validators (see {@link BeanValidator#isExpensive()}) and stops visiting
+	 * attributes once the given deadline (in milliseconds) has passed.
+	 */
+	public BeanValidatorVisitor(IBeansConfig config, IResourceModelElement contextElement, IReporter reporter,
+			BeansEditorValidator editorValidator, boolean includeCheap, boolean includeExpensive, long deadline) {
 		this.config = config;
 		this.contextElement = contextElement;
 		this.reporter = reporter;
 		this.editorValidator = editorValidator;
+		this.includeCheap = includeCheap;
+		this.includeExpensive = includeExpensive;
+		this.deadline = deadline;
+	}
 
+	public boolean isDeadlineExceeded() {
+		return System.currentTimeMillis() > deadline;
 	}
 
 	private boolean visitAttributes(IDOMNode node, boolean reportError) {
@@ -52,14 +74,14 @@ public class BeanValidatorVisitor {
 			return false;
 		}
 
-		for (int i = 0; i < attributes.getLength(); i++) {
+		for (int i = 0; i < attributes.getLength() && !isDeadlineExceeded(); i++) {
 			Node attribute = attributes.item(i);
 
 			if (attribute instanceof AttrImpl) {
 				AttrImpl attrImpl = (AttrImpl) attribute;
 
 				errorFound |= QuickfixUtils.validateAttribute(config, contextElement, attrImpl, node, reporter,
-						reportError, editorValidator);
+						reportError, editorValidator, includeCheap, includeExpensive);
 			}
 		}
 
@@ -40,6 +40,11 @@ import org.springframework.ide.eclipse.quickfix.validator.helper.BeansValidation
  */
 public class InitDestroyMethodValidator extends BeanValidator {
 
+	@Override
+	public boolean isExpensive() {
+		return true;
+	}
+
 	@Override
 	public boolean validateAttributeWithConfig(IBeansConfig config, IResourceModelElement contextElement, IFile file,
 			AttrImpl attribute, IDOMNode parent, IReporter reporter, boolean reportError,
@@ -24,6 +24,7 @@ import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
 import org.springframework.ide.eclipse.core.model.validation.IValidationProblemMarker;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springframework.ide.eclipse.quickfix.BeansEditorValidationContexts;
 import org.springframework.ide.eclipse.quickfix.BeansEditorValidator;
 import org.springframework.ide.eclipse.quickfix.processors.QuickfixProcessorFactory;
 
@@ -65,7 +66,7 @@ public class BeansValidationContextHelper extends BeansValidationContext {
 			IProject project, IReporter reporter, BeansEditorValidator validator,
 			QuickfixProcessorFactory quickfixFactory, boolean affectsWholeBean, boolean reportError,
 			IBeansConfig config, Set<String> problemIdToIgnore) {
-		super(config, rootElement);
+		super(config, rootElement, BeansEditorValidationContexts.getInstance().getWarmContext(config, rootElement));
 		this.attribute = attribute;
 		this.node = node;
 		this.project = project;
@@ -16,6 +16,7 @@ import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowFlowIndex;
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowModel;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowModel;
 
@@ -40,6 +41,11 @@ public class Activator extends AbstractUIPlugin {
 	 */
 	private final static WebflowModel WEBFLOW_MODEL = new WebflowModel();
 
+	/**
+	 * The singleton flow index used during validation.
+	 */
+	private final static WebflowFlowIndex FLOW_INDEX = new WebflowFlowIndex();
+
 	/**
 	 * The Constructor.
 	 */
@@ -54,6 +60,7 @@ public class Activator extends AbstractUIPlugin {
 	@Override
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
+		FLOW_INDEX.load();
 		WEBFLOW_MODEL.startup();
 	}
 
@@ -63,6 +70,7 @@ public class Activator extends AbstractUIPlugin {
 	 */
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		FLOW_INDEX.store();
 		plugin = null;
 		super.stop(context);
 		WEBFLOW_MODEL.shutdown();
@@ -77,6 +85,13 @@ public class Activator extends AbstractUIPlugin {
 		return WEBFLOW_MODEL;
 	}
 
+	/**
+	 * Returns the index of the flow definitions of all web flow projects.
+	 */
+	public static WebflowFlowIndex getFlowIndex() {
+		return FLOW_INDEX;
+	}
+
 	/**
 	 * Gets the default.
 	 * 
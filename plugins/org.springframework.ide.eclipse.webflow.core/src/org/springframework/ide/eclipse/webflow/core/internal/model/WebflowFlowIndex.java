@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.webflow.core.internal.model;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.springframework.ide.eclipse.webflow.core.Activator;
+import org.springframework.ide.eclipse.webflow.core.model.IWebflowConfig;
+import org.springframework.ide.eclipse.webflow.core.model.IWebflowProject;
+import org.springframework.util.StringUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Persistent index of the cross-flow information of web flow definitions:
+ * state ids, transitions, parent flows, subflow references and bean
+ * references. Entries are created with a plain SAX pass over the flow file
+ * and are only recreated if the modification stamp of the file changed, so
+ * validation can resolve references into other flows without loading their
+ * structured models.
+ * @since 3.9.12
+ */
+public class WebflowFlowIndex {
+
+	private static final String STATE_FILE_NAME = "/flowindex/.state";
+
+	private static final String XSI_NAMESPACE_URI = "http://www.w3.org/2001/XMLSchema-instance";
+
+	private static final Set<String> STATE_ELEMENTS = new HashSet<String>();
+
+	static {
+		Collections.addAll(STATE_ELEMENTS, "action-state", "view-state", "decision-state", "subflow-state",
+				"end-state");
+	}
+
+	private Map<String, FlowInfo> flows = new ConcurrentHashMap<String, FlowInfo>();
+
+	/**
+	 * Returns the index entry for the given flow file, re-indexing the file if
+	 * it has changed since it was last indexed.
+	 * @return the index entry or <code>null</code> if the file does not exist
+	 * or can't be parsed
+	 */
+	public FlowInfo getFlow(IFile file) {
+		if (file == null) {
+			return null;
+		}
+		String key = file.getFullPath().toString();
+		if (!file.exists()) {
+			flows.remove(key);
+			return null;
+		}
+		FlowInfo info = flows.get(key);
+		long stamp = file.getModificationStamp();
+		if (info == null || info.modificationStamp != stamp) {
+			info = index(file);
+			if (info != null) {
+				flows.put(key, info);
+			}
+			else {
+				flows.remove(key);
+			}
+		}
+		return info;
+	}
+
+	public FlowInfo getFlow(IWebflowConfig config) {
+		if (config == null || !(config.getResource() instanceof IFile)) {
+			return null;
+		}
+		return getFlow((IFile) config.getResource());
+	}
+
+	public FlowInfo getFlow(IWebflowProject project, String flowId) {
+		if (project == null || flowId == null) {
+			return null;
+		}
+		return getFlow(project.getConfig(flowId));
+	}
+
+	public void remove(IFile file) {
+		flows.remove(file.getFullPath().toString());
+	}
+
+	private FlowInfo index(IFile file) {
+		InputStream is = null;
+		try {
+			FlowInfo info = new FlowInfo(file.getModificationStamp());
+			is = file.getContents();
+			SAXParserFactory factory = SAXParserFactory.newInstance();
+			factory.setNamespaceAware(true);
+			factory.setValidating(false);
+			SAXParser parser = factory.newSAXParser();
+			parser.parse(new InputSource(is), new FlowInfoHandler(info));
+			return info;
+		}
+		catch (CoreException e) {
+			return null;
+		}
+		catch (SAXException e) {
+			return null;
+		}
+		catch (Exception e) {
+			Activator.log("Error indexing flow definition " + file.getFullPath(), e);
+			return null;
+		}
+		finally {
+			if (is != null) {
+				try {
+					is.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	public void store() {
+		File file = Activator.getDefault().getStateLocation().append(STATE_FILE_NAME).toFile();
+		ObjectOutputStream out = null;
+		try {
+			if (!file.exists()) {
+				file.getParentFile().mkdirs();
+				file.createNewFile();
+			}
+			out = new ObjectOutputStream(new FileOutputStream(file));
+			out.writeObject(new LinkedHashMap<String, FlowInfo>(flows));
+		}
+		catch (IOException e) {
+			Activator.log("Exception saving web flow index", e);
+		}
+		finally {
+			try {
+				if (out != null) {
+					out.close();
+				}
+			}
+			catch (IOException e) {
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public void load() {
+		File file = Activator.getDefault().getStateLocation().append(STATE_FILE_NAME).toFile();
+		ObjectInputStream in = null;
+		try {
+			if (file.exists()) {
+				in = new ObjectInputStream(new FileInputStream(file));
+				flows = new ConcurrentHashMap<String, FlowInfo>((Map<String, FlowInfo>) in.readObject());
+			}
+		}
+		catch (Exception e) {
+			// a stale or corrupt index is simply rebuilt on demand
+			flows = new ConcurrentHashMap<String, FlowInfo>();
+		}
+		finally {
+			try {
+				if (in != null) {
+					in.close();
+				}
+			}
+			catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * The indexed information of a single flow definition.
+	 */
+	public static class FlowInfo implements Serializable {
+
+		private static final long serialVersionUID = 2L;
+
+		private final long modificationStamp;
+
+		private boolean version1 = true;
+
+		private final Set<String> parentFlows = new LinkedHashSet<String>();
+
+		private final Map<String, StateInfo> states = new LinkedHashMap<String, StateInfo>();
+
+		private final Set<String> transitionTargets = new LinkedHashSet<String>();
+
+		private final Set<String> subflowReferences = new LinkedHashSet<String>();
+
+		private final Set<String> beanReferences = new LinkedHashSet<String>();
+
+		FlowInfo(long modificationStamp) {
+			this.modificationStamp = modificationStamp;
+		}
+
+		public boolean isVersion1() {
+			return version1;
+		}
+
+		public Set<String> getParentFlows() {
+			return parentFlows;
+		}
+
+		public StateInfo getState(String stateId) {
+			return states.get(stateId);
+		}
+
+		public Set<String> getStateIds() {
+			return states.keySet();
+		}
+
+		public Set<String> getTransitionTargets() {
+			return transitionTargets;
+		}
+
+		public Set<String> getSubflowReferences() {
+			return subflowReferences;
+		}
+
+		public Set<String> getBeanReferences() {
+			return beanReferences;
+		}
+
+	}
+
+	/**
+	 * The indexed information of a single top-level state of a flow.
+	 */
+	public static class StateInfo implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String id;
+
+		private final String type;
+
+		private final String subflow;
+
+		private final Set<String> transitionTargets = new LinkedHashSet<String>();
+
+		StateInfo(String id, String type, String subflow) {
+			this.id = id;
+			this.type = type;
+			this.subflow = subflow;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		/**
+		 * Returns the element name of the state, e.g. <code>view-state</code>.
+		 */
+		public String getType() {
+			return type;
+		}
+
+		public boolean isSubflowState() {
+			return "subflow-state".equals(type);
+		}
+
+		public String getSubflow() {
+			return subflow;
+		}
+
+		public Set<String> getTransitionTargets() {
+			return transitionTargets;
+		}
+
+	}
+
+	private static class FlowInfoHandler extends DefaultHandler {
+
+		private final FlowInfo info;
+
+		private final Deque<StateInfo> states = new ArrayDeque<StateInfo>();
+
+		private int depth = 0;
+
+		FlowInfoHandler(FlowInfo info) {
+			this.info = info;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			depth++;
+			if (depth == 1) {
+				String schemaLocation = attributes.getValue(XSI_NAMESPACE_URI, "schemaLocation");
+				info.version1 = schemaLocation == null || schemaLocation.contains("spring-webflow-1");
+				String parent = attributes.getValue("parent");
+				if (StringUtils.hasText(parent)) {
+					info.parentFlows.addAll(StringUtils.commaDelimitedListToSet(parent.trim()));
+				}
+			}
+			else if (depth == 2 && STATE_ELEMENTS.contains(localName)) {
+				String subflow = attributes.getValue(info.version1 ? "flow" : "subflow");
+				StateInfo state = new StateInfo(attributes.getValue("id"), localName, subflow);
+				if (state.getId() != null) {
+					info.states.put(state.getId(), state);
+				}
+				if (StringUtils.hasText(subflow)) {
+					info.subflowReferences.add(subflow);
+				}
+				states.push(state);
+			}
+			else if ("transition".equals(localName)) {
+				String to = attributes.getValue("to");
+				if (StringUtils.hasText(to)) {
+					info.transitionTargets.add(to);
+					if (!states.isEmpty()) {
+						states.peek().transitionTargets.add(to);
+					}
+				}
+			}
+			String bean = attributes.getValue("bean");
+			if (StringUtils.hasText(bean)) {
+				info.beanReferences.add(bean);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			if (depth == 2 && STATE_ELEMENTS.contains(localName) && !states.isEmpty()) {
+				states.pop();
+			}
+			depth--;
+		}
+
+		@Override
+		public InputSource resolveEntity(String publicId, String systemId) {
+			// never go to the network for a DTD while indexing
+			return new InputSource(new StringReader(""));
+		}
+
+	}
+
+}
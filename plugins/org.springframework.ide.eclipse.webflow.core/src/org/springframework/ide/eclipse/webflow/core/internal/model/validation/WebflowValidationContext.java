@@ -10,39 +10,39 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.webflow.core.internal.model.validation;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.core.resources.IFile;
-import org.eclipse.wst.sse.core.StructuredModelManager;
-import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
-import org.eclipse.wst.xml.core.internal.document.DOMModelImpl;
-import org.eclipse.wst.xml.core.internal.provisional.document.IDOMAttr;
-import org.eclipse.wst.xml.core.internal.provisional.document.IDOMDocument;
-import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
 import org.springframework.ide.eclipse.core.model.validation.AbstractValidationContext;
 import org.springframework.ide.eclipse.webflow.core.Activator;
-import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowModelXmlUtils;
-import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowState;
-import org.springframework.ide.eclipse.webflow.core.model.IState;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowFlowIndex;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowFlowIndex.FlowInfo;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowFlowIndex.StateInfo;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowConfig;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowProject;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowState;
-import org.springframework.util.StringUtils;
-import org.w3c.dom.NamedNodeMap;
 
 /**
+ * Cross-flow references (parent flows and parent states) are resolved
+ * against the {@link WebflowFlowIndex} rather than by loading the structured
+ * models of the referenced flows.
  * @author Christian Dupuis
  * @author Torsten Juergeleit
  * @since 2.0
  */
-@SuppressWarnings("restriction")
 public class WebflowValidationContext extends AbstractValidationContext {
 
 	private final IWebflowConfig webflowConfig;
 
+	private final WebflowFlowIndex flowIndex;
+
 	private boolean isVersion1 = true;
 
 	public WebflowValidationContext(IWebflowState state, IWebflowConfig webflowConfig) {
 		super(state, null);
 		this.webflowConfig = webflowConfig;
+		this.flowIndex = Activator.getFlowIndex();
 		determineVersion();
 	}
 
@@ -55,143 +55,68 @@ public class WebflowValidationContext extends AbstractValidationContext {
 	}
 
 	private void determineVersion() {
-		IStructuredModel model = null;
-		try {
-			model = StructuredModelManager.getModelManager().getExistingModelForRead(
-					getRootElement().getElementResource());
-			if (model == null) {
-				model = StructuredModelManager.getModelManager().getModelForRead(
-						(IFile) getRootElement().getElementResource());
-
-			}
-			if (model != null) {
-				IDOMDocument document = ((DOMModelImpl) model).getDocument();
-				NamedNodeMap attributes = document.getDocumentElement().getAttributes();
-				IDOMAttr schemaLocationNode = (IDOMAttr) attributes.getNamedItemNS(
-						"http://www.w3.org/2001/XMLSchema-instance", "schemaLocation");
-				String content = schemaLocationNode.getValue();
-				isVersion1 = content.contains("spring-webflow-1");
-			}
-		}
-		catch (Exception e) {
-		}
-		finally {
-			if (model != null) {
-				model.releaseFromRead();
-			}
-			model = null;
+		FlowInfo flow = flowIndex.getFlow((IFile) getRootElement().getElementResource());
+		if (flow != null) {
+			isVersion1 = flow.isVersion1();
 		}
 	}
 
-	public IState getStateFromParentState(String stateId) {
+	private IWebflowProject getWebflowProject() {
+		return Activator.getModel().getProject(getRootElement().getElementResource().getProject());
+	}
+
+	/**
+	 * Resolves a state reference of the form <code>flowId#stateId</code>.
+	 * @return the indexed parent state or <code>null</code> if it can't be
+	 * found
+	 */
+	public StateInfo getStateFromParentState(String stateId) {
 		if (!isVersion1() && stateId != null && stateId.contains("#")) {
-			IStructuredModel model = null;
-			IState state = null;
 			int i = stateId.lastIndexOf('#');
 			String parentFlowId = stateId.substring(0, i);
 			String parentStateId = stateId.substring(i + 1);
 
-			IWebflowProject project = Activator.getModel().getProject(
-					getRootElement().getElementResource().getProject());
-			IWebflowConfig parentConfig = project.getConfig(parentFlowId);
-			try {
-				model = StructuredModelManager.getModelManager().getExistingModelForRead(
-						parentConfig.getElementResource());
-				if (model == null) {
-					model = StructuredModelManager.getModelManager().getModelForRead(
-							(IFile) parentConfig.getElementResource());
-				}
-				if (model != null) {
-					IDOMDocument document = ((DOMModelImpl) model).getDocument();
-					IWebflowState parentState = new WebflowState(parentConfig);
-					parentState.init((IDOMNode) document.getDocumentElement(), null);
-
-					state = WebflowModelXmlUtils.getStateById(parentState, parentStateId);
-				}
-			}
-			catch (Exception e) {
-			}
-			finally {
-				if (model != null) {
-					model.releaseFromRead();
-				}
-				model = null;
-			}
-
-			if (state != null) {
-				return state;
+			FlowInfo parentFlow = flowIndex.getFlow(getWebflowProject(), parentFlowId);
+			if (parentFlow != null) {
+				return parentFlow.getState(parentStateId);
 			}
-
 		}
 		return null;
 	}
 
-	public IState getStateFromParentFlow(String stateId, IWebflowConfig config) {
+	/**
+	 * Looks up the given state id in the parent flows of the given flow,
+	 * following the flow inheritance hierarchy.
+	 * @return the indexed state or <code>null</code> if no parent flow
+	 * defines a state with that id
+	 */
+	public StateInfo getStateFromParentFlow(String stateId, IWebflowConfig config) {
 		if (!isVersion1()) {
-			IStructuredModel model = null;
-			String parent = null;
-			try {
-				model = StructuredModelManager.getModelManager().getExistingModelForRead(config.getElementResource());
-				if (model == null) {
-					model = StructuredModelManager.getModelManager().getModelForRead(
-							(IFile) config.getElementResource());
+			return getStateFromParentFlow(stateId, config, new HashSet<IWebflowConfig>());
+		}
+		return null;
+	}
 
+	private StateInfo getStateFromParentFlow(String stateId, IWebflowConfig config, Set<IWebflowConfig> visited) {
+		if (config == null || !visited.add(config)) {
+			return null;
+		}
+		FlowInfo flow = flowIndex.getFlow(config);
+		if (flow == null) {
+			return null;
+		}
+		IWebflowProject project = getWebflowProject();
+		for (String parent : flow.getParentFlows()) {
+			IWebflowConfig parentConfig = project.getConfig(parent);
+			FlowInfo parentFlow = flowIndex.getFlow(parentConfig);
+			if (parentFlow != null) {
+				StateInfo state = parentFlow.getState(stateId);
+				if (state != null) {
+					return state;
 				}
-				if (model != null) {
-					IDOMDocument document = ((DOMModelImpl) model).getDocument();
-					NamedNodeMap attributes = document.getDocumentElement().getAttributes();
-					if (attributes.getNamedItem("parent") != null) {
-						IDOMAttr schemaLocationNode = (IDOMAttr) attributes.getNamedItem("parent");
-						parent = schemaLocationNode.getValue();
-					}
-				}
-			}
-			catch (Exception e) {
-			}
-			finally {
-				if (model != null) {
-					model.releaseFromRead();
-				}
-				model = null;
-			}
-
-			if (parent != null) {
-				for (Object p : StringUtils.commaDelimitedListToSet(parent)) {
-					IState state = null;
-
-					IWebflowProject project = Activator.getModel().getProject(
-							getRootElement().getElementResource().getProject());
-					IWebflowConfig parentConfig = project.getConfig((String) p);
-					try {
-						model = StructuredModelManager.getModelManager().getExistingModelForRead(
-								parentConfig.getElementResource());
-						if (model == null) {
-							model = StructuredModelManager.getModelManager().getModelForRead(
-									(IFile) parentConfig.getElementResource());
-						}
-						if (model != null) {
-							IDOMDocument document = ((DOMModelImpl) model).getDocument();
-							IWebflowState parentState = new WebflowState(parentConfig);
-							parentState.init((IDOMNode) document.getDocumentElement(), null);
-
-							state = WebflowModelXmlUtils.getStateById(parentState, stateId);
-						}
-					}
-					catch (Exception e) {
-					}
-					finally {
-						if (model != null) {
-							model.releaseFromRead();
-						}
-						model = null;
-					}
-
-					if (state != null) {
-						return state;
-					}
-					else {
-						return getStateFromParentFlow(stateId, parentConfig);
-					}
+				state = getStateFromParentFlow(stateId, parentConfig, visited);
+				if (state != null) {
+					return state;
 				}
 			}
 		}
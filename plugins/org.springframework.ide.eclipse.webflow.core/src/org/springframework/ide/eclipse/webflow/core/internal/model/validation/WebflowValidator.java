@@ -16,6 +16,7 @@ import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
@@ -35,6 +36,7 @@ import org.springframework.ide.eclipse.core.model.validation.IValidationContext;
 import org.springframework.ide.eclipse.core.model.validation.IValidationElementLifecycleManager;
 import org.springframework.ide.eclipse.core.model.validation.IValidator;
 import org.springframework.ide.eclipse.webflow.core.Activator;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowFlowIndex.FlowInfo;
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowModelUtils;
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowState;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowConfig;
@@ -89,6 +91,10 @@ public class WebflowValidator extends AbstractValidator {
 		Set<IResource> resources = new LinkedHashSet<IResource>();
 		if (WebflowModelUtils.isWebflowConfig(resource)) {
 			resources.add(resource);
+			if (deltaKind == IResourceDelta.REMOVED) {
+				Activator.getFlowIndex().remove((IFile) resource);
+			}
+			addDependentFlows(resource, resources);
 		}
 		else if (JdtUtils.isClassPathFile(resource)) {
 			IWebflowProject webflowProject = Activator.getModel().getProject(
@@ -121,6 +127,30 @@ public class WebflowValidator extends AbstractValidator {
 		return resources;
 	}
 
+	/**
+	 * Adds the flows that inherit from or call the given flow as a subflow,
+	 * as their inherited states and subflow references need to be checked
+	 * again.
+	 */
+	private void addDependentFlows(IResource resource, Set<IResource> resources) {
+		IWebflowProject webflowProject = Activator.getModel().getProject(resource.getProject());
+		if (webflowProject == null) {
+			return;
+		}
+		IWebflowConfig changedConfig = webflowProject.getConfig((IFile) resource);
+		if (changedConfig == null) {
+			return;
+		}
+		String flowId = changedConfig.getName();
+		for (IWebflowConfig config : webflowProject.getConfigs()) {
+			FlowInfo flow = Activator.getFlowIndex().getFlow(config);
+			if (flow != null
+					&& (flow.getParentFlows().contains(flowId) || flow.getSubflowReferences().contains(flowId))) {
+				resources.add(config.getElementResource());
+			}
+		}
+	}
+
 	@Override
 	protected IValidationContext createContext(
 			IResourceModelElement rootElement,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,32 +11,40 @@
 package org.springframework.ide.eclipse.xml.namespaces.manager;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.framework.Bundle;
 
 /**
  * Map-like class with dedicated support for lazy bundles. Allows execution of operations on active
  * bundles, promoting the lazy ones, if necessary, as fall back.
+ * <p>
+ * Active and lazy bundles are kept in a single concurrent map, a lazy bundle being promoted by
+ * setting its associated value. As promoted bundles stay in the map, threads applying an
+ * operation at the same time see them either as lazy or as active, and no lock is needed. The
+ * promotion of a lazy bundle is claimed by the first thread that sets its task, so the bundle is
+ * activated once, even if several threads promote it concurrently. A thread finding a bundle
+ * being promoted by another thread tries the other lazy bundles first, and only waits for that
+ * promotion if none of them gives a result.
  * @author Christian Dupuis
  * @author Costin Leau
  * @param<T>
  *  the entity type associated with active bundles
  */
-class LazyBundleRegistry<T> {
+public class LazyBundleRegistry<T> {
 
 	/**
 	 * A simple condition-like class.
 	 * 
 	 * @author Costin Leau
 	 */
-	interface Condition {
+	public interface Condition {
 
 		/**
 		 * Indicates if the given target bundle passes the condition or not.
@@ -53,7 +61,7 @@ class LazyBundleRegistry<T> {
 	 * @author Costin Leau
 	 * @param <V>
 	 */
-	interface Activator<V> {
+	public interface Activator<V> {
 
 		/**
 		 * Activates the given target bundle.
@@ -73,7 +81,7 @@ class LazyBundleRegistry<T> {
 	 * @param <T>
 	 * @param <V>
 	 */
-	interface Operation<T, V> {
+	public interface Operation<T, V> {
 
 		/**
 		 * Acts upon the bundle associated object (given as argument).
@@ -84,136 +92,168 @@ class LazyBundleRegistry<T> {
 		V operate(T t) throws Exception;
 	}
 
-	/** active, valid bundles */
-	private final ConcurrentMap<Bundle, T> activeBundles = new ConcurrentHashMap<Bundle, T>(8);
-
-	/** lazy bundles (potentially invalid) */
-	private final ConcurrentMap<Bundle, Boolean> lazyBundles = new ConcurrentHashMap<Bundle, Boolean>(
-			8);
-
 	/**
-	 * Queue of bundles that have been activated and validated and should be removed from the lazy
-	 * map. This is needed so that promoted bundles do not go unseen by threads using the method at
-	 * that point.
+	 * Registration of a bundle.
 	 */
-	private final List<Bundle> promotionQueue = new ArrayList<Bundle>(4);
+	private static class Registration<T> {
+
+		/** whether the promotion condition has to be checked before activating a lazy bundle */
+		final boolean applyCondition;
+
+		/** the value associated with the bundle, null as long as a lazy bundle isn't promoted */
+		final AtomicReference<T> value;
+
+		/** the promotion of a lazy bundle, set by the thread that runs it */
+		final AtomicReference<FutureTask<T>> promotion = new AtomicReference<FutureTask<T>>();
+
+		Registration(boolean applyCondition, T value) {
+			this.applyCondition = applyCondition;
+			this.value = new AtomicReference<T>(value);
+		}
+	}
 
-	/** counter used for determining the promotion thread */
-	private volatile AtomicInteger threadCounter = new AtomicInteger();
+	/** active and lazy (potentially invalid) bundles */
+	private final ConcurrentMap<Bundle, Registration<T>> bundles = new ConcurrentHashMap<Bundle, Registration<T>>(16);
 
 	private final Condition condition;
 
 	private final Activator<T> activator;
 
-	LazyBundleRegistry(Condition promotionCondition, Activator<T> activator) {
+	public LazyBundleRegistry(Condition promotionCondition, Activator<T> activator) {
 		this.condition = promotionCondition;
 		this.activator = activator;
 	}
 
-	void add(Bundle bundle, boolean isLazy, boolean applyCondition) {
+	public void add(Bundle bundle, boolean isLazy, boolean applyCondition) {
 		if (isLazy) {
-			lazyBundles.put(bundle, Boolean.valueOf(applyCondition));
+			bundles.put(bundle, new Registration<T>(applyCondition, null));
 		}
 		else {
-			activeBundles.put(bundle, activator.activate(bundle));
+			bundles.put(bundle, new Registration<T>(false, activator.activate(bundle)));
 		}
 	}
 
-	boolean remove(Bundle bundle) {
-		boolean value = false;
-
-		value = (activeBundles.remove(bundle) != null);
-		value |= (lazyBundles.remove(bundle) != null);
-
-		synchronized (promotionQueue) {
-			value |= promotionQueue.remove(bundle);
-		}
+	public boolean remove(Bundle bundle) {
+		return bundles.remove(bundle) != null;
+	}
 
-		return value;
+	/**
+	 * @return the value associated with the given bundle, or null if it isn't registered or not
+	 * promoted yet
+	 */
+	public T get(Bundle bundle) {
+		Registration<T> registration = bundles.get(bundle);
+		return registration != null ? registration.value.get() : null;
 	}
 
 	/**
-	 * Applies an operation on all the bundles. To cope with concurrent environment, the class uses
-	 * several queues so that lazy bundles that get activated, do not get ignored by threads hitting
-	 * the method right at that point.
+	 * Applies an operation on all the bundles, first on the active ones, and then on the lazy ones,
+	 * promoting them one at a time until the operation returns a result. Lazy bundles promoted by
+	 * other threads at the same time are only waited for after all other lazy bundles were tried.
 	 * 
 	 * @param <V>
 	 * @param action
 	 * @return
 	 */
-	<V> V apply(Operation<T, V> action) throws Exception {
-		// count running thread
-		threadCounter.incrementAndGet();
-
-		try {
-			// check active bundles
-			for (Iterator<T> i = activeBundles.values().iterator(); i.hasNext();) {
-				T result = i.next();
-				V value = action.operate(result);
+	public <V> V apply(Operation<T, V> action) throws Exception {
+		// check active bundles
+		List<Map.Entry<Bundle, Registration<T>>> lazy = new ArrayList<Map.Entry<Bundle, Registration<T>>>();
+		for (Map.Entry<Bundle, Registration<T>> entry : bundles.entrySet()) {
+			T active = entry.getValue().value.get();
+			if (active != null) {
+				V value = action.operate(active);
 				if (value != null) {
 					return value;
 				}
 			}
+			else {
+				lazy.add(entry);
+			}
+		}
 
-			// nothing found, look into lazy bundles
-			for (Iterator<Map.Entry<Bundle, Boolean>> i = lazyBundles.entrySet().iterator(); i
-					.hasNext();) {
-				Entry<Bundle, Boolean> entry = i.next();
-				Bundle bundle = entry.getKey();
-				Boolean applyCondition = entry.getValue();
-
-				if (Boolean.FALSE.equals(applyCondition)
-						|| (Boolean.TRUE.equals(applyCondition) && condition.pass(bundle))) {
-					// promote bundle
-					T result = activeBundles.putIfAbsent(bundle, activator.activate(bundle));
-					if (result == null) {
-						result = activeBundles.get(bundle);
-						synchronized (promotionQueue) {
-							promotionQueue.add(bundle);
-						}
-					}
-
-					if (result != null) {
-						V value = action.operate(result);
-						if (value != null) {
-							return value;
-						}
-					}
-				}
-				else {
-					// the bundle is not compatible, remove it asap
-					lazyBundles.remove(bundle);
+		// nothing found, look into lazy bundles
+		List<Registration<T>> pending = new ArrayList<Registration<T>>();
+		for (Map.Entry<Bundle, Registration<T>> entry : lazy) {
+			Registration<T> registration = entry.getValue();
+			FutureTask<T> promotion = promote(entry.getKey(), registration);
+			if (!promotion.isDone()) {
+				// being promoted by another thread, don't wait for it yet
+				pending.add(registration);
+				continue;
+			}
+			V value = operate(action, registration, promotion);
+			if (value != null) {
+				return value;
+			}
+		}
+
+		// nothing found, wait for the promotions of the other threads
+		for (Registration<T> registration : pending) {
+			FutureTask<T> promotion = registration.promotion.get();
+			if (promotion != null) {
+				V value = operate(action, registration, promotion);
+				if (value != null) {
+					return value;
 				}
 			}
+		}
+
+		// nothing found
+		return null;
+	}
+
+	/**
+	 * Returns the promotion of a lazy bundle, running it in the calling thread unless another
+	 * thread already started it.
+	 */
+	private FutureTask<T> promote(final Bundle bundle, final Registration<T> registration) {
+		FutureTask<T> promotion = registration.promotion.get();
+		while (promotion == null) {
+			FutureTask<T> task = new FutureTask<T>(() -> activate(bundle, registration));
+			if (registration.promotion.compareAndSet(null, task)) {
+				task.run();
+				return task;
+			}
+			promotion = registration.promotion.get();
+		}
+		return promotion;
+	}
 
-			// nothing found
+	/**
+	 * Activates a lazy bundle, unless it doesn't pass the condition, in which case it is removed.
+	 * 
+	 * @return the value associated with the bundle, or null if it was removed
+	 */
+	private T activate(Bundle bundle, Registration<T> registration) {
+		if (registration.applyCondition && !condition.pass(bundle)) {
+			// the bundle is not compatible, remove it asap
+			bundles.remove(bundle, registration);
 			return null;
 		}
-		// cleanup the promotion queue
-		finally {
-
-			synchronized (promotionQueue) {
-				// the last thread accessing the method, does the cleanup
-				// this way, we know other threads will pick the most up to date state
-				// of the concurrent map
-				if (threadCounter.decrementAndGet() == 0) {
-					for (Bundle bundle : promotionQueue) {
-						// remove bundle from the lazy map
-						// but check that it wasn't removed in the meantime
-						// by #remove(Bundle)
-						if (lazyBundles.remove(bundle) == null) {
-							activeBundles.remove(bundle);
-						}
-					}
-				}
-				promotionQueue.clear();
-			}
+		T active = activator.activate(bundle);
+		registration.value.set(active);
+		return active;
+	}
+
+	/**
+	 * Applies the operation on the value of a promoted bundle, waiting for the promotion if
+	 * necessary. A failed promotion is dropped so that the bundle is promoted again next time.
+	 */
+	private <V> V operate(Operation<T, V> action, Registration<T> registration, FutureTask<T> promotion)
+			throws Exception {
+		T active;
+		try {
+			active = promotion.get();
+		}
+		catch (ExecutionException e) {
+			registration.promotion.compareAndSet(promotion, null);
+			Throwable cause = e.getCause();
+			throw (cause instanceof Exception ? (Exception) cause : e);
 		}
+		return (active != null ? action.operate(active) : null);
 	}
 
 	public void clear() {
-		promotionQueue.clear();
-		lazyBundles.clear();
-		activeBundles.clear();
+		bundles.clear();
 	}
-}
\ No newline at end of file
+}
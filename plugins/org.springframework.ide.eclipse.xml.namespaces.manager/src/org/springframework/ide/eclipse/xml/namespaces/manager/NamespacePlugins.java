@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,9 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.osgi.framework.Bundle;
 import org.springframework.beans.factory.DisposableBean;
@@ -34,6 +37,8 @@ import org.xml.sax.SAXException;
  * same library (which support the same schema) are available.
  * Additionally, lazy handlers are supported so that they are checked (and thus loaded) only if no previous handler has
  * been able to satisfy the request.
+ * The plugin that resolved a namespace uri is remembered, so that the same namespace uri is
+ * resolved without searching all plugins again.
  * 
  * @author Christian Dupuis
  * @author Hal Hildebrand
@@ -67,8 +72,12 @@ public class NamespacePlugins implements NamespaceHandlerResolver, EntityResolve
 
 	private final LazyBundleRegistry<Plugin> pluginRegistry = new LazyBundleRegistry<Plugin>(condition, activation);
 
+	/** Plugins keyed by the namespace uris they resolved */
+	private final ConcurrentMap<String, Plugin> handlerPlugins = new ConcurrentHashMap<String, Plugin>();
+
 	public void destroy() {
 		pluginRegistry.clear();
+		handlerPlugins.clear();
 	}
 
 	public NamespaceHandler resolve(final String namespaceUri) {
@@ -112,19 +121,23 @@ public class NamespacePlugins implements NamespaceHandlerResolver, EntityResolve
 	}
 
 	private NamespaceHandler doResolve(final String namespaceUri) {
+		Plugin known = namespaceUri != null ? handlerPlugins.get(namespaceUri) : null;
+		// the plugin is only used if its bundle wasn't removed or registered again in the meantime
+		if (known != null && pluginRegistry.get(known.bundle) == known) {
+			NamespaceHandler handler = resolve(known, namespaceUri);
+			if (handler != null) {
+				return handler;
+			}
+		}
 		try {
 			return pluginRegistry.apply(new LazyBundleRegistry.Operation<Plugin, NamespaceHandler>() {
 
 				public NamespaceHandler operate(Plugin plugin) {
-					try {
-						NamespaceHandler handler = plugin.resolve(namespaceUri);
-						if (handler != null) {
-							return handler;
-						}
-					}
-					catch (IllegalArgumentException ex) {
+					NamespaceHandler handler = resolve(plugin, namespaceUri);
+					if (handler != null && namespaceUri != null) {
+						handlerPlugins.put(namespaceUri, plugin);
 					}
-					return null;
+					return handler;
 				}
 			});
 		}
@@ -134,6 +147,15 @@ public class NamespacePlugins implements NamespaceHandlerResolver, EntityResolve
 		}
 	}
 
+	private NamespaceHandler resolve(Plugin plugin, String namespaceUri) {
+		try {
+			return plugin.resolve(namespaceUri);
+		}
+		catch (IllegalArgumentException ex) {
+		}
+		return null;
+	}
+
 	private InputSource doResolveEntity(final String publicId, final String systemId) throws Exception {
 		if (systemId != null) {
 
@@ -193,6 +215,11 @@ public class NamespacePlugins implements NamespaceHandlerResolver, EntityResolve
 	 * @return true if the bundle was used in the plugin map
 	 */
 	boolean removePlugin(Bundle bundle) {
+		for (Iterator<Plugin> plugins = handlerPlugins.values().iterator(); plugins.hasNext();) {
+			if (plugins.next().bundle.equals(bundle)) {
+				plugins.remove();
+			}
+		}
 		return pluginRegistry.remove(bundle);
 	}
 
@@ -203,11 +230,14 @@ public class NamespacePlugins implements NamespaceHandlerResolver, EntityResolve
 	 */
 	private static class Plugin implements NamespaceHandlerResolver, EntityResolver {
 
+		private final Bundle bundle;
+
 		private final EntityResolver entity;
 
 		private final NamespaceHandlerResolver namespace;
 
 		private Plugin(Bundle bundle) {
+			this.bundle = bundle;
 			ClassLoader loader = BundleDelegatingClassLoader.createBundleClassLoaderFor(bundle);
 
 			entity = new DelegatingEntityResolver(loader);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,11 +14,11 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
@@ -47,11 +47,14 @@ public class ToolingAwareNamespacePlugins extends NamespacePlugins implements IN
 
 	private static final String SPRING_TOOLING = "spring.tooling";
 
-	/** Namespace definitions keyed by the namespace uri */
-	private volatile Map<String, NamespaceDefinition> namespaceDefinitionRegistry = new HashMap<String, NamespaceDefinition>();
+	/**
+	 * Namespace definitions keyed by the namespace uri. Read while xml files are parsed, and
+	 * updated while namespace bundles are added and removed.
+	 */
+	private final Map<String, NamespaceDefinition> namespaceDefinitionRegistry = new ConcurrentHashMap<String, NamespaceDefinition>();
 
 	/** Namespace definition set keyed by the registering bundle */
-	private volatile Map<Bundle, Set<NamespaceDefinition>> namespaceDefinitionsByBundle = new HashMap<Bundle, Set<NamespaceDefinition>>();
+	private final Map<Bundle, Set<NamespaceDefinition>> namespaceDefinitionsByBundle = new ConcurrentHashMap<Bundle, Set<NamespaceDefinition>>();
 
 	/** Listeners to inform about namespace changes */
 	private volatile Set<INamespaceDefinitionListener> namespaceDefinitionListeners = Collections
@@ -125,9 +128,10 @@ public class ToolingAwareNamespacePlugins extends NamespacePlugins implements IN
 							}
 						}
 
-						if (namespaceDefinitionRegistry.containsKey(namespaceUri)) {
-							namespaceDefinitionRegistry.get(namespaceUri).addSchemaLocation(key);
-							namespaceDefinitionRegistry.get(namespaceUri).addUri(props.getProperty(key));
+						NamespaceDefinition existing = namespaceDefinitionRegistry.get(namespaceUri);
+						if (existing != null) {
+							existing.addSchemaLocation(key);
+							existing.addUri(props.getProperty(key));
 						}
 						else {
 							NamespaceDefinition namespaceDefinition = new NamespaceDefinition(props);
@@ -186,11 +190,11 @@ public class ToolingAwareNamespacePlugins extends NamespacePlugins implements IN
 	 * Removes any registered {@link INamespaceDefinition}s and XML catalog entries.
 	 */
 	private void removeNamespaceDefinition(Bundle bundle) {
-		if (namespaceDefinitionsByBundle.containsKey(bundle)) {
-			for (NamespaceDefinition definition : namespaceDefinitionsByBundle.get(bundle)) {
+		Set<NamespaceDefinition> namespaceDefinitions = namespaceDefinitionsByBundle.remove(bundle);
+		if (namespaceDefinitions != null) {
+			for (NamespaceDefinition definition : namespaceDefinitions) {
 				unregisterNamespaceDefinition(definition);
 			}
-			namespaceDefinitionsByBundle.remove(bundle);
 		}
 	}
 
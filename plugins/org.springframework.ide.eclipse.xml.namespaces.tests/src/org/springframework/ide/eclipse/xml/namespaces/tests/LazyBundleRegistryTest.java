@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.xml.namespaces.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.springframework.ide.eclipse.xml.namespaces.manager.LazyBundleRegistry;
+
+public class LazyBundleRegistryTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final ConcurrentMap<String, AtomicInteger> activations = new ConcurrentHashMap<>();
+
+	private final CountDownLatch slowActivationStarted = new CountDownLatch(1);
+
+	private final CountDownLatch slowActivationReleased = new CountDownLatch(1);
+
+	private final LazyBundleRegistry<String> registry = new LazyBundleRegistry<>(bundle -> true, bundle -> {
+		String name = bundle.getSymbolicName();
+		activations.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet();
+		if ("slow".equals(name)) {
+			slowActivationStarted.countDown();
+			try {
+				slowActivationReleased.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return name;
+	});
+
+	@After
+	public void teardown() {
+		slowActivationReleased.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void lazyBundleActivatedOnce() throws Exception {
+		registry.add(bundle("slow"), true, false);
+
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(executor.submit(() -> registry.apply(value -> value)));
+		}
+		assertTrue(slowActivationStarted.await(10, TimeUnit.SECONDS));
+		slowActivationReleased.countDown();
+		for (Future<String> result : results) {
+			assertEquals("slow", result.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(1, activations.get("slow").get());
+	}
+
+	@Test
+	public void otherLazyBundlesTriedWhileOneIsActivated() throws Exception {
+		registry.add(bundle("slow"), true, false);
+		registry.add(bundle("fast"), true, false);
+
+		//Blocks in the activation of the slow bundle, whatever order the bundles are tried in
+		Future<String> blocked = executor.submit(() -> registry.apply(value -> null));
+		assertTrue(slowActivationStarted.await(10, TimeUnit.SECONDS));
+
+		Future<String> fast = executor.submit(() -> registry.apply(value -> "fast".equals(value) ? value : null));
+		assertEquals("fast", fast.get(10, TimeUnit.SECONDS));
+
+		slowActivationReleased.countDown();
+		assertEquals(null, blocked.get(10, TimeUnit.SECONDS));
+		assertEquals(1, activations.get("slow").get());
+		assertEquals(1, activations.get("fast").get());
+	}
+
+	private static Bundle bundle(String name) {
+		return (Bundle) Proxy.newProxyInstance(Bundle.class.getClassLoader(), new Class<?>[] { Bundle.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+					case "getSymbolicName":
+						return name;
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+}